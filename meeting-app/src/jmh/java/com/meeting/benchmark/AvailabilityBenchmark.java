@@ -0,0 +1,90 @@
+package com.meeting.benchmark;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Read paths over a populated store: conflict check, upcoming schedule and person lookup.
+// Inputs are drawn up front so the measured call is the only work per operation.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    private static final int INPUTS = 4096;
+
+    @Param({"1000", "100000"})
+    public int persons;
+
+    @Param({"10000", "1000000"})
+    public int meetings;
+
+    @Param({"2", "8"})
+    public int participants;
+
+    private SchedulingFixture fixture;
+    private List<Person>[] participantSets;
+    private LocalDateTime[] hours;
+    private String[] emails;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            next = (next + 1) & (INPUTS - 1);
+            return next;
+        }
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        fixture = SchedulingFixture.create(persons, meetings, participants, new MeetingProperties());
+        SplittableRandom random = new SplittableRandom(42);
+        participantSets = new List[INPUTS];
+        hours = new LocalDateTime[INPUTS];
+        emails = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            participantSets[i] = fixture.randomParticipants(random, participants);
+            hours[i] = fixture.randomHour(random);
+            emails[i] = participantSets[i].get(0).getEmail();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.meetingService.shutdown();
+    }
+
+    @Benchmark
+    public boolean isTimeSlotAvailable(Cursor cursor) {
+        int i = cursor.advance();
+        return fixture.meetingService.isTimeSlotAvailable(participantSets[i], hours[i]);
+    }
+
+    @Benchmark
+    public List<Meeting> getUpcomingMeetingsForPerson(Cursor cursor) {
+        return fixture.meetingService.getUpcomingMeetingsForPerson(participantSets[cursor.advance()].get(0));
+    }
+
+    @Benchmark
+    public List<Meeting> getUpcomingMeetingsForPersonLimited(Cursor cursor) {
+        return fixture.meetingService.getUpcomingMeetingsForPerson(participantSets[cursor.advance()].get(0), null, 20);
+    }
+
+    @Benchmark
+    public Optional<Person> findByEmail(Cursor cursor) {
+        return fixture.personService.findByEmail(emails[cursor.advance()]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.meeting.benchmark;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Bookings of random participants at random hours within a year, alone and with 8 competing threads,
+// for both booking modes. As calendars fill up more bookings are rejected as conflicts - those are
+// part of the measured cost. The store is rebuilt for every iteration so iterations are comparable.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateMeetingBenchmark {
+
+    private static final int HORIZON_HOURS = 24 * 365;
+
+    @Param({"1000", "100000"})
+    public int persons;
+
+    @Param({"2", "8"})
+    public int participants;
+
+    @Param({"STRIPED", "SEQUENCER"})
+    public MeetingProperties.BookingMode mode;
+
+    private SchedulingFixture fixture;
+
+    @State(Scope.Thread)
+    public static class Picker {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        MeetingProperties properties = new MeetingProperties();
+        properties.getBooking().setMode(mode);
+        fixture = SchedulingFixture.create(persons, 0, participants, properties);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        fixture.meetingService.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object createMeeting(Picker picker) {
+        return book(picker.random);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object createMeetingContended(Picker picker) {
+        return book(picker.random);
+    }
+
+    private Object book(SplittableRandom random) {
+        List<Person> picked = fixture.randomParticipants(random, participants);
+        try {
+            Meeting meeting = fixture.meetingService.createMeeting("Meeting",
+                    fixture.firstHour.plusHours(random.nextInt(HORIZON_HOURS)), picked.get(0), picked.subList(1, picked.size()));
+            return meeting;
+        } catch (IllegalArgumentException conflict) {
+            return conflict;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.meeting.benchmark;
+
+import com.meeting.persistence.FileJournal;
+import com.meeting.persistence.JournalRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Durable creates per second with 16 concurrent writers: one fsync per record versus group commit.
+// Run with ./gradlew jmh -PjmhInclude=JournalBenchmark - numbers depend heavily on the disk.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(16)
+public class JournalBenchmark {
+
+    @Param({"true", "false"})
+    public boolean groupCommit;
+
+    private Path directory;
+    private FileJournal journal;
+    private JournalRecord record;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        journal = FileJournal.open(directory, groupCommit, 65536, 1024);
+        record = new JournalRecord.PersonCreated("00000000-0000-0000-0000-000000000000", "Bench Person", "bench@example.com");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void durableAppend() {
+        journal.append(record).join();
+    }
+}
@@ -0,0 +1,90 @@
+package com.meeting.benchmark;
+
+import com.meeting.concurrent.MeetingPartitions;
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of partitioned mode as the partition count grows, with 32 client threads. Bookings pair
+// persons of the same partition (teams that mostly meet among themselves), so they run on one writer
+// thread each; all partitions still publish into the one shared store, so its publish lock bounds how far
+// they scale. Availability checks and slot searches for 8 random persons read the store in place and
+// should not depend on the partition count.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class PartitionScalingBenchmark {
+
+    private static final int PERSONS = 10_000;
+    private static final int HORIZON_HOURS = 24 * 365;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int partitions;
+
+    private SchedulingFixture fixture;
+    private List<List<Person>> personsByPartition;
+
+    @State(Scope.Thread)
+    public static class Picker {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        MeetingProperties properties = new MeetingProperties();
+        properties.getBooking().setMode(MeetingProperties.BookingMode.PARTITIONED);
+        properties.getBooking().setPartitions(partitions);
+        properties.getSuggestionCache().setEnabled(false);
+        fixture = SchedulingFixture.create(PERSONS, PERSONS * 4, 2, properties);
+        personsByPartition = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            personsByPartition.add(new ArrayList<>());
+        }
+        for (Person person : fixture.persons) {
+            personsByPartition.get(MeetingPartitions.partitionOf(person.getUuid(), partitions)).add(person);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        fixture.meetingService.shutdown();
+    }
+
+    @Benchmark
+    public Object bookWithinPartition(Picker picker) {
+        List<Person> team = personsByPartition.get(picker.random.nextInt(partitions));
+        Person organizer = team.get(picker.random.nextInt(team.size()));
+        Person attendee = team.get(picker.random.nextInt(team.size()));
+        try {
+            Meeting meeting = fixture.meetingService.createMeeting("Meeting",
+                    fixture.firstHour.plusHours(picker.random.nextInt(HORIZON_HOURS)), organizer, List.of(attendee));
+            return meeting;
+        } catch (IllegalArgumentException conflict) {
+            return conflict;
+        }
+    }
+
+    @Benchmark
+    public boolean checkAvailability(Picker picker) {
+        LocalDateTime hour = fixture.randomHour(picker.random);
+        return fixture.meetingService.isTimeSlotAvailable(fixture.randomParticipants(picker.random, 8), hour, hour.plusHours(1));
+    }
+
+    @Benchmark
+    public Object suggestSlots(Picker picker) {
+        return fixture.meetingService.suggestAvailableTimeSlots(fixture.randomParticipants(picker.random, 8),
+                fixture.firstHour, fixture.firstHour.plusDays(28), 5, Duration.ofHours(1));
+    }
+}
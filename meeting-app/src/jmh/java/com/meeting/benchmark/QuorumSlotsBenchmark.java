@@ -0,0 +1,80 @@
+package com.meeting.benchmark;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Person;
+import com.meeting.service.QuorumSlot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Quorum slot search for large invitee lists ("90% of them free") over multi-week windows. The fixture
+// keeps every person busy for its first hours, so the early part of each window has to be rejected
+// hour by hour before a quorum is found.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuorumSlotsBenchmark {
+
+    private static final int INPUTS = 256;
+
+    @Param({"100000"})
+    public int persons;
+
+    @Param({"1000000"})
+    public int meetings;
+
+    @Param({"100", "1000", "5000"})
+    public int invitees;
+
+    @Param({"168", "672"})
+    public int windowHours;
+
+    @Param({"5"})
+    public int maxSuggestions;
+
+    private SchedulingFixture fixture;
+    private List<Person>[] inviteeSets;
+    private LocalDateTime[] starts;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            next = (next + 1) & (INPUTS - 1);
+            return next;
+        }
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        fixture = SchedulingFixture.create(persons, meetings, 8, new MeetingProperties());
+        SplittableRandom random = new SplittableRandom(42);
+        inviteeSets = new List[INPUTS];
+        starts = new LocalDateTime[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            inviteeSets[i] = fixture.randomParticipants(random, invitees);
+            starts[i] = fixture.randomHour(random);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.meetingService.shutdown();
+    }
+
+    @Benchmark
+    public List<QuorumSlot> suggestQuorumTimeSlots(Cursor cursor) {
+        int i = cursor.advance();
+        List<Person> optional = inviteeSets[i];
+        return fixture.meetingService.suggestQuorumTimeSlots(List.of(), optional, optional.size() * 9 / 10,
+                starts[i], starts[i].plusHours(windowHours), maxSuggestions);
+    }
+}
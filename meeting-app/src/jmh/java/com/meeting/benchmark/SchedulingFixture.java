@@ -0,0 +1,73 @@
+package com.meeting.benchmark;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Person;
+import com.meeting.service.impl.MeetingServiceImpl;
+import com.meeting.service.impl.PersonServiceImpl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// In-memory services filled with a deterministic calendar shared by the scheduling benchmarks.
+// Every hour the persons are split into disjoint groups of `participants`, one meeting per group; the
+// grouping rotates by one person per hour, so nobody is double booked and the groups keep changing.
+final class SchedulingFixture {
+
+    final PersonServiceImpl personService;
+    final MeetingServiceImpl meetingService;
+    final List<Person> persons;
+    final LocalDateTime firstHour;
+    final int hours;
+
+    private SchedulingFixture(PersonServiceImpl personService, MeetingServiceImpl meetingService,
+                              List<Person> persons, LocalDateTime firstHour, int hours) {
+        this.personService = personService;
+        this.meetingService = meetingService;
+        this.persons = persons;
+        this.firstHour = firstHour;
+        this.hours = hours;
+    }
+
+    static SchedulingFixture create(int personCount, int meetingCount, int participants, MeetingProperties properties) {
+        PersonServiceImpl personService = new PersonServiceImpl();
+        MeetingServiceImpl meetingService = new MeetingServiceImpl(personService, properties);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(personService.createPerson("Person " + i, "person" + i + "@example.com"));
+        }
+        // meetings start tomorrow, so they are all upcoming for the whole run
+        LocalDateTime firstHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        int groupsPerHour = Math.max(1, personCount / participants);
+        for (int m = 0; m < meetingCount; m++) {
+            int hour = m / groupsPerHour;
+            int group = m % groupsPerHour;
+            Person organizer = persons.get(rotated(group * participants, hour, personCount));
+            List<Person> attendees = new ArrayList<>(participants - 1);
+            for (int i = 1; i < participants; i++) {
+                attendees.add(persons.get(rotated(group * participants + i, hour, personCount)));
+            }
+            meetingService.createMeeting("Meeting " + m, firstHour.plusHours(hour), organizer, attendees);
+        }
+        int hours = (meetingCount + groupsPerHour - 1) / groupsPerHour;
+        return new SchedulingFixture(personService, meetingService, persons, firstHour, Math.max(1, hours));
+    }
+
+    private static int rotated(int index, int hour, int personCount) {
+        return (index + hour) % personCount;
+    }
+
+    List<Person> randomParticipants(SplittableRandom random, int participants) {
+        List<Person> picked = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            picked.add(persons.get(random.nextInt(persons.size())));
+        }
+        return picked;
+    }
+
+    LocalDateTime randomHour(SplittableRandom random) {
+        return firstHour.plusHours(random.nextInt(hours));
+    }
+}
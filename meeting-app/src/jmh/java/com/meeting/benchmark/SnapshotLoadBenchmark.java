@@ -0,0 +1,96 @@
+package com.meeting.benchmark;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.SnapshotFile;
+import com.meeting.service.impl.JournalRecovery;
+import com.meeting.service.impl.MeetingServiceImpl;
+import com.meeting.service.impl.PersonServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Cold start: loading a snapshot and rebuilding every index, through the same recovery path the
+// application runs on startup. The store needs roughly 400 bytes of heap per meeting, so the larger
+// sizes need a matching heap, e.g. ./gradlew jmh -PjmhInclude=SnapshotLoadBenchmark -PjmhJvmArgs=-Xmx24g
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SnapshotLoadBenchmark {
+
+    private static final int PERSONS = 100_000;
+
+    @Param({"1000000", "10000000", "50000000"})
+    public int meetings;
+
+    private Path directory;
+    private MeetingProperties properties;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("snapshot-bench");
+        properties = new MeetingProperties();
+        properties.getSnapshot().setEnabled(true);
+        properties.getSnapshot().setDirectory(directory.toString());
+
+        List<Person> persons = new ArrayList<>(PERSONS);
+        for (int i = 0; i < PERSONS; i++) {
+            persons.add(new Person("Person " + i, "person" + i + "@example.com"));
+        }
+        // generated on the fly while writing, so the setup never holds all meetings in memory.
+        // Meeting i pairs two persons that are free at hour i / pairs, so nobody is double booked.
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+        int pairs = PERSONS / 2;
+        List<Meeting> generated = new AbstractList<>() {
+            @Override
+            public Meeting get(int i) {
+                int pair = i % pairs;
+                return Meeting.builder()
+                        .uuid(new UUID(0, i).toString())
+                        .title("Meeting " + i)
+                        .startTime(base.plusHours(i / pairs))
+                        .endTime(base.plusHours(i / pairs + 1))
+                        .organizer(persons.get(2 * pair))
+                        .attendees(List.of(persons.get(2 * pair + 1)))
+                        .build();
+            }
+
+            @Override
+            public int size() {
+                return meetings;
+            }
+        };
+        SnapshotFile.write(directory, 0, persons, generated);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public MeetingServiceImpl coldStart() {
+        PersonServiceImpl personService = new PersonServiceImpl(Journal.NONE);
+        MeetingServiceImpl meetingService = new MeetingServiceImpl(personService, properties, Clock.systemUTC(), Journal.NONE);
+        new JournalRecovery(properties, Journal.NONE, personService, meetingService).afterSingletonsInstantiated();
+        return meetingService;
+    }
+}
@@ -0,0 +1,97 @@
+package com.meeting.benchmark;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Person;
+import com.meeting.service.RankedSlot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Slot suggestion over a populated store, swept over the length of the search window. The inputs repeat,
+// so with the suggestion cache on nearly every call after warmup is a hit. Whole-hour durations are
+// answered from the hour bitmaps, shorter ones merge the participants' timelines. The ranked search
+// scores every free hour of the window and never uses the cache.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestSlotsBenchmark {
+
+    private static final int INPUTS = 4096;
+
+    @Param({"1000", "100000"})
+    public int persons;
+
+    @Param({"10000", "1000000"})
+    public int meetings;
+
+    @Param({"2", "8"})
+    public int participants;
+
+    @Param({"8", "168", "2160"})
+    public int windowHours;
+
+    @Param({"60", "30"})
+    public int durationMinutes;
+
+    @Param({"5"})
+    public int maxSuggestions;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private SchedulingFixture fixture;
+    private List<Person>[] participantSets;
+    private LocalDateTime[] starts;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            next = (next + 1) & (INPUTS - 1);
+            return next;
+        }
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        MeetingProperties properties = new MeetingProperties();
+        properties.getSuggestionCache().setEnabled(cached);
+        fixture = SchedulingFixture.create(persons, meetings, participants, properties);
+        SplittableRandom random = new SplittableRandom(42);
+        participantSets = new List[INPUTS];
+        starts = new LocalDateTime[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            participantSets[i] = fixture.randomParticipants(random, participants);
+            starts[i] = fixture.randomHour(random);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.meetingService.shutdown();
+    }
+
+    @Benchmark
+    public List<LocalDateTime> suggestAvailableTimeSlots(Cursor cursor) {
+        int i = cursor.advance();
+        return fixture.meetingService.suggestAvailableTimeSlots(
+                participantSets[i], starts[i], starts[i].plusHours(windowHours), maxSuggestions,
+                Duration.ofMinutes(durationMinutes));
+    }
+
+    @Benchmark
+    public List<RankedSlot> suggestRankedTimeSlots(Cursor cursor) {
+        int i = cursor.advance();
+        return fixture.meetingService.suggestRankedTimeSlots(
+                participantSets[i], starts[i], starts[i].plusHours(windowHours), maxSuggestions);
+    }
+}
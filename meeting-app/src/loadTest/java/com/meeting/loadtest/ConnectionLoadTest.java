@@ -0,0 +1,228 @@
+package com.meeting.loadtest;
+
+import com.meeting.MeetingApplication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Slow-client test: N connections each ask for a long schedule and then never read it, like phones on a
+// bad network. The servlet stack (platform and virtual request threads) and the reactive stack run one
+// after the other, each in a JVM of its own so their memory can be told apart. Reported per stack:
+// how many of the N connections are being answered at all, and how much heap, RSS and how many threads
+// they cost over the idle app - memory per answered connection, the others only wait in a queue.
+public final class ConnectionLoadTest {
+
+    private static final int ATTENDEES = 5;
+    private static final int OCCURRENCES = 10_000;
+    // small enough that the server's writes stall on the first few KB of a multi-MB answer
+    private static final int RECEIVE_BUFFER = 4 * 1024;
+    // one line for G1's heap, one per generation for the serial and parallel collectors
+    private static final Pattern HEAP_USED = Pattern.compile("total \\d+K, used (\\d+)K");
+
+    private ConnectionLoadTest() {
+    }
+
+    private record Stack(String name, List<String> args) {
+    }
+
+    private record Usage(long heapKb, long rssKb, long threads) {
+    }
+
+    private record Result(String stack, int served, Usage idle, Usage held) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        Duration settle = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 30);
+        List<Stack> stacks = List.of(
+                new Stack("servlet", List.of("--spring.threads.virtual.enabled=false")),
+                new Stack("servlet-vt", List.of("--spring.threads.virtual.enabled=true")),
+                new Stack("reactive", List.of("--spring.profiles.active=reactive")));
+        List<Result> results = new ArrayList<>();
+        for (Stack stack : stacks) {
+            results.add(run(stack, connections, settle));
+        }
+
+        System.out.printf("%n%d connections held, %d s after the last one was opened%n", connections, settle.toSeconds());
+        String format = "%-11s %8s %12s %12s %12s %12s %10s%n";
+        System.out.printf(format, "stack", "served", "heap MB", "KB heap/each", "RSS MB", "KB RSS/each", "threads");
+        for (Result result : results) {
+            System.out.printf(format, result.stack(), result.served(),
+                    result.held().heapKb() / 1024,
+                    perServed(result.held().heapKb() - result.idle().heapKb(), result.served()),
+                    result.held().rssKb() / 1024,
+                    perServed(result.held().rssKb() - result.idle().rssKb(), result.served()),
+                    result.idle().threads() + " -> " + result.held().threads());
+        }
+    }
+
+    private static String perServed(long kb, int served) {
+        return served == 0 ? "-" : String.format("%.1f", kb / (double) served);
+    }
+
+    private static Result run(Stack stack, int connections, Duration settle) throws Exception {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx1g",
+                "-cp", System.getProperty("java.class.path"),
+                MeetingApplication.class.getName(),
+                "--server.port=" + port,
+                "--meeting.journal.enabled=false",
+                "--meeting.snapshot.enabled=false",
+                "--logging.level.com.meeting=WARN"));
+        command.addAll(stack.args());
+        Process app = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(Files.createTempFile("meeting-" + stack.name() + "-", ".log").toFile())
+                .start();
+        List<Socket> sockets = new ArrayList<>(connections);
+        try {
+            URI base = URI.create("http://localhost:" + port);
+            awaitStarted(base, app);
+            String uuid = seed(base);
+            // one warm-up download so the idle numbers include the JIT-compiled serialization path
+            HttpClient.newHttpClient().send(HttpRequest.newBuilder(base.resolve("/api/meetings/schedule/" + uuid)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            Usage idle = usage(app);
+
+            System.out.printf("%s: opening %d connections%n", stack.name(), connections);
+            byte[] request = ("GET /api/meetings/schedule/" + uuid + " HTTP/1.1\r\nHost: localhost\r\nAccept: application/json\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < connections; i++) {
+                Socket socket = new Socket();
+                // set before connecting - it caps the window the server may fill
+                socket.setReceiveBufferSize(RECEIVE_BUFFER);
+                socket.connect(new InetSocketAddress("localhost", port), 30_000);
+                OutputStream out = socket.getOutputStream();
+                out.write(request);
+                out.flush();
+                sockets.add(socket);
+            }
+            Thread.sleep(settle.toMillis());
+
+            int served = 0;
+            for (Socket socket : sockets) {
+                InputStream in = socket.getInputStream();
+                if (in.available() > 0) {
+                    served++;
+                }
+            }
+            Usage held = usage(app);
+            System.out.printf("%s: %d of %d connections answered%n", stack.name(), served, connections);
+            return new Result(stack.name(), served, idle, held);
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+            app.destroy();
+            app.waitFor();
+        }
+    }
+
+    private static void awaitStarted(URI base, Process app) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + Duration.ofSeconds(120).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("App exited with " + app.exitValue());
+            }
+            try {
+                if (http.send(HttpRequest.newBuilder(base.resolve("/internal/metrics")).build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notYet) {
+                // still starting
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("App did not start within 120 s");
+    }
+
+    // one organizer with a daily meeting OCCURRENCES days long and a few attendees - several MB of JSON
+    private static String seed(URI base) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        String organizerUuid = null;
+        StringBuilder attendees = new StringBuilder();
+        for (int i = 0; i <= ATTENDEES; i++) {
+            String email = "person" + i + "@example.com";
+            String created = post(http, base.resolve("/api/persons/add"),
+                    "{\"name\":\"Person " + i + "\",\"email\":\"" + email + "\"}");
+            if (i == 0) {
+                Matcher uuid = Pattern.compile("\"uuid\"\\s*:\\s*\"([^\"]+)\"").matcher(created);
+                if (!uuid.find()) {
+                    throw new IllegalStateException("No uuid in " + created);
+                }
+                organizerUuid = uuid.group(1);
+            } else {
+                attendees.append(attendees.isEmpty() ? "" : ",").append('"').append(email).append('"');
+            }
+        }
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        post(http, base.resolve("/api/meetings"), "{\"title\":\"Daily\",\"startTime\":\"" + start
+                + "\",\"organizerEmail\":\"person0@example.com\",\"attendeeEmails\":[" + attendees
+                + "],\"recurrence\":{\"frequency\":\"DAILY\",\"count\":" + OCCURRENCES + "}}");
+        return organizerUuid;
+    }
+
+    private static String post(HttpClient http, URI uri, String json) throws Exception {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException(uri + " answered " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    // taken outside of HTTP - with every request thread stuck in a write the app answers nothing else
+    private static Usage usage(Process app) throws Exception {
+        String jcmd = Path.of(System.getProperty("java.home"), "bin", "jcmd").toString();
+        String pid = Long.toString(app.pid());
+        exec(jcmd, pid, "GC.run");
+        Matcher used = HEAP_USED.matcher(exec(jcmd, pid, "GC.heap_info"));
+        long heapKb = 0;
+        while (used.find()) {
+            heapKb += Long.parseLong(used.group(1));
+        }
+        long rss = 0;
+        long threads = 0;
+        for (String line : Files.readAllLines(Path.of("/proc", pid, "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                rss = Long.parseLong(line.replaceAll("\\D", ""));
+            } else if (line.startsWith("Threads:")) {
+                threads = Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return new Usage(heapKb, rss, threads);
+    }
+
+    private static String exec(String... command) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor();
+        return output;
+    }
+}
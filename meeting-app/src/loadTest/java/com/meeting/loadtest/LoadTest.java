@@ -0,0 +1,189 @@
+package com.meeting.loadtest;
+
+import com.meeting.MeetingApplication;
+import com.meeting.entity.Person;
+import com.meeting.service.MeetingService;
+import com.meeting.service.PersonService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop HTTP load test: every connection is one client that sends its next request as soon as
+// the previous one is answered. The app is started once with the default Tomcat pool and once with
+// virtual request threads, each with the journal on (person creates block on the fsync), warmed up
+// and then measured. Client and server share the JVM and the CPU, so compare the two modes rather
+// than reading the absolute numbers.
+//
+// Mix: 70% short reads, 20% journaled person creates, 10% slot searches over a 90-day window.
+public final class LoadTest {
+
+    private static final int PERSONS = 2_000;
+    private static final int MEETINGS = 20_000;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    private LoadTest() {
+    }
+
+    private record Result(String mode, long requests, long errors, double seconds, long[] latencies) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 30);
+        List<Result> results = new ArrayList<>();
+        results.add(run("platform", false, connections, duration));
+        results.add(run("virtual", true, connections, duration));
+
+        System.out.printf("%n%d connections, %d s per mode%n", connections, duration.toSeconds());
+        String format = "%-10s %10s %10s %10s %10s %10s %10s %8s%n";
+        System.out.printf(format, "mode", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "errors");
+        for (Result result : results) {
+            long[] sorted = result.latencies();
+            System.out.printf(format, result.mode(), result.requests(),
+                    String.format("%.0f", result.requests() / result.seconds()),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                    millis(percentile(sorted, 0.99)), millis(percentile(sorted, 0.999)), result.errors());
+        }
+    }
+
+    private static Result run(String mode, boolean virtualThreads, int connections, Duration duration) throws Exception {
+        Path data = Files.createTempDirectory("meeting-loadtest-");
+        // passed as arguments - they have to win over application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MeetingApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--meeting.journal.enabled=true",
+                        "--meeting.journal.directory=" + data.resolve("journal"),
+                        "--meeting.snapshot.enabled=false",
+                        "--logging.level.com.meeting=WARN")) {
+            List<Person> persons = seed(context);
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            System.out.printf("%s: warming up for %d s%n", mode, WARMUP.toSeconds());
+            drive(mode + "-warmup", base, persons, connections, WARMUP);
+            System.out.printf("%s: measuring for %d s%n", mode, duration.toSeconds());
+            return drive(mode, base, persons, connections, duration);
+        }
+    }
+
+    private static List<Person> seed(ConfigurableApplicationContext context) {
+        PersonService personService = context.getBean(PersonService.class);
+        MeetingService meetingService = context.getBean(MeetingService.class);
+        List<Person> persons = new ArrayList<>(PERSONS);
+        for (int i = 0; i < PERSONS; i++) {
+            persons.add(personService.createPerson("Person " + i, "person" + i + "@example.com"));
+        }
+        LocalDateTime firstHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < MEETINGS; i++) {
+            try {
+                meetingService.createMeeting("Meeting " + i, firstHour.plusHours(random.nextInt(24 * 90)),
+                        persons.get(random.nextInt(PERSONS)), List.of(persons.get(random.nextInt(PERSONS))));
+            } catch (IllegalArgumentException conflict) {
+                // random seeding - collisions are skipped
+            }
+        }
+        return persons;
+    }
+
+    private static Result drive(String mode, URI base, List<Person> persons, int connections, Duration duration) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        List<Future<long[]>> clients = new ArrayList<>(connections);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(30))
+                     .build()) {
+            for (int c = 0; c < connections; c++) {
+                int client = c;
+                clients.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(client);
+                    long[] latencies = new long[256];
+                    int count = 0;
+                    for (int i = 0; System.nanoTime() < deadline; i++) {
+                        HttpRequest request = nextRequest(base, persons, random, mode + "-" + client + "-" + i);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 500) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            long[] all = new long[0];
+            for (Future<long[]> client : clients) {
+                long[] latencies = client.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            Arrays.sort(all);
+            return new Result(mode, all.length, errors.get(), seconds, all);
+        }
+    }
+
+    private static HttpRequest nextRequest(URI base, List<Person> persons, SplittableRandom random, String unique) {
+        Person person = persons.get(random.nextInt(persons.size()));
+        int roll = random.nextInt(100);
+        HttpRequest.Builder request;
+        if (roll < 35) {
+            request = HttpRequest.newBuilder(base.resolve("/api/persons/email/" + person.getEmail()));
+        } else if (roll < 70) {
+            request = HttpRequest.newBuilder(base.resolve("/api/meetings/schedule/" + person.getUuid() + "?limit=10"));
+        } else if (roll < 90) {
+            String body = "{\"name\":\"Load " + unique + "\",\"email\":\"" + unique + "@load.example.com\"}";
+            request = HttpRequest.newBuilder(base.resolve("/api/persons/add"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+            Person other = persons.get(random.nextInt(persons.size()));
+            request = HttpRequest.newBuilder(base.resolve("/api/meetings/suggest-slots?emails=" + person.getEmail()
+                    + "&emails=" + other.getEmail() + "&startDate=" + from + "&endDate=" + from.plusDays(90) + "&maxSuggestions=50"));
+        }
+        return request.timeout(Duration.ofSeconds(120)).build();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
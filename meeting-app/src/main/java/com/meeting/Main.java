@@ -51,9 +51,9 @@ public class Main {
             );
             System.out.println("Created: " + meeting2.getTitle() + " at " + meeting2.getStartTime().format(FORMATTER));
             
-            // invalid time - min
+            // invalid time - seconds
             try {
-                LocalDateTime invalidTime = LocalDateTime.of(2025, 9, 11, 10, 30);
+                LocalDateTime invalidTime = LocalDateTime.of(2025, 9, 11, 10, 30, 15);
                 meetingService.createMeeting("Invalid", invalidTime, alice1, Arrays.asList(alice2));
             } catch (IllegalArgumentException e) {
                 System.out.println("invalid validation: " + e.getMessage());
@@ -0,0 +1,98 @@
+package com.meeting.concurrent;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+// N single-writer partitions: persons are sharded by uuid hash, and each partition is a sequencer whose
+// thread is the only one booking for its persons. Only the writer threads are partitioned - the data is
+// not: every partition still writes into the one shared MeetingStore. Work on the persons of one
+// partition is queued there alone, so bookings in different partitions share no queue.
+// Work spanning partitions runs on the lowest one while the others are parked at a barrier - taken in
+// ascending order like lock stripes, so two spanning tasks can never wait on each other.
+public class MeetingPartitions implements AutoCloseable {
+
+    private final MeetingSequencer[] partitions;
+
+    public MeetingPartitions(String name, int count, int capacity, int maxBatch) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive");
+        }
+        this.partitions = new MeetingSequencer[count];
+        for (int i = 0; i < count; i++) {
+            partitions[i] = new MeetingSequencer(name + "-" + i, capacity, maxBatch);
+        }
+    }
+
+    public static int partitionOf(String personId, int partitions) {
+        int h = personId.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), partitions);
+    }
+
+    public int partitionOf(String personId) {
+        return partitionOf(personId, partitions.length);
+    }
+
+    public int size() {
+        return partitions.length;
+    }
+
+    // the distinct partitions of the persons, ascending
+    public int[] partitionsOf(Collection<String> personIds) {
+        int[] owners = new int[personIds.size()];
+        int n = 0;
+        for (String personId : personIds) {
+            if (personId != null) {
+                owners[n++] = partitionOf(personId);
+            }
+        }
+        return Arrays.stream(owners, 0, n).sorted().distinct().toArray();
+    }
+
+    // runs the task on the owner thread of the lowest partition, with every other one held meanwhile
+    public <T> CompletableFuture<T> submit(int[] owners, Callable<T> task) {
+        if (owners.length == 0) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("No partition to run on"));
+        }
+        if (owners.length == 1) {
+            return partitions[owners[0]].submit(task);
+        }
+        return partitions[owners[0]].submit(() -> {
+            CountDownLatch release = new CountDownLatch(1);
+            try {
+                for (int i = 1; i < owners.length; i++) {
+                    CompletableFuture<Void> parked = new CompletableFuture<>();
+                    partitions[owners[i]].submit(() -> {
+                        parked.complete(null);
+                        release.await();
+                        return null;
+                    }).whenComplete((ignored, e) -> {
+                        if (e != null) {
+                            parked.completeExceptionally(e);
+                        }
+                    });
+                    parked.join();
+                }
+                return task.call();
+            } finally {
+                release.countDown();
+            }
+        });
+    }
+
+    // every partition held - no other task runs anywhere while this one does
+    public <T> CompletableFuture<T> submitAll(Callable<T> task) {
+        int[] all = new int[partitions.length];
+        Arrays.setAll(all, i -> i);
+        return submit(all, task);
+    }
+
+    @Override
+    public void close() {
+        for (MeetingSequencer partition : partitions) {
+            partition.close();
+        }
+    }
+}
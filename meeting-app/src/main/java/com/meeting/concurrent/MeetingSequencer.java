@@ -0,0 +1,106 @@
+package com.meeting.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+// Single-writer sequencer: mutations are put on a bounded ring buffer and applied one after another
+// by a dedicated writer thread, so the state they touch is only ever written by that thread.
+// On each wake-up the writer drains up to maxBatch queued commands to amortize the hand-off.
+public class MeetingSequencer implements AutoCloseable {
+
+    private final BlockingQueue<Command<?>> ringBuffer;
+    private final int maxBatch;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public MeetingSequencer(String name, int capacity, int maxBatch) {
+        if (capacity <= 0 || maxBatch <= 0) {
+            throw new IllegalArgumentException("Sequencer capacity and batch size must be positive");
+        }
+        this.ringBuffer = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.writer = new Thread(this::runWriter, name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // queues the mutation, blocking while the ring buffer is full
+    public <T> CompletableFuture<T> submit(Callable<T> mutation) {
+        Command<T> command = new Command<>(mutation);
+        if (!running) {
+            command.future.completeExceptionally(new IllegalStateException("Sequencer is shut down"));
+            return command.future;
+        }
+        try {
+            ringBuffer.put(command);
+            // lost a race with close() - the writer may already be gone
+            if (!running && ringBuffer.remove(command)) {
+                command.future.completeExceptionally(new IllegalStateException("Sequencer is shut down"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.future.completeExceptionally(e);
+        }
+        return command.future;
+    }
+
+    public boolean isWriterThread() {
+        return Thread.currentThread() == writer;
+    }
+
+    private void runWriter() {
+        List<Command<?>> batch = new ArrayList<>(maxBatch);
+        while (running || !ringBuffer.isEmpty()) {
+            try {
+                batch.add(ringBuffer.take());
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+                continue;
+            }
+            ringBuffer.drainTo(batch, maxBatch - 1);
+            for (Command<?> command : batch) {
+                command.apply();
+            }
+            batch.clear();
+        }
+        // anything left after shutdown is failed rather than silently dropped
+        Command<?> command;
+        while ((command = ringBuffer.poll()) != null) {
+            command.future.completeExceptionally(new IllegalStateException("Sequencer is shut down"));
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Command<T> {
+        private final Callable<T> mutation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Command(Callable<T> mutation) {
+            this.mutation = mutation;
+        }
+
+        private void apply() {
+            try {
+                future.complete(mutation.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
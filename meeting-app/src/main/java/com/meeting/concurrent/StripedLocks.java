@@ -0,0 +1,100 @@
+package com.meeting.concurrent;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Fixed pool of locks keyed by hash - a booking locks only the stripes of its participants, so
+// bookings for people who share nothing run in parallel. Stripes are always taken in ascending
+// index order, which rules out deadlocks between bookings with overlapping participants.
+public class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLocks(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public int stripeFor(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // locks every stripe the keys map to and returns the handle that releases them
+    public Held lockAll(Collection<?> keys) {
+        int[] order = new int[keys.size()];
+        int n = 0;
+        for (Object key : keys) {
+            if (key != null) {
+                order[n++] = stripeFor(key);
+            }
+        }
+        Arrays.sort(order, 0, n);
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (count == 0 || order[count - 1] != order[i]) {
+                order[count++] = order[i];
+            }
+        }
+        int locked = 0;
+        try {
+            for (; locked < count; locked++) {
+                locks[order[locked]].lock();
+            }
+        } finally {
+            if (locked < count) {
+                unlock(order, locked);
+            }
+        }
+        return new Held(order, count);
+    }
+
+    // every stripe, in the same ascending order - waits until no holder of any stripe is left
+    public Held lockEverything() {
+        int[] order = new int[locks.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < order.length; i++) {
+            locks[i].lock();
+        }
+        return new Held(order, order.length);
+    }
+
+    public int size() {
+        return locks.length;
+    }
+
+    private void unlock(int[] order, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            locks[order[i]].unlock();
+        }
+    }
+
+    public final class Held implements AutoCloseable {
+        private final int[] order;
+        private final int count;
+
+        private Held(int[] order, int count) {
+            this.order = order;
+            this.count = count;
+        }
+
+        @Override
+        public void close() {
+            unlock(order, count);
+        }
+    }
+}
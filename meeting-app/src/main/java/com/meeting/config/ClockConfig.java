@@ -0,0 +1,16 @@
+package com.meeting.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    // single source of "now" for the services, tests swap in a fixed clock
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,30 @@
+package com.meeting.config;
+
+import com.meeting.persistence.FileJournal;
+import com.meeting.persistence.Journal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@Slf4j
+public class JournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public Journal journal(MeetingProperties properties) throws IOException {
+        MeetingProperties.Journal journal = properties.getJournal();
+        if (!journal.isEnabled()) {
+            return Journal.NONE;
+        }
+        if (properties.getReplication().isReplica()) {
+            // a replica's records come from the primary's journal
+            log.warn("Replicas keep no journal of their own - meeting.journal.enabled is ignored");
+            return Journal.NONE;
+        }
+        return FileJournal.open(Path.of(journal.getDirectory()), journal.isGroupCommit(),
+                journal.getQueueCapacity(), journal.getMaxBatch());
+    }
+}
@@ -0,0 +1,138 @@
+package com.meeting.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "meeting")
+@Getter
+@Setter
+public class MeetingProperties {
+
+    private Booking booking = new Booking();
+    private Journal journal = new Journal();
+    private Snapshot snapshot = new Snapshot();
+    private Archive archive = new Archive();
+    private Replication replication = new Replication();
+    private SuggestionCache suggestionCache = new SuggestionCache();
+    private Ranking ranking = new Ranking();
+
+    public enum BookingMode {
+        // check + insert under the participants' lock stripes, bookings run on the caller thread
+        STRIPED,
+        // every mutation is queued and applied by one writer thread that owns the indexes
+        SEQUENCER,
+        // persons are sharded by uuid hash over `partitions` writer threads, each the only one booking for
+        // its persons; bookings spanning partitions run with all of them held. Only the writer threads are
+        // partitioned - the store and its indexes are shared, and reads run in place as in the other modes
+        PARTITIONED
+    }
+
+    @Getter
+    @Setter
+    public static class Booking {
+        private BookingMode mode = BookingMode.STRIPED;
+        private int stripes = 1024;
+        // sequencer and partitioned mode, per writer thread
+        private int queueCapacity = 65536;
+        private int maxBatch = 256;
+        // partitioned mode only
+        private int partitions = 8;
+        // largest batch create - a batch holds the stripes or partitions of all its participants while it is
+        // checked and inserted, so a huge one would stall every booking meanwhile
+        private int maxMeetingsPerBatch = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+        // off - pure in-memory stores, a restart starts empty
+        private boolean enabled = false;
+        private String directory = "data/journal";
+        // group commit shares one fsync between all concurrent writers, otherwise every create is fsynced alone
+        private boolean groupCommit = true;
+        private int queueCapacity = 65536;
+        private int maxBatch = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        // written in the background from a consistent view, startup loads the newest one and replays
+        // only the journal after it
+        private boolean enabled = false;
+        private String directory = "data/snapshot";
+        private Duration interval = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        // meetings that ended more than `retention` ago are moved out of the hot store into a packed,
+        // read-only archive - still found by id and listed by the history endpoint
+        private boolean enabled = false;
+        private Duration interval = Duration.ofHours(1);
+        private Duration retention = Duration.ofDays(1);
+    }
+
+    public enum ReplicationRole {
+        // a single instance, nothing is shipped
+        NONE,
+        // takes every write and streams its journal to the replicas that connect to `port`
+        PRIMARY,
+        // follows the primary at `primary-host`:`primary-port`, serves reads only
+        REPLICA
+    }
+
+    @Getter
+    @Setter
+    public static class Replication {
+        private ReplicationRole role = ReplicationRole.NONE;
+        // primary - where replicas connect
+        private int port = 7070;
+        // sent when no record was shipped for this long, so a replica can tell an idle primary from a lost one
+        private Duration heartbeat = Duration.ofMillis(200);
+        // replica - the primary to follow, and the pause before reconnecting after the link drops
+        private String primaryHost = "localhost";
+        private int primaryPort = 7070;
+        private Duration reconnectDelay = Duration.ofSeconds(1);
+        // reads are refused with 503 once the replica's state is older than this, so the load balancer
+        // retries them elsewhere
+        private Duration maxStaleness = Duration.ofSeconds(5);
+
+        public boolean isReplica() {
+            return role == ReplicationRole.REPLICA;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class SuggestionCache {
+        // repeated slot searches for the same group and window are answered from memory until one of
+        // the participants' calendars changes
+        private boolean enabled = true;
+        private int maxEntries = 10_000;
+        private DataSize maxMemory = DataSize.ofMegabytes(32);
+    }
+
+    @Getter
+    @Setter
+    public static class Ranking {
+        // hours of day (start hours, local to the meeting times); weekends count as outside the workday
+        private int workdayStart = 9;
+        private int workdayEnd = 17;
+        private int preferredStart = 10;
+        private int preferredEnd = 16;
+        // a free gap shorter than this next to a meeting is too short to be useful
+        private int minGapHours = 2;
+        private double timeOfDayWeight = 1.0;
+        private double spacingWeight = 0.5;
+        private double fragmentationWeight = 0.5;
+        // the window is scored in chunks of this many hours, in parallel
+        private int chunkHours = 1024;
+        private Duration maxWindow = Duration.ofDays(366);
+    }
+}
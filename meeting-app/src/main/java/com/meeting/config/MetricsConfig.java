@@ -0,0 +1,30 @@
+package com.meeting.config;
+
+import com.meeting.metrics.TimedMeetingService;
+import com.meeting.metrics.TimedPersonService;
+import com.meeting.service.MeetingService;
+import com.meeting.service.PersonService;
+import com.meeting.service.impl.MeetingServiceImpl;
+import com.meeting.service.impl.PersonServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// Everything that asks for a MeetingService or PersonService gets the timed wrapper; startup recovery
+// and the snapshot writer work on the implementations directly and stay out of the latency figures.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @Primary
+    public PersonService timedPersonService(PersonServiceImpl personService, MeterRegistry registry) {
+        return new TimedPersonService(personService, registry);
+    }
+
+    @Bean
+    @Primary
+    public MeetingService timedMeetingService(MeetingServiceImpl meetingService, MeterRegistry registry) {
+        return new TimedMeetingService(meetingService, registry);
+    }
+}
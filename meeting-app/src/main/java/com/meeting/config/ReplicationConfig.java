@@ -0,0 +1,34 @@
+package com.meeting.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meeting.replication.ReactiveReadReplicaFilter;
+import com.meeting.replication.ReadReplicaFilter;
+import com.meeting.service.impl.MeetingReplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// On a replica only the API is guarded - /internal/metrics keeps answering, lag included
+@Configuration
+@ConditionalOnProperty(name = "meeting.replication.role", havingValue = "replica")
+public class ReplicationConfig {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<ReadReplicaFilter> readReplicaFilter(MeetingReplication replication, MeetingProperties properties,
+                                                                       ObjectMapper objectMapper) {
+        FilterRegistrationBean<ReadReplicaFilter> registration = new FilterRegistrationBean<>(new ReadReplicaFilter(
+                replication::staleness, properties.getReplication().getMaxStaleness(), objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveReadReplicaFilter reactiveReadReplicaFilter(MeetingReplication replication, MeetingProperties properties,
+                                                               ObjectMapper objectMapper) {
+        return new ReactiveReadReplicaFilter(replication::staleness, properties.getReplication().getMaxStaleness(), objectMapper);
+    }
+}
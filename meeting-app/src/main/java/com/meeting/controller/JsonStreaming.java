@@ -0,0 +1,33 @@
+package com.meeting.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+
+// Writes a JSON array element by element straight to the response, so memory stays flat
+// however many elements the iterator yields
+final class JsonStreaming {
+
+    private static final int FLUSH_EVERY = 512;
+
+    private JsonStreaming() {
+    }
+
+    static StreamingResponseBody array(ObjectMapper objectMapper, Iterator<?> elements) {
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                int written = 0;
+                while (elements.hasNext()) {
+                    objectMapper.writeValue(generator, elements.next());
+                    if (++written % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.writeEndArray();
+            }
+        };
+    }
+}
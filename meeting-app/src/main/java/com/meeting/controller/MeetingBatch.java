@@ -0,0 +1,67 @@
+package com.meeting.controller;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.dto.MeetingDTO;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Recurrence;
+import com.meeting.service.ItemResult;
+import com.meeting.service.MeetingRequest;
+import com.meeting.service.MeetingService;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+// Batch meeting creation shared by the servlet and the reactive API: the items are checked and turned
+// into service requests here, the service then books all of them or none
+@Component
+@RequiredArgsConstructor
+class MeetingBatch {
+
+    private final MeetingService meetingService;
+    private final Validator validator;
+    private final MeetingProperties properties;
+
+    // one result per item, in order, or IllegalArgumentException for a batch over the size limit - every item gets the bean validation of a single POST (same constraints,
+    // first violation reported, as in PersonImporter); when one is rejected here the batch never reaches the service
+    List<ItemResult<Meeting>> create(List<MeetingDTO> items) {
+        // refused before any item is looked at - the service refuses it too
+        int maxMeetings = properties.getBooking().getMaxMeetingsPerBatch();
+        if (items.size() > maxMeetings) {
+            throw new IllegalArgumentException("At most " + maxMeetings + " meetings per batch");
+        }
+        String[] errors = new String[items.size()];
+        List<MeetingRequest> requests = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            MeetingDTO item = items.get(i);
+            if (item == null) {
+                errors[i] = "Meeting cannot be null";
+                continue;
+            }
+            String violation = validator.validate(item).stream().findFirst().map(v -> v.getMessage()).orElse(null);
+            if (violation != null) {
+                errors[i] = violation;
+                continue;
+            }
+            try {
+                Recurrence recurrence = item.getRecurrence() == null ? null : item.getRecurrence().toRecurrence(item.getStartTime());
+                requests.add(new MeetingRequest(item.getTitle(), item.getStartTime(), item.getEndTime(),
+                        item.getOrganizerEmail(), item.getAttendeeEmails(), recurrence));
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+        if (Arrays.stream(errors).allMatch(Objects::isNull)) {
+            return meetingService.createMeetings(requests);
+        }
+        List<ItemResult<Meeting>> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(ItemResult.failure(i, errors[i] != null ? errors[i] : ItemResult.BATCH_REJECTED));
+        }
+        return results;
+    }
+}
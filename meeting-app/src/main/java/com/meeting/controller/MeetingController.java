@@ -1,83 +1,173 @@
 package com.meeting.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meeting.dto.MeetingBatchResultDTO;
 import com.meeting.dto.MeetingDTO;
+import com.meeting.dto.QuorumRequestDTO;
 import com.meeting.entity.Meeting;
 import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.service.ItemResult;
 import com.meeting.service.MeetingService;
+import com.meeting.service.Page;
 import com.meeting.service.PersonService;
+import com.meeting.service.QuorumSlot;
+import com.meeting.service.RankedSlot;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/meetings")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
 public class MeetingController {
 
+    private static final String REJECTED = "REJECTED";
+
     private final MeetingService meetingService;
     private final PersonService personService;
+    private final ObjectMapper objectMapper;
+    private final MeetingBatch meetingBatch;
 
     @PostMapping
-    public ResponseEntity<?> createMeeting(@Valid @RequestBody MeetingDTO meetingDTO) {
-        try {
-            // Find organizer
-            Optional<Person> organizer = personService.findByEmail(meetingDTO.getOrganizerEmail());
-            if (organizer.isEmpty()) {
-                return ResponseEntity.badRequest().body("Organizer with email " + meetingDTO.getOrganizerEmail() + " not found");
-            }
+    public CompletableFuture<ResponseEntity<?>> createMeeting(@Valid @RequestBody MeetingDTO meetingDTO) {
+        // Find organizer
+        Optional<Person> organizer = personService.findByEmail(meetingDTO.getOrganizerEmail());
+        if (organizer.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("Organizer with email " + meetingDTO.getOrganizerEmail() + " not found"));
+        }
 
-            // Find attendees
-            List<Person> attendees = new ArrayList<>();
-            for (String email : meetingDTO.getAttendeeEmails()) {
-                Optional<Person> attendee = personService.findByEmail(email);
-                if (attendee.isEmpty()) {
-                    return ResponseEntity.badRequest().body("Attendee with email " + email + " not found");
-                }
-                attendees.add(attendee.get());
+        // Find attendees
+        List<Person> attendees = new ArrayList<>();
+        for (String email : meetingDTO.getAttendeeEmails()) {
+            Optional<Person> attendee = personService.findByEmail(email);
+            if (attendee.isEmpty()) {
+                return CompletableFuture.completedFuture(
+                        ResponseEntity.badRequest().body("Attendee with email " + email + " not found"));
             }
+            attendees.add(attendee.get());
+        }
 
-            Meeting meeting = meetingService.createMeeting(
-                    meetingDTO.getTitle(),
-                    meetingDTO.getStartTime(),
-                    organizer.get(),
-                    attendees
-            );
-
-            MeetingDTO responseDTO = MeetingDTO.builder()
-                    .uuid(meeting.getUuid())
-                    .title(meeting.getTitle())
-                    .startTime(meeting.getStartTime())
-                    .endTime(meeting.getEndTime())
-                    .organizerEmail(meeting.getOrganizer().getEmail())
-                    .attendeeEmails(meeting.getAttendees().stream().map(Person::getEmail).toList())
-                    .build();
-
-            log.info("Created meeting: {}", meeting.getTitle());
-            return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
+        Recurrence recurrence;
+        try {
+            recurrence = meetingDTO.getRecurrence() == null ? null : meetingDTO.getRecurrence().toRecurrence(meetingDTO.getStartTime());
         } catch (IllegalArgumentException e) {
-            log.error("Failed to create meeting: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+
+        // in sequencer mode the booking completes on the writer thread and the request thread is released meanwhile
+        return meetingService.submitMeeting(
+                        meetingDTO.getTitle(),
+                        meetingDTO.getStartTime(),
+                        meetingDTO.getEndTime() != null ? meetingDTO.getEndTime() : meetingDTO.getStartTime().plus(Meeting.DEFAULT_DURATION),
+                        organizer.get(),
+                        attendees,
+                        recurrence)
+                .<ResponseEntity<?>>thenApply(meeting -> {
+                    MeetingDTO responseDTO = MeetingDTO.of(meeting);
+
+                    log.info("Created meeting: {}", meeting.getTitle());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof IllegalArgumentException) {
+                        log.error("Failed to create meeting: {}", cause.getMessage());
+                        return ResponseEntity.badRequest().body(cause.getMessage());
+                    }
+                    throw e instanceof CompletionException completionException ? completionException : new CompletionException(cause);
+                });
+    }
+
+    // all-or-nothing: either every meeting of the batch is created, or none is and each item reports why
+    @PostMapping("/batch")
+    public ResponseEntity<?> createMeetings(@RequestBody List<MeetingDTO> meetingDTOs) {
+        if (meetingDTOs == null || meetingDTOs.isEmpty()) {
+            return ResponseEntity.badRequest().body("At least one meeting is required");
+        }
+        List<ItemResult<Meeting>> results;
+        try {
+            results = meetingBatch.create(meetingDTOs);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to create meetings: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
         }
+        if (results.stream().allMatch(ItemResult::succeeded)) {
+            log.info("Created batch of {} meetings", results.size());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(results.stream().map(result -> MeetingDTO.of(result.value())).toList());
+        }
+
+        List<MeetingBatchResultDTO> rejected = results.stream()
+                .map(result -> MeetingBatchResultDTO.builder()
+                        .index(result.index())
+                        .status(REJECTED)
+                        .error(result.error())
+                        .build())
+                .toList();
+        log.error("Rejected batch of {} meetings", results.size());
+        return ResponseEntity.badRequest().body(rejected);
     }
 
-    @GetMapping
-    public ResponseEntity<List<Meeting>> getAllMeetings() {
+    // without paging parameters the whole list is streamed from the current snapshot
+    @GetMapping(params = {"!after", "!limit"})
+    public ResponseEntity<StreamingResponseBody> getAllMeetings() {
         List<Meeting> meetings = meetingService.getAllMeetings();
-        log.info("Retrieved {} meetings", meetings.size());
-        return ResponseEntity.ok(meetings);
+        log.info("Streaming {} meetings", meetings.size());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JsonStreaming.array(objectMapper, meetings.iterator()));
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getMeetingsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + Page.DEFAULT_LIMIT) int limit) {
+        try {
+            Page<Meeting> page = meetingService.getMeetingsPage(after, limit);
+            log.info("Retrieved page of {} meetings", page.items().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to retrieve meetings: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // archived meetings - everyone's, or one person's with personId
+    @GetMapping("/history")
+    public ResponseEntity<?> getMeetingHistory(
+            @RequestParam(required = false) String personId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + Page.DEFAULT_LIMIT) int limit) {
+        try {
+            Page<Meeting> page = meetingService.getMeetingHistory(personId, after, limit);
+            log.info("Retrieved page of {} archived meetings", page.items().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to retrieve meeting history: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
@@ -91,13 +181,20 @@ public class MeetingController {
     }
 
     @GetMapping("/schedule/{uuid}")
-    public ResponseEntity<?> getPersonSchedule(@PathVariable String uuid) {
+    public ResponseEntity<?> getPersonSchedule(
+            @PathVariable String uuid,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @RequestParam(required = false) Integer limit) {
         Optional<Person> person = personService.findById(uuid);
         if (person.isEmpty()) {
             return ResponseEntity.badRequest().body("Person with uuid " + uuid + " not found");
         }
+        if (limit != null && limit <= 0) {
+            return ResponseEntity.badRequest().body("Limit must be positive");
+        }
 
-        List<Meeting> upcomingMeetings = meetingService.getUpcomingMeetingsForPerson(person.get());
+        List<Meeting> upcomingMeetings = meetingService.getUpcomingMeetingsForPerson(
+                person.get(), until, limit == null ? Integer.MAX_VALUE : limit);
         log.info("Retrieved {} upcoming meetings for {}", upcomingMeetings.size(), person.get().getEmail());
         return ResponseEntity.ok(upcomingMeetings);
     }
@@ -107,7 +204,8 @@ public class MeetingController {
             @RequestParam List<String> emails,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @RequestParam(defaultValue = "5") int maxSuggestions) {
+            @RequestParam(defaultValue = "5") int maxSuggestions,
+            @RequestParam(defaultValue = "60") int durationMinutes) {
         try {
             // Find all persons
             List<Person> persons = new ArrayList<>();
@@ -119,7 +217,7 @@ public class MeetingController {
                 persons.add(person.get());
             }
             List<LocalDateTime> suggestions = meetingService.suggestAvailableTimeSlots(
-                    persons, startDate, endDate, maxSuggestions);
+                    persons, startDate, endDate, maxSuggestions, Duration.ofMinutes(durationMinutes));
             log.info("Found {} available time slots for {} persons", suggestions.size(), persons.size());
             return ResponseEntity.ok(suggestions);
         } catch (IllegalArgumentException e) {
@@ -127,4 +225,64 @@ public class MeetingController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // best-scored free hours of the whole window instead of the earliest ones
+    @GetMapping("/suggest-slots/ranked")
+    public ResponseEntity<?> suggestRankedTimeSlots(
+            @RequestParam List<String> emails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "5") int maxSuggestions) {
+        try {
+            List<Person> persons = new ArrayList<>();
+            for (String email : emails) {
+                Optional<Person> person = personService.findByEmail(email);
+                if (person.isEmpty()) {
+                    return ResponseEntity.badRequest().body("Person with email " + email + " not found");
+                }
+                persons.add(person.get());
+            }
+            List<RankedSlot> suggestions = meetingService.suggestRankedTimeSlots(persons, startDate, endDate, maxSuggestions);
+            log.info("Ranked {} time slots for {} persons", suggestions.size(), persons.size());
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to rank time slots: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // POST because all-hands invitee lists do not fit in a query string
+    @PostMapping("/suggest-slots/quorum")
+    public ResponseEntity<?> suggestQuorumTimeSlots(@Valid @RequestBody QuorumRequestDTO request) {
+        if ((request.getMinOptionalFree() == null) == (request.getMinFreeRatio() == null)) {
+            return ResponseEntity.badRequest().body("Exactly one of minOptionalFree and minFreeRatio is required");
+        }
+        List<Person> required = new ArrayList<>();
+        List<Person> optional = new ArrayList<>();
+        for (String email : request.getRequiredEmails() == null ? List.<String>of() : request.getRequiredEmails()) {
+            Optional<Person> person = personService.findByEmail(email);
+            if (person.isEmpty()) {
+                return ResponseEntity.badRequest().body("Person with email " + email + " not found");
+            }
+            required.add(person.get());
+        }
+        for (String email : request.getOptionalEmails() == null ? List.<String>of() : request.getOptionalEmails()) {
+            Optional<Person> person = personService.findByEmail(email);
+            if (person.isEmpty()) {
+                return ResponseEntity.badRequest().body("Person with email " + email + " not found");
+            }
+            optional.add(person.get());
+        }
+        int minOptionalFree = request.resolveMinOptionalFree(required.size(), optional.size());
+        try {
+            List<QuorumSlot> suggestions = meetingService.suggestQuorumTimeSlots(required, optional, minOptionalFree,
+                    request.getStartDate(), request.getEndDate(), request.getMaxSuggestions());
+            log.info("Found {} quorum time slots for {} persons", suggestions.size(), required.size() + optional.size());
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to suggest quorum time slots: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
 }
@@ -1,22 +1,37 @@
 package com.meeting.controller;
 
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meeting.dto.ImportResultDTO;
 import com.meeting.dto.PersonDTO;
 import com.meeting.entity.Meeting;
 import com.meeting.entity.Person;
+import com.meeting.service.FreeBusy;
+import com.meeting.service.MeetingService;
+import com.meeting.service.Page;
 import com.meeting.service.PersonService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/persons")
 @RequiredArgsConstructor
 @Slf4j
@@ -24,24 +39,82 @@ import java.util.Optional;
 public class PersonController {
 
     private final PersonService personService;
+    private final MeetingService meetingService;
+    private final ObjectMapper objectMapper;
+    private final PersonImporter personImporter;
 
     @PostMapping("/add")
     public ResponseEntity<?> createPerson(@Valid @RequestBody PersonDTO personDTO) {
         try {
             Person person = personService.createPerson(personDTO.getName(), personDTO.getEmail());
             log.info("Created person: {}", person.getEmail());
-            return ResponseEntity.status(HttpStatus.CREATED).body(getPersonDTO(person));
+            return ResponseEntity.status(HttpStatus.CREATED).body(PersonDTO.of(person));
         } catch (IllegalArgumentException e) {
             log.error("Failed to create person: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ImportResultDTO>> createPersons(@RequestBody List<PersonDTO> rows) {
+        List<ImportResultDTO> results = personImporter.importRows(rows, 0);
+        log.info("Bulk import processed {} rows", results.size());
+        return ResponseEntity.ok(results);
+    }
+
+    // NDJSON in, NDJSON out - rows are imported in chunks while the request is still being read,
+    // so a 100k+ row import never holds more than one chunk in memory
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createPersonsStream(HttpServletRequest request) throws IOException {
+        InputStream input = request.getInputStream();
+        StreamingResponseBody body = out -> {
+            try (MappingIterator<PersonDTO> rows = objectMapper.readerFor(PersonDTO.class).readValues(input)) {
+                List<PersonDTO> chunk = new ArrayList<>(PersonImporter.CHUNK_SIZE);
+                int firstRow = 0;
+                while (rows.hasNextValue()) {
+                    chunk.add(rows.nextValue());
+                    if (chunk.size() == PersonImporter.CHUNK_SIZE) {
+                        writeNdjson(out, personImporter.importRows(chunk, firstRow));
+                        firstRow += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                writeNdjson(out, personImporter.importRows(chunk, firstRow));
+                log.info("Bulk import streamed {} rows", firstRow + chunk.size());
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeNdjson(OutputStream out, List<ImportResultDTO> results) throws IOException {
+        for (ImportResultDTO result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    // without paging parameters the whole list is streamed, walking the store page by page
+    @GetMapping(params = {"!after", "!limit"})
+    public ResponseEntity<StreamingResponseBody> getAllPersons() {
+        log.info("Streaming all persons");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JsonStreaming.array(objectMapper, new PersonPageIterator()));
+    }
+
     @GetMapping
-    public ResponseEntity<List<Person>> getAllPersons() {
-        List<Person> persons = personService.getAllPersons();
-        log.info("Retrieved {} persons", persons.size());
-        return ResponseEntity.ok(persons);
+    public ResponseEntity<?> getPersonsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + Page.DEFAULT_LIMIT) int limit) {
+        try {
+            Page<Person> page = personService.getPersonsPage(after, limit);
+            log.info("Retrieved page of {} persons", page.items().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to retrieve persons: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
@@ -54,15 +127,6 @@ public class PersonController {
         }
     }
 	
-    private static PersonDTO getPersonDTO(Person person) {
-        PersonDTO responseDTO = PersonDTO.builder()
-                .uuid(person.getUuid())
-                .name(person.getName())
-                .email(person.getEmail())
-                .build();
-        return responseDTO;
-    }
-
     @GetMapping("/email/{email}")
     public ResponseEntity<?> getPersonByEmail(@PathVariable String email) {
         Optional<Person> person = personService.findByEmail(email);
@@ -73,4 +137,73 @@ public class PersonController {
         }
     }
 
+    @GetMapping("/{id}/freebusy")
+    public ResponseEntity<?> getFreeBusy(
+            @PathVariable String id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Optional<Person> person = personService.findById(id);
+        if (person.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok(meetingService.getFreeBusy(List.of(person.get()), from, to).get(0));
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to retrieve free/busy: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // many calendars in one round trip, in the order of the uuids
+    @GetMapping("/freebusy")
+    public ResponseEntity<?> getFreeBusy(
+            @RequestParam List<String> uuids,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (uuids.size() > FreeBusy.MAX_PERSONS) {
+            return ResponseEntity.badRequest().body("At most " + FreeBusy.MAX_PERSONS + " persons per request");
+        }
+        List<Person> persons = new ArrayList<>(uuids.size());
+        for (String uuid : uuids) {
+            Optional<Person> person = personService.findById(uuid);
+            if (person.isEmpty()) {
+                return ResponseEntity.badRequest().body("Person with uuid " + uuid + " not found");
+            }
+            persons.add(person.get());
+        }
+        try {
+            List<FreeBusy> freeBusy = meetingService.getFreeBusy(persons, from, to);
+            log.info("Retrieved free/busy of {} persons between {} and {}", freeBusy.size(), from, to);
+            return ResponseEntity.ok(freeBusy);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to retrieve free/busy: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // fetches the next keyset page only once the previous one has been written out
+    private class PersonPageIterator implements Iterator<Person> {
+        private Iterator<Person> current = Collections.emptyIterator();
+        private String cursor;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && !exhausted) {
+                Page<Person> page = personService.getPersonsPage(cursor, Page.MAX_LIMIT);
+                current = page.items().iterator();
+                cursor = page.nextCursor();
+                exhausted = cursor == null;
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
 }
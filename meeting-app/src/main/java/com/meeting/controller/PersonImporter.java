@@ -0,0 +1,61 @@
+package com.meeting.controller;
+
+import com.meeting.dto.ImportResultDTO;
+import com.meeting.dto.PersonDTO;
+import com.meeting.entity.Person;
+import com.meeting.service.ItemResult;
+import com.meeting.service.PersonRequest;
+import com.meeting.service.PersonService;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Bulk person import shared by the servlet and the reactive API - one call imports one chunk of rows
+@Component
+@RequiredArgsConstructor
+class PersonImporter {
+
+    static final int CHUNK_SIZE = 1000;
+    private static final String CREATED = "CREATED";
+    private static final String REJECTED = "REJECTED";
+
+    private final PersonService personService;
+    private final Validator validator;
+
+    // bean validation (same constraints as /add) runs in parallel, the valid rows go to the service in one call
+    List<ImportResultDTO> importRows(List<PersonDTO> rows, int firstRow) {
+        String[] violations = new String[rows.size()];
+        IntStream.range(0, rows.size()).parallel().forEach(i -> {
+            PersonDTO row = rows.get(i);
+            if (row == null) {
+                violations[i] = "Row cannot be null";
+                return;
+            }
+            validator.validate(row).stream().findFirst().ifPresent(v -> violations[i] = v.getMessage());
+        });
+
+        List<PersonRequest> validRows = new ArrayList<>(rows.size());
+        List<Integer> validIndexes = new ArrayList<>(rows.size());
+        ImportResultDTO[] results = new ImportResultDTO[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            if (violations[i] != null) {
+                results[i] = ImportResultDTO.builder().row(firstRow + i).status(REJECTED).error(violations[i]).build();
+            } else {
+                validRows.add(new PersonRequest(rows.get(i).getName(), rows.get(i).getEmail()));
+                validIndexes.add(i);
+            }
+        }
+        for (ItemResult<Person> result : personService.createPersons(validRows)) {
+            int i = validIndexes.get(result.index());
+            results[i] = result.succeeded()
+                    ? ImportResultDTO.builder().row(firstRow + i).status(CREATED).person(PersonDTO.of(result.value())).build()
+                    : ImportResultDTO.builder().row(firstRow + i).status(REJECTED).error(result.error()).build();
+        }
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,229 @@
+package com.meeting.controller;
+
+import com.meeting.dto.MeetingBatchResultDTO;
+import com.meeting.dto.MeetingDTO;
+import com.meeting.dto.QuorumRequestDTO;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.service.ItemResult;
+import com.meeting.service.MeetingService;
+import com.meeting.service.Page;
+import com.meeting.service.PersonService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// MeetingController on WebFlux (`reactive` profile): the same endpoints and answers, as Mono/Flux. Lists
+// are streamed with backpressure - a person's schedule is read in chunks as the client takes them.
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/meetings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveMeetingController {
+
+    private static final String REJECTED = "REJECTED";
+    private static final int SCHEDULE_CHUNK = 256;
+
+    private final MeetingService meetingService;
+    private final PersonService personService;
+    private final MeetingBatch meetingBatch;
+
+    @PostMapping
+    public Mono<ResponseEntity<?>> createMeeting(@Valid @RequestBody MeetingDTO meetingDTO) {
+        return Mono.defer(() -> {
+                    Person organizer = personService.findByEmail(meetingDTO.getOrganizerEmail()).orElseThrow(() ->
+                            new IllegalArgumentException("Organizer with email " + meetingDTO.getOrganizerEmail() + " not found"));
+                    List<Person> attendees = new ArrayList<>();
+                    for (String email : meetingDTO.getAttendeeEmails()) {
+                        attendees.add(personService.findByEmail(email).orElseThrow(() ->
+                                new IllegalArgumentException("Attendee with email " + email + " not found")));
+                    }
+                    Recurrence recurrence = meetingDTO.getRecurrence() == null ? null : meetingDTO.getRecurrence().toRecurrence(meetingDTO.getStartTime());
+                    // the booking completes on the journal flusher or the writer thread, nothing waits for it here
+                    return Mono.fromFuture(meetingService.submitMeeting(
+                            meetingDTO.getTitle(),
+                            meetingDTO.getStartTime(),
+                            meetingDTO.getEndTime() != null ? meetingDTO.getEndTime() : meetingDTO.getStartTime().plus(Meeting.DEFAULT_DURATION),
+                            organizer,
+                            attendees,
+                            recurrence));
+                })
+                .<ResponseEntity<?>>map(meeting -> {
+                    log.info("Created meeting: {}", meeting.getTitle());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(MeetingDTO.of(meeting));
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to create meeting"));
+    }
+
+    // all-or-nothing: either every meeting of the batch is created, or none is and each item reports why
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<?>> createMeetings(@RequestBody List<MeetingDTO> meetingDTOs) {
+        if (meetingDTOs == null || meetingDTOs.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body("At least one meeting is required"));
+        }
+        return ReactiveStreaming.blocking(() -> meetingBatch.create(meetingDTOs)).<ResponseEntity<?>>map(results -> {
+            if (results.stream().allMatch(ItemResult::succeeded)) {
+                log.info("Created batch of {} meetings", results.size());
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .body(results.stream().map(result -> MeetingDTO.of(result.value())).toList());
+            }
+            log.error("Rejected batch of {} meetings", results.size());
+            return ResponseEntity.badRequest().body(results.stream()
+                    .map(result -> MeetingBatchResultDTO.builder()
+                            .index(result.index())
+                            .status(REJECTED)
+                            .error(result.error())
+                            .build())
+                    .toList());
+        }).onErrorResume(IllegalArgumentException.class, badRequest("Failed to create meetings"));
+    }
+
+    // without paging parameters the whole list is streamed from the current snapshot
+    @GetMapping(params = {"!after", "!limit"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Meeting> getAllMeetings() {
+        return Flux.defer(() -> {
+            List<Meeting> meetings = meetingService.getAllMeetings();
+            log.info("Streaming {} meetings", meetings.size());
+            return Flux.fromIterable(meetings);
+        });
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<?>> getMeetingsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + Page.DEFAULT_LIMIT) int limit) {
+        return Mono.<ResponseEntity<?>>fromSupplier(() -> {
+                    Page<Meeting> page = meetingService.getMeetingsPage(after, limit);
+                    log.info("Retrieved page of {} meetings", page.items().size());
+                    return ResponseEntity.ok(page);
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to retrieve meetings"));
+    }
+
+    // archived meetings - everyone's, or one person's with personId
+    @GetMapping("/history")
+    public Mono<ResponseEntity<?>> getMeetingHistory(
+            @RequestParam(required = false) String personId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + Page.DEFAULT_LIMIT) int limit) {
+        return Mono.<ResponseEntity<?>>fromSupplier(() -> {
+                    Page<Meeting> page = meetingService.getMeetingHistory(personId, after, limit);
+                    log.info("Retrieved page of {} archived meetings", page.items().size());
+                    return ResponseEntity.ok(page);
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to retrieve meeting history"));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Meeting>> getMeetingById(@PathVariable String id) {
+        return Mono.fromSupplier(() -> meetingService.findById(id).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    // streamed: each chunk of the schedule is read only once the client has taken the previous one
+    @GetMapping(value = "/schedule/{uuid}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<?>> getPersonSchedule(
+            @PathVariable String uuid,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @RequestParam(required = false) Integer limit) {
+        return Mono.fromSupplier(() -> {
+            Person person = personService.findById(uuid).orElse(null);
+            if (person == null) {
+                return ResponseEntity.badRequest().body("Person with uuid " + uuid + " not found");
+            }
+            if (limit != null && limit <= 0) {
+                return ResponseEntity.badRequest().body("Limit must be positive");
+            }
+            int chunk = limit == null ? SCHEDULE_CHUNK : Math.min(limit, SCHEDULE_CHUNK);
+            Flux<Meeting> schedule = ReactiveStreaming.<Meeting>chunks(chunk, last -> last == null
+                    ? meetingService.getUpcomingMeetingsForPerson(person, until, chunk)
+                    : meetingService.getUpcomingMeetingsForPerson(person, last.getStartTime(), until, chunk));
+            log.info("Streaming upcoming meetings for {}", person.getEmail());
+            return ResponseEntity.ok(limit == null ? schedule : schedule.take(limit, true));
+        });
+    }
+
+    @GetMapping("/suggest-slots")
+    public Mono<ResponseEntity<?>> suggestTimeSlots(
+            @RequestParam List<String> emails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "5") int maxSuggestions,
+            @RequestParam(defaultValue = "60") int durationMinutes) {
+        return ReactiveStreaming.<ResponseEntity<?>>blocking(() -> {
+                    List<Person> persons = findByEmails(emails);
+                    List<LocalDateTime> suggestions = meetingService.suggestAvailableTimeSlots(
+                            persons, startDate, endDate, maxSuggestions, Duration.ofMinutes(durationMinutes));
+                    log.info("Found {} available time slots for {} persons", suggestions.size(), persons.size());
+                    return ResponseEntity.ok(suggestions);
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to suggest time slots"));
+    }
+
+    // best-scored free hours of the whole window instead of the earliest ones
+    @GetMapping("/suggest-slots/ranked")
+    public Mono<ResponseEntity<?>> suggestRankedTimeSlots(
+            @RequestParam List<String> emails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "5") int maxSuggestions) {
+        return ReactiveStreaming.<ResponseEntity<?>>blocking(() -> {
+                    List<Person> persons = findByEmails(emails);
+                    var suggestions = meetingService.suggestRankedTimeSlots(persons, startDate, endDate, maxSuggestions);
+                    log.info("Ranked {} time slots for {} persons", suggestions.size(), persons.size());
+                    return ResponseEntity.ok(suggestions);
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to rank time slots"));
+    }
+
+    // POST because all-hands invitee lists do not fit in a query string
+    @PostMapping("/suggest-slots/quorum")
+    public Mono<ResponseEntity<?>> suggestQuorumTimeSlots(@Valid @RequestBody QuorumRequestDTO request) {
+        if ((request.getMinOptionalFree() == null) == (request.getMinFreeRatio() == null)) {
+            return Mono.just(ResponseEntity.badRequest().body("Exactly one of minOptionalFree and minFreeRatio is required"));
+        }
+        return ReactiveStreaming.<ResponseEntity<?>>blocking(() -> {
+                    List<Person> required = findByEmails(request.getRequiredEmails() == null ? List.of() : request.getRequiredEmails());
+                    List<Person> optional = findByEmails(request.getOptionalEmails() == null ? List.of() : request.getOptionalEmails());
+                    var suggestions = meetingService.suggestQuorumTimeSlots(required, optional,
+                            request.resolveMinOptionalFree(required.size(), optional.size()),
+                            request.getStartDate(), request.getEndDate(), request.getMaxSuggestions());
+                    log.info("Found {} quorum time slots for {} persons", suggestions.size(), required.size() + optional.size());
+                    return ResponseEntity.ok(suggestions);
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to suggest quorum time slots"));
+    }
+
+    private List<Person> findByEmails(List<String> emails) {
+        List<Person> persons = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            persons.add(personService.findByEmail(email).orElseThrow(() ->
+                    new IllegalArgumentException("Person with email " + email + " not found")));
+        }
+        return persons;
+    }
+
+    private static Function<IllegalArgumentException, Mono<ResponseEntity<?>>> badRequest(String failure) {
+        return e -> {
+            log.error("{}: {}", failure, e.getMessage());
+            return Mono.just(ResponseEntity.badRequest().body(e.getMessage()));
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.meeting.controller;
+
+import com.meeting.dto.ImportResultDTO;
+import com.meeting.dto.PersonDTO;
+import com.meeting.entity.Person;
+import com.meeting.service.FreeBusy;
+import com.meeting.service.MeetingService;
+import com.meeting.service.Page;
+import com.meeting.service.PersonService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+// PersonController on WebFlux (`reactive` profile): the same endpoints and answers, as Mono/Flux
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/persons")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactivePersonController {
+
+    private final PersonService personService;
+    private final MeetingService meetingService;
+    private final PersonImporter personImporter;
+
+    @PostMapping("/add")
+    public Mono<ResponseEntity<?>> createPerson(@Valid @RequestBody PersonDTO personDTO) {
+        return ReactiveStreaming.<ResponseEntity<?>>blocking(() -> {
+                    Person person = personService.createPerson(personDTO.getName(), personDTO.getEmail());
+                    log.info("Created person: {}", person.getEmail());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(PersonDTO.of(person));
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to create person"));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<ImportResultDTO>> createPersons(@RequestBody List<PersonDTO> rows) {
+        return ReactiveStreaming.blocking(() -> {
+            List<ImportResultDTO> results = personImporter.importRows(rows, 0);
+            log.info("Bulk import processed {} rows", results.size());
+            return results;
+        });
+    }
+
+    // NDJSON in, NDJSON out - a chunk is imported as soon as it has been read, and the next one is read
+    // only once its results are written, so a 100k+ row import never holds more than one chunk in memory
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ImportResultDTO> createPersonsStream(@RequestBody Flux<PersonDTO> rows) {
+        return rows.buffer(PersonImporter.CHUNK_SIZE)
+                .index()
+                .concatMap(chunk -> ReactiveStreaming.blocking(() ->
+                        personImporter.importRows(chunk.getT2(), (int) (chunk.getT1() * PersonImporter.CHUNK_SIZE))), 1)
+                .concatMapIterable(results -> results, 1);
+    }
+
+    // without paging parameters the whole list is streamed, walking the store page by page
+    @GetMapping(params = {"!after", "!limit"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Person> getAllPersons() {
+        log.info("Streaming all persons");
+        return ReactiveStreaming.pages(cursor -> personService.getPersonsPage(cursor, Page.MAX_LIMIT));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<?>> getPersonsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + Page.DEFAULT_LIMIT) int limit) {
+        return Mono.<ResponseEntity<?>>fromSupplier(() -> {
+                    Page<Person> page = personService.getPersonsPage(after, limit);
+                    log.info("Retrieved page of {} persons", page.items().size());
+                    return ResponseEntity.ok(page);
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to retrieve persons"));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Person>> getPersonById(@PathVariable String id) {
+        return Mono.fromSupplier(() -> personService.findById(id).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<Person>> getPersonByEmail(@PathVariable String email) {
+        return Mono.fromSupplier(() -> personService.findByEmail(email).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/{id}/freebusy")
+    public Mono<ResponseEntity<?>> getFreeBusy(
+            @PathVariable String id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return Mono.<ResponseEntity<?>>fromSupplier(() -> {
+                    Optional<Person> person = personService.findById(id);
+                    if (person.isEmpty()) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    return ResponseEntity.ok(meetingService.getFreeBusy(List.of(person.get()), from, to).get(0));
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to retrieve free/busy"));
+    }
+
+    // many calendars in one round trip, in the order of the uuids
+    @GetMapping("/freebusy")
+    public Mono<ResponseEntity<?>> getFreeBusy(
+            @RequestParam List<String> uuids,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (uuids.size() > FreeBusy.MAX_PERSONS) {
+            return Mono.just(ResponseEntity.badRequest().body("At most " + FreeBusy.MAX_PERSONS + " persons per request"));
+        }
+        return ReactiveStreaming.<ResponseEntity<?>>blocking(() -> {
+                    List<Person> persons = new ArrayList<>(uuids.size());
+                    for (String uuid : uuids) {
+                        persons.add(personService.findById(uuid).orElseThrow(() ->
+                                new IllegalArgumentException("Person with uuid " + uuid + " not found")));
+                    }
+                    List<FreeBusy> freeBusy = meetingService.getFreeBusy(persons, from, to);
+                    log.info("Retrieved free/busy of {} persons between {} and {}", freeBusy.size(), from, to);
+                    return ResponseEntity.ok(freeBusy);
+                })
+                .onErrorResume(IllegalArgumentException.class, badRequest("Failed to retrieve free/busy"));
+    }
+
+    private static Function<IllegalArgumentException, Mono<ResponseEntity<?>>> badRequest(String failure) {
+        return e -> {
+            log.error("{}: {}", failure, e.getMessage());
+            return Mono.just(ResponseEntity.badRequest().body(e.getMessage()));
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.meeting.controller;
+
+import com.meeting.service.Page;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+// Flux counterparts of JsonStreaming for the reactive API: the next page or chunk is fetched only once
+// the client has taken the previous one, so memory stays flat however long the list and a slow reader
+// holds no thread
+final class ReactiveStreaming {
+
+    private ReactiveStreaming() {
+    }
+
+    // walks keyset pages, the cursor of one page fetching the next
+    static <T> Flux<T> pages(Function<String, Page<T>> fetch) {
+        return Mono.fromSupplier(() -> fetch.apply(null))
+                .expand(page -> page.nextCursor() == null ? Mono.empty() : Mono.fromSupplier(() -> fetch.apply(page.nextCursor())))
+                .concatMapIterable(Page::items, 1);
+    }
+
+    // walks chunks of up to chunkSize elements, each fetched after the last element of the previous one
+    // (null for the first); a short chunk is the last
+    static <T> Flux<T> chunks(int chunkSize, Function<T, List<T>> fetchAfter) {
+        return Mono.fromSupplier(() -> fetchAfter.apply(null))
+                .expand(chunk -> chunk.size() < chunkSize ? Mono.empty() : Mono.fromSupplier(() -> fetchAfter.apply(chunk.get(chunk.size() - 1))))
+                .concatMapIterable(Function.identity(), 1);
+    }
+
+    // journaled writes wait for the fsync and slot searches can scan for milliseconds - neither may run
+    // on an event loop thread
+    static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
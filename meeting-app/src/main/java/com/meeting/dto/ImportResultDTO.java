@@ -0,0 +1,20 @@
+package com.meeting.dto;
+
+import lombok.*;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ImportResultDTO {
+
+    private int row;
+
+    private String status;
+
+    private PersonDTO person;
+
+    private String error;
+
+}
@@ -0,0 +1,20 @@
+package com.meeting.dto;
+
+import lombok.*;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class MeetingBatchResultDTO {
+
+    private int index;
+
+    private String status;
+
+    private MeetingDTO meeting;
+
+    private String error;
+
+}
@@ -1,5 +1,8 @@
 package com.meeting.dto;
 
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -25,7 +28,7 @@ public class MeetingDTO {
     @Future(message = "Start time must be in the future")
     private LocalDateTime startTime;
 
-    @NotNull(message = "End time is required")
+    // optional - a meeting without one lasts an hour
     @Future(message = "End time must be in the future")
     private LocalDateTime endTime;
 
@@ -35,4 +38,19 @@ public class MeetingDTO {
     @NotEmpty(message = "At least one attendee email is required")
     private List<@NotBlank String> attendeeEmails;
 
+    // optional - a meeting without one happens once
+    @Valid
+    private RecurrenceDTO recurrence;
+
+    public static MeetingDTO of(Meeting meeting) {
+        return MeetingDTO.builder()
+                .uuid(meeting.getUuid())
+                .title(meeting.getTitle())
+                .startTime(meeting.getStartTime())
+                .endTime(meeting.getEndTime())
+                .organizerEmail(meeting.getOrganizer().getEmail())
+                .attendeeEmails(meeting.getAttendees().stream().map(Person::getEmail).toList())
+                .recurrence(RecurrenceDTO.of(meeting.getRecurrence()))
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.meeting.dto;
 
+import com.meeting.entity.Person;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
@@ -21,4 +22,11 @@ public class PersonDTO {
     @Email(message = "Email must be valid")
     private String email;
 
+    public static PersonDTO of(Person person) {
+        return PersonDTO.builder()
+                .uuid(person.getUuid())
+                .name(person.getName())
+                .email(person.getEmail())
+                .build();
+    }
 }
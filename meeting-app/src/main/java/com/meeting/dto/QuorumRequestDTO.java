@@ -0,0 +1,49 @@
+package com.meeting.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Exactly one of minOptionalFree ("all required plus K of the optional ones") and minFreeRatio
+// ("at least 90% of all participants free", required ones always counting as free) sets the quorum
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class QuorumRequestDTO {
+
+    private List<String> requiredEmails;
+
+    private List<String> optionalEmails;
+
+    @PositiveOrZero(message = "Minimum number of free optional participants cannot be negative")
+    private Integer minOptionalFree;
+
+    @DecimalMin(value = "0.0", message = "Free ratio must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Free ratio must be between 0 and 1")
+    private Double minFreeRatio;
+
+    @NotNull(message = "Start date is required")
+    private LocalDateTime startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDateTime endDate;
+
+    @Builder.Default
+    private int maxSuggestions = 5;
+
+    // the quorum as a number of optional participants, whichever way it was given
+    public int resolveMinOptionalFree(int requiredCount, int optionalCount) {
+        if (minOptionalFree != null) {
+            return minOptionalFree;
+        }
+        // the epsilon keeps 0.7 * 10 from rounding up to 8
+        return Math.max(0, (int) Math.ceil(minFreeRatio * (requiredCount + optionalCount) - 1e-9) - requiredCount);
+    }
+}
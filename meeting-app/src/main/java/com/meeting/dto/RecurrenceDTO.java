@@ -0,0 +1,38 @@
+package com.meeting.dto;
+
+import com.meeting.entity.Recurrence;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Exactly one of count (occurrences including the first) and until (last day an occurrence may start on)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class RecurrenceDTO {
+
+    @NotNull(message = "Recurrence frequency is required")
+    private Recurrence.Frequency frequency;
+
+    // defaults to 1 - every day, week or month
+    @Positive(message = "Recurrence interval must be positive")
+    private Integer interval;
+
+    @Positive(message = "Recurrence count must be positive")
+    private Integer count;
+
+    private LocalDate until;
+
+    public Recurrence toRecurrence(LocalDateTime firstStart) {
+        return Recurrence.of(frequency, interval, count, until, firstStart);
+    }
+
+    public static RecurrenceDTO of(Recurrence recurrence) {
+        return recurrence == null ? null : new RecurrenceDTO(recurrence.frequency(), recurrence.interval(), recurrence.count(), null);
+    }
+}
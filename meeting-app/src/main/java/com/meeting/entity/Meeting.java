@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -18,6 +19,9 @@ import java.util.UUID;
 @Setter
 public class Meeting {
 
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+    public static final Duration MAX_DURATION = Duration.ofHours(24);
+
     private String uuid;
 
     @NotBlank(message = "Title is required")
@@ -37,20 +41,54 @@ public class Meeting {
     @NotEmpty(message = "At least one attendee is required")
     private List<@NotNull Person> attendees;
 
+    // null for a one-off meeting; for a series the start and end times are those of the first occurrence
+    private Recurrence recurrence;
+
     public Meeting(String title, LocalDateTime startTime, Person organizer, List<Person> attendees) {
+        this(title, startTime, startTime == null ? null : startTime.plus(DEFAULT_DURATION), organizer, attendees);
+    }
+
+    public Meeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees) {
+        this(title, startTime, endTime, organizer, attendees, null);
+    }
+
+    public Meeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence) {
         this.uuid = UUID.randomUUID().toString();
         this.title = title;
         this.startTime = validateAndSetStartTime(startTime);
-        this.endTime = startTime.plusHours(1);
+        this.endTime = validateAndSetEndTime(startTime, endTime);
         this.organizer = organizer;
         this.attendees = attendees;
+        this.recurrence = validateAndSetRecurrence(startTime, recurrence);
     }
     private LocalDateTime validateAndSetStartTime(LocalDateTime startTime) {
-        if (startTime.getMinute() != 0 || startTime.getSecond() != 0 || startTime.getNano() != 0) {
-            throw new IllegalArgumentException("Meeting can only start at the hour mark (e.g., 10:00, 11:00)");
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time is required");
+        }
+        if (startTime.getSecond() != 0 || startTime.getNano() != 0) {
+            throw new IllegalArgumentException("Meeting can only start on a whole minute (e.g., 10:00, 10:15)");
         }
         return startTime;
     }
+    private LocalDateTime validateAndSetEndTime(LocalDateTime startTime, LocalDateTime endTime) {
+        if (endTime == null) {
+            throw new IllegalArgumentException("End time is required");
+        }
+        if (endTime.getSecond() != 0 || endTime.getNano() != 0) {
+            throw new IllegalArgumentException("Meeting can only end on a whole minute (e.g., 10:45, 11:30)");
+        }
+        if (!endTime.isAfter(startTime) || Duration.between(startTime, endTime).compareTo(MAX_DURATION) > 0) {
+            throw new IllegalArgumentException("Meeting must end after it starts and last at most " + MAX_DURATION.toHours() + " hours");
+        }
+        return endTime;
+    }
+    private Recurrence validateAndSetRecurrence(LocalDateTime startTime, Recurrence recurrence) {
+        // a day of month every month has, so the series never shifts to the end of a short month
+        if (recurrence != null && recurrence.frequency() == Recurrence.Frequency.MONTHLY && startTime.getDayOfMonth() > 28) {
+            throw new IllegalArgumentException("A monthly meeting can only start on days 1 to 28 of the month");
+        }
+        return recurrence;
+    }
     public boolean involvesAnyPerson(List<Person> persons) {
         return persons.stream().anyMatch(person -> 
             this.organizer.equals(person) || this.attendees.contains(person));
@@ -0,0 +1,62 @@
+package com.meeting.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// How a meeting repeats: every `interval` days, weeks or months, `count` times in total counting the
+// first one. An end date is turned into the count when the series is created, so a series is always
+// finite and stored as this rule only - occurrences are computed when a window asks for them.
+public record Recurrence(Frequency frequency, int interval, int count) {
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    public static final int MAX_INTERVAL = 99;
+    public static final int MAX_OCCURRENCES = 10_000;
+
+    public Recurrence {
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence frequency is required");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("Recurrence interval must be between 1 and " + MAX_INTERVAL);
+        }
+        if (count < 1 || count > MAX_OCCURRENCES) {
+            throw new IllegalArgumentException("A recurring meeting must have between 1 and " + MAX_OCCURRENCES + " occurrences");
+        }
+    }
+
+    // exactly one of count and until - until is the last day an occurrence may start on
+    public static Recurrence of(Frequency frequency, Integer interval, Integer count, LocalDate until, LocalDateTime firstStart) {
+        if ((count == null) == (until == null)) {
+            throw new IllegalArgumentException("Exactly one of recurrence count and until is required");
+        }
+        int every = interval == null ? 1 : interval;
+        if (count != null) {
+            return new Recurrence(frequency, every, count);
+        }
+        if (frequency == null || firstStart == null || until.isBefore(firstStart.toLocalDate())) {
+            throw new IllegalArgumentException("Recurrence until cannot be before the first occurrence");
+        }
+        if (every < 1) {
+            throw new IllegalArgumentException("Recurrence interval must be between 1 and " + MAX_INTERVAL);
+        }
+        long steps = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(firstStart.toLocalDate(), until) / every;
+            case WEEKLY -> ChronoUnit.WEEKS.between(firstStart.toLocalDate(), until) / every;
+            case MONTHLY -> ChronoUnit.MONTHS.between(firstStart.toLocalDate(), until) / every;
+        };
+        return new Recurrence(frequency, every, (int) Math.min(steps + 1, Integer.MAX_VALUE));
+    }
+
+    // start of occurrence k, counted from 0
+    public LocalDateTime occurrence(LocalDateTime firstStart, long k) {
+        return switch (frequency) {
+            case DAILY -> firstStart.plusDays(k * interval);
+            case WEEKLY -> firstStart.plusWeeks(k * interval);
+            case MONTHLY -> firstStart.plusMonths(k * interval);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.meeting.jfr;
+
+import jdk.jfr.*;
+
+// One conflict check - from isTimeSlotAvailable or from a booking
+@Name("com.meeting.ConflictCheck")
+@Label("Conflict Check")
+@Category({"Meeting App", "Scheduling"})
+@Description("Probe of the participants' calendars for a slot")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ConflictCheckEvent extends Event {
+
+    @Label("Participants")
+    public int participants;
+
+    @Label("Window Hours")
+    public long windowHours;
+
+    @Label("Meetings Scanned")
+    public int meetingsScanned;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,27 @@
+package com.meeting.jfr;
+
+import jdk.jfr.*;
+
+// One createMeeting call, from validation until the journal acknowledged it
+@Name("com.meeting.CreateMeeting")
+@Label("Create Meeting")
+@Category({"Meeting App", "Scheduling"})
+@Description("Booking of a single meeting")
+@StackTrace(false)
+@Threshold("10 ms")
+public class CreateMeetingEvent extends Event {
+
+    @Label("Participants")
+    public int participants;
+
+    @Label("Window Hours")
+    @Description("Length of the booked slot")
+    public long windowHours;
+
+    @Label("Meetings Scanned")
+    @Description("Meetings inspected by the conflict check")
+    public int meetingsScanned;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,33 @@
+package com.meeting.jfr;
+
+import jdk.jfr.*;
+
+// One suggestAvailableTimeSlots call
+@Name("com.meeting.SlotSearch")
+@Label("Slot Search")
+@Category({"Meeting App", "Scheduling"})
+@Description("Search for free hours shared by the participants")
+@StackTrace(false)
+@Threshold("5 ms")
+public class SlotSearchEvent extends Event {
+
+    @Label("Participants")
+    public int participants;
+
+    @Label("Window Hours")
+    @Description("Length of the search window")
+    public long windowHours;
+
+    @Label("Candidate Hours")
+    @Description("Hours evaluated before the search stopped - busy bitmaps are scanned instead of meetings")
+    public long candidateHours;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Suggestions")
+    public int suggestions;
+
+    @Label("Outcome")
+    public String outcome;
+}
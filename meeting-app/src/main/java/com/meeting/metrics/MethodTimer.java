@@ -0,0 +1,65 @@
+package com.meeting.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Latency histogram of one service method, split by outcome. Both timers are resolved when the
+// service is wired, a call only reads the clock twice and updates the histogram buckets.
+final class MethodTimer {
+
+    private final Timer success;
+    private final Timer failure;
+
+    private MethodTimer(Timer success, Timer failure) {
+        this.success = success;
+        this.failure = failure;
+    }
+
+    static MethodTimer of(MeterRegistry registry, String service, String method) {
+        return new MethodTimer(timer(registry, service, method, "success"), timer(registry, service, method, "error"));
+    }
+
+    private static Timer timer(MeterRegistry registry, String service, String method, String outcome) {
+        return Timer.builder("scheduling.service")
+                .description("Service method latency")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+
+    <T> T record(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    // asynchronous calls are timed until the returned future completes - one sample per call, a call
+    // that throws before handing off its future counts as a failure
+    <T> CompletableFuture<T> recordAsync(Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        return future.whenComplete((result, error) ->
+                (error == null ? success : failure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,118 @@
+package com.meeting.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import com.meeting.replication.JournalFollower;
+import com.meeting.replication.JournalShipper;
+import com.meeting.store.SuggestionCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+// Domain counters of the booking path. Every meter is created once up front, so recording is a
+// LongAdder / CAS update with no registry lookup and no lock; store sizes are gauges read at scrape time.
+@Component
+public class SchedulingMetrics {
+
+    // services built outside Spring (tests, benchmarks) - a registry without backends, every meter is a no-op
+    public static final SchedulingMetrics NONE = new SchedulingMetrics(new CompositeMeterRegistry());
+
+    private final MeterRegistry registry;
+    private final DistributionSummary meetingsScanned;
+    private final DistributionSummary candidateHours;
+    private final Counter conflictRejections;
+
+    public SchedulingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.meetingsScanned = DistributionSummary.builder("meeting.conflict.check.scanned")
+                .description("Meetings inspected per conflict check")
+                .baseUnit("meetings")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1024.0)
+                .register(registry);
+        this.candidateHours = DistributionSummary.builder("meeting.suggestion.candidate.hours")
+                .description("Candidate hours evaluated per slot suggestion")
+                .baseUnit("hours")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(24.0 * 366)
+                .register(registry);
+        this.conflictRejections = Counter.builder("meeting.conflict.rejections")
+                .description("Bookings rejected because a participant was busy")
+                .register(registry);
+    }
+
+    public void meetingsScanned(int meetings) {
+        meetingsScanned.record(meetings);
+    }
+
+    public void candidateHours(long hours) {
+        candidateHours.record(hours);
+    }
+
+    public void conflictRejected() {
+        conflictRejections.increment();
+    }
+
+    public void storeSize(String store, Supplier<Number> size) {
+        Gauge.builder("meeting.store.size", size)
+                .description("Records held in memory")
+                .tag("store", store)
+                .register(registry);
+    }
+
+    // the cache counts in LongAdders of its own, these meters only read them at scrape time;
+    // hit rate = hit / (hit + miss + stale)
+    public void suggestionCache(SuggestionCache cache) {
+        cacheRequests(cache, "hit", SuggestionCache::hits);
+        cacheRequests(cache, "miss", SuggestionCache::misses);
+        cacheRequests(cache, "stale", SuggestionCache::staleHits);
+        FunctionCounter.builder("meeting.suggestion.cache.evictions", cache, SuggestionCache::evictions)
+                .description("Entries dropped to stay within the cache bounds")
+                .register(registry);
+        Gauge.builder("meeting.suggestion.cache.entries", cache, SuggestionCache::size)
+                .register(registry);
+        Gauge.builder("meeting.suggestion.cache.memory", cache, SuggestionCache::estimatedBytes)
+                .description("Estimated heap held by the cache")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    // replica lag is NaN until the first heartbeat from the primary
+    public void replica(JournalFollower follower) {
+        TimeGauge.builder("meeting.replication.lag", follower, TimeUnit.MILLISECONDS, replica -> {
+                    Duration staleness = replica.staleness();
+                    return staleness == null ? Double.NaN : staleness.toMillis();
+                })
+                .description("How far the replica's state may be behind the primary")
+                .register(registry);
+        Gauge.builder("meeting.replication.position", follower, JournalFollower::position)
+                .description("Primary journal position applied by the replica")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public void primary(JournalShipper shipper) {
+        Gauge.builder("meeting.replication.replicas", shipper, JournalShipper::replicas)
+                .description("Replicas currently following the journal")
+                .register(registry);
+    }
+
+    private void cacheRequests(SuggestionCache cache, String result, ToDoubleFunction<SuggestionCache> count) {
+        FunctionCounter.builder("meeting.suggestion.cache.requests", cache, count)
+                .description("Slot searches by cache outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+}
@@ -0,0 +1,132 @@
+package com.meeting.metrics;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.service.FreeBusy;
+import com.meeting.service.ItemResult;
+import com.meeting.service.MeetingRequest;
+import com.meeting.service.MeetingService;
+import com.meeting.service.Page;
+import com.meeting.service.QuorumSlot;
+import com.meeting.service.RankedSlot;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Times every MeetingService call made by the controllers; calls inside the service are not timed.
+public class TimedMeetingService implements MeetingService {
+
+    private static final String SERVICE = "MeetingService";
+
+    private final MeetingService delegate;
+    private final MethodTimer createMeeting;
+    private final MethodTimer createMeetings;
+    private final MethodTimer submitMeeting;
+    private final MethodTimer isTimeSlotAvailable;
+    private final MethodTimer getUpcomingMeetingsForPerson;
+    private final MethodTimer suggestAvailableTimeSlots;
+    private final MethodTimer suggestRankedTimeSlots;
+    private final MethodTimer suggestQuorumTimeSlots;
+    private final MethodTimer getFreeBusy;
+    private final MethodTimer getAllMeetings;
+    private final MethodTimer getMeetingsPage;
+    private final MethodTimer getMeetingHistory;
+    private final MethodTimer findById;
+
+    public TimedMeetingService(MeetingService delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.createMeeting = MethodTimer.of(registry, SERVICE, "createMeeting");
+        this.createMeetings = MethodTimer.of(registry, SERVICE, "createMeetings");
+        this.submitMeeting = MethodTimer.of(registry, SERVICE, "submitMeeting");
+        this.isTimeSlotAvailable = MethodTimer.of(registry, SERVICE, "isTimeSlotAvailable");
+        this.getUpcomingMeetingsForPerson = MethodTimer.of(registry, SERVICE, "getUpcomingMeetingsForPerson");
+        this.suggestAvailableTimeSlots = MethodTimer.of(registry, SERVICE, "suggestAvailableTimeSlots");
+        this.suggestRankedTimeSlots = MethodTimer.of(registry, SERVICE, "suggestRankedTimeSlots");
+        this.suggestQuorumTimeSlots = MethodTimer.of(registry, SERVICE, "suggestQuorumTimeSlots");
+        this.getFreeBusy = MethodTimer.of(registry, SERVICE, "getFreeBusy");
+        this.getAllMeetings = MethodTimer.of(registry, SERVICE, "getAllMeetings");
+        this.getMeetingsPage = MethodTimer.of(registry, SERVICE, "getMeetingsPage");
+        this.getMeetingHistory = MethodTimer.of(registry, SERVICE, "getMeetingHistory");
+        this.findById = MethodTimer.of(registry, SERVICE, "findById");
+    }
+
+    @Override
+    public Meeting createMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence) {
+        return createMeeting.record(() -> delegate.createMeeting(title, startTime, endTime, organizer, attendees, recurrence));
+    }
+
+    @Override
+    public List<ItemResult<Meeting>> createMeetings(List<MeetingRequest> requests) {
+        return createMeetings.record(() -> delegate.createMeetings(requests));
+    }
+
+    @Override
+    public CompletableFuture<Meeting> submitMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence) {
+        return submitMeeting.recordAsync(() -> delegate.submitMeeting(title, startTime, endTime, organizer, attendees, recurrence));
+    }
+
+    @Override
+    public boolean isTimeSlotAvailable(List<Person> persons, LocalDateTime startTime, LocalDateTime endTime) {
+        return isTimeSlotAvailable.record(() -> delegate.isTimeSlotAvailable(persons, startTime, endTime));
+    }
+
+    @Override
+    public List<Meeting> getUpcomingMeetingsForPerson(Person person) {
+        return getUpcomingMeetingsForPerson.record(() -> delegate.getUpcomingMeetingsForPerson(person));
+    }
+
+    @Override
+    public List<Meeting> getUpcomingMeetingsForPerson(Person person, LocalDateTime until, int limit) {
+        return getUpcomingMeetingsForPerson.record(() -> delegate.getUpcomingMeetingsForPerson(person, until, limit));
+    }
+
+    @Override
+    public List<Meeting> getUpcomingMeetingsForPerson(Person person, LocalDateTime after, LocalDateTime until, int limit) {
+        return getUpcomingMeetingsForPerson.record(() -> delegate.getUpcomingMeetingsForPerson(person, after, until, limit));
+    }
+
+    @Override
+    public List<LocalDateTime> suggestAvailableTimeSlots(List<Person> participants, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions, Duration duration) {
+        return suggestAvailableTimeSlots.record(() -> delegate.suggestAvailableTimeSlots(participants, searchStart, searchEnd, maxSuggestions, duration));
+    }
+
+    @Override
+    public List<RankedSlot> suggestRankedTimeSlots(List<Person> participants, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions) {
+        return suggestRankedTimeSlots.record(() -> delegate.suggestRankedTimeSlots(participants, searchStart, searchEnd, maxSuggestions));
+    }
+
+    @Override
+    public List<QuorumSlot> suggestQuorumTimeSlots(List<Person> required, List<Person> optional, int minOptionalFree, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions) {
+        return suggestQuorumTimeSlots.record(() -> delegate.suggestQuorumTimeSlots(required, optional, minOptionalFree, searchStart, searchEnd, maxSuggestions));
+    }
+
+    @Override
+    public List<FreeBusy> getFreeBusy(List<Person> persons, LocalDateTime from, LocalDateTime to) {
+        return getFreeBusy.record(() -> delegate.getFreeBusy(persons, from, to));
+    }
+
+    @Override
+    public List<Meeting> getAllMeetings() {
+        return getAllMeetings.record(delegate::getAllMeetings);
+    }
+
+    @Override
+    public Page<Meeting> getMeetingsPage(String afterCursor, int limit) {
+        return getMeetingsPage.record(() -> delegate.getMeetingsPage(afterCursor, limit));
+    }
+
+    @Override
+    public Page<Meeting> getMeetingHistory(String personId, String afterCursor, int limit) {
+        return getMeetingHistory.record(() -> delegate.getMeetingHistory(personId, afterCursor, limit));
+    }
+
+    @Override
+    public Optional<Meeting> findById(String id) {
+        return findById.record(() -> delegate.findById(id));
+    }
+}
@@ -0,0 +1,73 @@
+package com.meeting.metrics;
+
+import com.meeting.entity.Person;
+import com.meeting.service.ItemResult;
+import com.meeting.service.Page;
+import com.meeting.service.PersonRequest;
+import com.meeting.service.PersonService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Times every PersonService call, including the lookups the meeting service makes while booking.
+public class TimedPersonService implements PersonService {
+
+    private static final String SERVICE = "PersonService";
+
+    private final PersonService delegate;
+    private final MethodTimer createPerson;
+    private final MethodTimer createPersons;
+    private final MethodTimer emailExists;
+    private final MethodTimer getAllPersons;
+    private final MethodTimer getPersonsPage;
+    private final MethodTimer findByEmail;
+    private final MethodTimer findById;
+
+    public TimedPersonService(PersonService delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.createPerson = MethodTimer.of(registry, SERVICE, "createPerson");
+        this.createPersons = MethodTimer.of(registry, SERVICE, "createPersons");
+        this.emailExists = MethodTimer.of(registry, SERVICE, "emailExists");
+        this.getAllPersons = MethodTimer.of(registry, SERVICE, "getAllPersons");
+        this.getPersonsPage = MethodTimer.of(registry, SERVICE, "getPersonsPage");
+        this.findByEmail = MethodTimer.of(registry, SERVICE, "findByEmail");
+        this.findById = MethodTimer.of(registry, SERVICE, "findById");
+    }
+
+    @Override
+    public Person createPerson(String name, String email) {
+        return createPerson.record(() -> delegate.createPerson(name, email));
+    }
+
+    @Override
+    public List<ItemResult<Person>> createPersons(Collection<PersonRequest> rows) {
+        return createPersons.record(() -> delegate.createPersons(rows));
+    }
+
+    @Override
+    public boolean emailExists(String email) {
+        return emailExists.record(() -> delegate.emailExists(email));
+    }
+
+    @Override
+    public List<Person> getAllPersons() {
+        return getAllPersons.record(delegate::getAllPersons);
+    }
+
+    @Override
+    public Page<Person> getPersonsPage(String afterCursor, int limit) {
+        return getPersonsPage.record(() -> delegate.getPersonsPage(afterCursor, limit));
+    }
+
+    @Override
+    public Optional<Person> findByEmail(String email) {
+        return findByEmail.record(() -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Optional<Person> findById(String id) {
+        return findById.record(() -> delegate.findById(id));
+    }
+}
@@ -0,0 +1,395 @@
+package com.meeting.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Append-only journal with checksummed frames (see JournalCodec), split into segment files named
+// after the journal position they start at. A checkpoint seals the current segment, so everything
+// before a snapshot's position can later be dropped by deleting whole files.
+//
+// Group commit: appends are queued and a flusher thread drains everything waiting, writes it with one
+// write and makes it durable with one fsync, then completes the whole batch. Concurrent writers share
+// the fsync cost, so durability costs one fsync per batch instead of one per create.
+// Per-write mode runs the same flusher with a batch of one, i.e. one fsync per record - kept for
+// comparison. Only the flusher touches the channel, so an interrupted request thread cannot close it.
+//
+// After a failed write or fsync the journal refuses further appends: the kernel may have dropped the
+// dirty pages, so retrying the fsync would report success for data that never reached the disk.
+@Slf4j
+public class FileJournal implements Journal {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final BlockingQueue<Pending> queue;
+    private final int maxBatch;
+    private final Thread flusher;
+    // segment start position -> file; sealed segments are complete, only the last one is written
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private volatile boolean running = true;
+    private volatile IOException failure;
+    // current segment and the end of the valid data - touched only by the flusher after open
+    private FileChannel channel;
+    private long segmentStart;
+    private volatile long position;
+    // waiters for the position to move, notified after every durable write
+    private final Object appended = new Object();
+
+    private FileJournal(Path directory, boolean groupCommit, int queueCapacity, int maxBatch) throws IOException {
+        if (queueCapacity <= 0 || maxBatch <= 0) {
+            throw new IllegalArgumentException("Journal queue capacity and batch size must be positive");
+        }
+        this.directory = directory;
+        this.maxBatch = groupCommit ? maxBatch : 1;
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+                }
+            });
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, directory.resolve(segmentName(0)));
+        }
+        this.segmentStart = segments.lastKey();
+        Path last = segments.lastEntry().getValue();
+        this.channel = FileChannel.open(last, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // only the last segment can end in a torn write - the older ones were sealed by a checkpoint
+        long valid = scan(last, 0, channel.size(), null);
+        if (valid < channel.size()) {
+            // a crash in the middle of a write leaves a torn frame at the tail - it was never acknowledged
+            log.warn("Truncating torn journal tail of {} bytes in {}", channel.size() - valid, last);
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        this.position = segmentStart + valid;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flusher = new Thread(this::runFlusher, "journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public static FileJournal open(Path directory, boolean groupCommit, int queueCapacity, int maxBatch) throws IOException {
+        Files.createDirectories(directory);
+        FileJournal journal = new FileJournal(directory, groupCommit, queueCapacity, maxBatch);
+        log.info("Opened journal {} at position {} ({} segments, {})", directory, journal.position,
+                journal.segments.size(), groupCommit ? "group commit" : "fsync per write");
+        return journal;
+    }
+
+    static String segmentName(long start) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, start, SEGMENT_SUFFIX);
+    }
+
+    @Override
+    public CompletableFuture<Long> append(JournalRecord record) {
+        return enqueue(new Pending(JournalCodec.encodeFrame(record)));
+    }
+
+    @Override
+    public CompletableFuture<Long> checkpoint() {
+        return enqueue(new Pending(null));
+    }
+
+    private CompletableFuture<Long> enqueue(Pending pending) {
+        if (failure != null || !running) {
+            pending.future.completeExceptionally(unavailable());
+            return pending.future;
+        }
+        try {
+            queue.put(pending);
+            // lost a race with close() - the flusher may already be gone
+            if (!running && queue.remove(pending)) {
+                pending.future.completeExceptionally(unavailable());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+        }
+        return pending.future;
+    }
+
+    private void runFlusher() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                // polled rather than interrupted on close: an interrupt during write() would close the channel
+                Pending first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+            flush(batch);
+            batch.clear();
+        }
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(unavailable());
+        }
+    }
+
+    // one write + one fsync for the records of the batch, then every writer in it is released;
+    // a checkpoint in the middle of the batch splits it and starts a new segment
+    private void flush(List<Pending> batch) {
+        int from = 0;
+        for (int i = 0; i <= batch.size(); i++) {
+            if (i == batch.size() || batch.get(i).frame == null) {
+                write(batch.subList(from, i));
+                if (i < batch.size()) {
+                    roll(batch.get(i));
+                }
+                from = i + 1;
+            }
+        }
+    }
+
+    private void write(List<Pending> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (failure != null) {
+            records.forEach(pending -> pending.future.completeExceptionally(unavailable()));
+            return;
+        }
+        int bytes = 0;
+        for (Pending pending : records) {
+            bytes += pending.frame.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        for (Pending pending : records) {
+            buffer.put(pending.frame);
+        }
+        buffer.flip();
+        long end = position;
+        try {
+            while (buffer.hasRemaining()) {
+                end += channel.write(buffer, end - segmentStart);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            fail(e);
+            records.forEach(pending -> pending.future.completeExceptionally(unavailable()));
+            return;
+        }
+        long offset = position;
+        position = end;
+        synchronized (appended) {
+            appended.notifyAll();
+        }
+        for (Pending pending : records) {
+            offset += pending.frame.length;
+            pending.future.complete(offset);
+        }
+    }
+
+    // seals the current segment and continues in a fresh one starting at the current position
+    private void roll(Pending checkpoint) {
+        if (failure != null) {
+            checkpoint.future.completeExceptionally(unavailable());
+            return;
+        }
+        if (position == segmentStart) {
+            // nothing written since the last checkpoint - the current segment already starts here
+            checkpoint.future.complete(position);
+            return;
+        }
+        try {
+            Path next = directory.resolve(segmentName(position));
+            FileChannel nextChannel = FileChannel.open(next, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.close();
+            channel = nextChannel;
+            segmentStart = position;
+            synchronized (segments) {
+                segments.put(position, next);
+            }
+        } catch (IOException e) {
+            fail(e);
+            checkpoint.future.completeExceptionally(unavailable());
+            return;
+        }
+        checkpoint.future.complete(position);
+    }
+
+    private void fail(IOException e) {
+        log.error("Journal write to {} failed, refusing further appends", directory, e);
+        failure = e;
+    }
+
+    @Override
+    public void replay(long from, Consumer<JournalRecord> consumer) {
+        read(from, false, frame -> consumer.accept(JournalCodec.decode(frame, JournalCodec.HEADER_BYTES, frame.length - JournalCodec.HEADER_BYTES)));
+    }
+
+    @Override
+    public void readFrames(long from, Consumer<byte[]> consumer) {
+        read(from, true, consumer::accept);
+    }
+
+    // The segments are copied in one step, so a truncation meanwhile cannot hand out a half-updated
+    // list; a segment it deletes before it is opened is reported as truncated. With `contiguous`, so is
+    // a start before the first segment - the frames there are gone, skipping them would leave a gap.
+    private void read(long from, boolean contiguous, FrameConsumer consumer) {
+        List<Map.Entry<Long, Path>> files = new ArrayList<>();
+        synchronized (segments) {
+            segments.forEach((start, file) -> files.add(Map.entry(start, file)));
+        }
+        long end = position;
+        if (contiguous && from < files.get(0).getKey()) {
+            throw truncated(from);
+        }
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                long start = files.get(i).getKey();
+                long segmentEnd = i + 1 < files.size() ? files.get(i + 1).getKey() : end;
+                if (segmentEnd <= from) {
+                    continue;
+                }
+                try {
+                    scan(files.get(i).getValue(), Math.max(from, start) - start, segmentEnd - start, consumer);
+                } catch (NoSuchFileException e) {
+                    throw truncated(Math.max(from, start));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private UncheckedIOException truncated(long from) {
+        return new UncheckedIOException(new NoSuchFileException(directory.toString(), null,
+                "journal position " + from + " was truncated"));
+    }
+
+    @Override
+    public void truncateBefore(long position) {
+        List<Path> obsolete = new ArrayList<>();
+        synchronized (segments) {
+            // a segment can go once the next one starts at or before the position
+            while (segments.size() > 1 && segments.higherKey(segments.firstKey()) <= position) {
+                obsolete.add(segments.pollFirstEntry().getValue());
+            }
+        }
+        for (Path file : obsolete) {
+            try {
+                Files.deleteIfExists(file);
+                log.info("Deleted journal segment {}", file);
+            } catch (IOException e) {
+                log.warn("Failed to delete journal segment {}", file, e);
+            }
+        }
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public long startPosition() {
+        synchronized (segments) {
+            return segments.firstKey();
+        }
+    }
+
+    @Override
+    public long awaitPosition(long after, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (appended) {
+            long remaining;
+            while (position <= after && running && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(appended, remaining);
+            }
+        }
+        return position;
+    }
+
+    // walks the frames of one segment between two offsets and returns where the valid data ends;
+    // each whole frame goes to the consumer when there is one
+    private static long scan(Path file, long from, long limit, FrameConsumer consumer) throws IOException {
+        long valid = from;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            in.skipNBytes(from);
+            while (valid + JournalCodec.HEADER_BYTES <= limit) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length <= 0 || length > JournalCodec.MAX_PAYLOAD_BYTES
+                        || valid + JournalCodec.HEADER_BYTES + length > limit) {
+                    break;
+                }
+                byte[] frame = new byte[JournalCodec.HEADER_BYTES + length];
+                in.readFully(frame, JournalCodec.HEADER_BYTES, length);
+                if (JournalCodec.checksum(frame, JournalCodec.HEADER_BYTES, length) != checksum) {
+                    break;
+                }
+                if (consumer != null) {
+                    ByteBuffer.wrap(frame).putInt(length).putInt(checksum);
+                    consumer.accept(frame);
+                }
+                valid += JournalCodec.HEADER_BYTES + length;
+            }
+        } catch (EOFException e) {
+            // torn header or payload - everything before it is valid
+        }
+        return valid;
+    }
+
+    private UncheckedIOException unavailable() {
+        IOException cause = failure;
+        return new UncheckedIOException(cause != null ? cause : new IOException("Journal " + directory + " is closed"));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        synchronized (appended) {
+            appended.notifyAll();
+        }
+        try {
+            flusher.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close journal {}", directory, e);
+        }
+    }
+
+    private interface FrameConsumer {
+        void accept(byte[] frame) throws IOException;
+    }
+
+    private static final class Pending {
+        // null for a checkpoint marker
+        private final byte[] frame;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        private Pending(byte[] frame) {
+            this.frame = frame;
+        }
+    }
+}
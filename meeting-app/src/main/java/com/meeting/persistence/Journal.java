@@ -0,0 +1,95 @@
+package com.meeting.persistence;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+// Write-ahead journal for creates. append() returns once the record is queued in journal order; the
+// future completes with the journal position after the record once it is durable. Callers acknowledge
+// a create only after the future completes.
+//
+// Only the acknowledgement waits - creates are read-uncommitted. The services link a create into the
+// in-memory stores right after append(), so until the future completes other clients can already read
+// it, see it in free/busy and be refused a booking because of it. If the write fails, the create is
+// unlinked again and its caller gets the failure. Replicas are fed from the journal and only ever see
+// durable records.
+public interface Journal extends AutoCloseable {
+
+    // in-memory mode - nothing is written, every record is durable at once and there is nothing to replay
+    Journal NONE = new Journal() {
+        @Override
+        public CompletableFuture<Long> append(JournalRecord record) {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        @Override
+        public CompletableFuture<Long> checkpoint() {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        @Override
+        public void replay(long from, Consumer<JournalRecord> consumer) {
+        }
+
+        @Override
+        public void truncateBefore(long position) {
+        }
+
+        @Override
+        public long position() {
+            return 0;
+        }
+
+        @Override
+        public long startPosition() {
+            return 0;
+        }
+
+        @Override
+        public void readFrames(long from, Consumer<byte[]> consumer) {
+        }
+
+        @Override
+        public long awaitPosition(long after, long timeoutMillis) throws InterruptedException {
+            Thread.sleep(timeoutMillis);
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    CompletableFuture<Long> append(JournalRecord record);
+
+    // completes with the position right after every record appended before it, once those are durable
+    CompletableFuture<Long> checkpoint();
+
+    // feeds every durable record from the given position on to the consumer in append order -
+    // call before the first append
+    void replay(long from, Consumer<JournalRecord> consumer);
+
+    default void replay(Consumer<JournalRecord> consumer) {
+        replay(0, consumer);
+    }
+
+    // drops records before the position once they are covered by a durable snapshot
+    void truncateBefore(long position);
+
+    // the end of the durable records
+    long position();
+
+    // where the oldest record still kept starts - everything before it was truncated
+    long startPosition();
+
+    // like replay, but hands out each frame exactly as stored (header included) without decoding it;
+    // the position after a frame is the position before it plus its length. Safe while appending and
+    // truncating: a read from a position that truncateBefore has dropped, or drops while it runs, fails with
+    // an UncheckedIOException and afterwards startPosition() is past where it stopped.
+    void readFrames(long from, Consumer<byte[]> consumer);
+
+    // blocks until the durable end moves past the given position or the timeout passes, returns the end
+    long awaitPosition(long after, long timeoutMillis) throws InterruptedException;
+
+    @Override
+    void close();
+}
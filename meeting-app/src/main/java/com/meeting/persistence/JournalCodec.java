@@ -0,0 +1,146 @@
+package com.meeting.persistence;
+
+import com.meeting.entity.Recurrence;
+import com.meeting.persistence.JournalRecord.MeetingData;
+import com.meeting.persistence.JournalRecord.MeetingsCreated;
+import com.meeting.persistence.JournalRecord.PersonCreated;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+// Binary layout of one journal frame:
+//   int length | int crc32c(payload) | payload (byte type + fields)
+// Strings are modified UTF-8, times are UTC epoch seconds + nanos. A frame whose length runs past the
+// end of the file or whose checksum does not match is a torn write and ends the readable journal.
+// Meetings are written as MEETINGS_CREATED_V2, which adds the recurrence rule (frequency byte 0 for a
+// one-off meeting); journals written before it still hold MEETINGS_CREATED and replay as one-offs.
+public final class JournalCodec {
+
+    public static final int HEADER_BYTES = 8;
+    // guards replay against a corrupt length field allocating gigabytes
+    public static final int MAX_PAYLOAD_BYTES = 64 * 1024 * 1024;
+
+    private static final byte PERSON_CREATED = 1;
+    private static final byte MEETINGS_CREATED = 2;
+    private static final byte MEETINGS_CREATED_V2 = 3;
+
+    private JournalCodec() {
+    }
+
+    public static byte[] encodeFrame(JournalRecord record) {
+        byte[] payload = encode(record);
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        frame.putInt(payload.length);
+        frame.putInt(checksum(payload, 0, payload.length));
+        frame.put(payload);
+        return frame.array();
+    }
+
+    public static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    static byte[] encode(JournalRecord record) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (record instanceof PersonCreated person) {
+                out.writeByte(PERSON_CREATED);
+                out.writeUTF(person.uuid());
+                out.writeUTF(person.name());
+                out.writeUTF(person.email());
+            } else if (record instanceof MeetingsCreated batch) {
+                out.writeByte(MEETINGS_CREATED_V2);
+                out.writeInt(batch.meetings().size());
+                for (MeetingData meeting : batch.meetings()) {
+                    out.writeUTF(meeting.uuid());
+                    out.writeUTF(meeting.title());
+                    writeTime(out, meeting.startTime());
+                    writeTime(out, meeting.endTime());
+                    out.writeUTF(meeting.organizerId());
+                    out.writeInt(meeting.attendeeIds().size());
+                    for (String attendeeId : meeting.attendeeIds()) {
+                        out.writeUTF(attendeeId);
+                    }
+                    writeRecurrence(out, meeting.recurrence());
+                }
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static JournalRecord decode(byte[] payload) throws IOException {
+        return decode(payload, 0, payload.length);
+    }
+
+    public static JournalRecord decode(byte[] bytes, int offset, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, offset, length));
+        byte type = in.readByte();
+        switch (type) {
+            case PERSON_CREATED:
+                return new PersonCreated(in.readUTF(), in.readUTF(), in.readUTF());
+            case MEETINGS_CREATED:
+            case MEETINGS_CREATED_V2:
+                int count = in.readInt();
+                List<MeetingData> meetings = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    String uuid = in.readUTF();
+                    String title = in.readUTF();
+                    LocalDateTime startTime = readTime(in);
+                    LocalDateTime endTime = readTime(in);
+                    String organizerId = in.readUTF();
+                    int attendees = in.readInt();
+                    List<String> attendeeIds = new ArrayList<>(attendees);
+                    for (int a = 0; a < attendees; a++) {
+                        attendeeIds.add(in.readUTF());
+                    }
+                    Recurrence recurrence = type == MEETINGS_CREATED_V2 ? readRecurrence(in) : null;
+                    meetings.add(new MeetingData(uuid, title, startTime, endTime, organizerId, attendeeIds, recurrence));
+                }
+                return new MeetingsCreated(meetings);
+            default:
+                throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    private static void writeRecurrence(DataOutputStream out, Recurrence recurrence) throws IOException {
+        if (recurrence == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(recurrence.frequency().ordinal() + 1);
+        out.writeInt(recurrence.interval());
+        out.writeInt(recurrence.count());
+    }
+
+    private static Recurrence readRecurrence(DataInputStream in) throws IOException {
+        int frequency = in.readByte();
+        if (frequency == 0) {
+            return null;
+        }
+        Recurrence.Frequency[] frequencies = Recurrence.Frequency.values();
+        if (frequency < 0 || frequency > frequencies.length) {
+            throw new IOException("Unknown recurrence frequency " + frequency);
+        }
+        return new Recurrence(frequencies[frequency - 1], in.readInt(), in.readInt());
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,40 @@
+package com.meeting.persistence;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// What the journal stores - plain data, persons are referenced by uuid so a record never embeds another one
+public sealed interface JournalRecord permits JournalRecord.PersonCreated, JournalRecord.MeetingsCreated {
+
+    record PersonCreated(String uuid, String name, String email) implements JournalRecord {
+        public static PersonCreated of(Person person) {
+            return new PersonCreated(person.getUuid(), person.getName(), person.getEmail());
+        }
+    }
+
+    // one record per booking call - a batch is replayed all-or-nothing exactly like it was created
+    record MeetingsCreated(List<MeetingData> meetings) implements JournalRecord {
+        public static MeetingsCreated of(List<Meeting> meetings) {
+            List<MeetingData> data = new ArrayList<>(meetings.size());
+            for (Meeting meeting : meetings) {
+                List<String> attendeeIds = new ArrayList<>(meeting.getAttendees().size());
+                for (Person attendee : meeting.getAttendees()) {
+                    attendeeIds.add(attendee.getUuid());
+                }
+                data.add(new MeetingData(meeting.getUuid(), meeting.getTitle(), meeting.getStartTime(),
+                        meeting.getEndTime(), meeting.getOrganizer().getUuid(), attendeeIds, meeting.getRecurrence()));
+            }
+            return new MeetingsCreated(data);
+        }
+    }
+
+    // recurrence is null for a one-off meeting
+    record MeetingData(String uuid, String title, LocalDateTime startTime, LocalDateTime endTime,
+                       String organizerId, List<String> attendeeIds, Recurrence recurrence) {
+    }
+}
@@ -0,0 +1,290 @@
+package com.meeting.persistence;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Compact binary image of the person and meeting stores at one journal position.
+//
+//   header: int magic | int format | long journal position | int persons | int meetings
+//   blocks: int count | int bytes | int crc32c(payload) | payload   (persons first, then meetings)
+//
+// Persons and meetings are written in blocks of BLOCK_RECORDS, so the loader can map and decode every
+// block on its own thread. Uuids are stored as 16 bytes, meetings refer to persons by their position in
+// the file and times are UTC epoch seconds. Files are written to a temp name, fsynced and renamed, so
+// a snapshot file that exists is complete.
+// Format 2 ends every meeting with its recurrence rule (frequency byte 0 for a one-off meeting);
+// format 1 files are still read, as one-off meetings only.
+@Slf4j
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x4D534E50;
+    private static final int FORMAT = 2;
+    private static final int FORMAT_WITHOUT_RECURRENCE = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int BLOCK_HEADER_BYTES = 12;
+    private static final int BLOCK_RECORDS = 4096;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private SnapshotFile() {
+    }
+
+    public record Contents(long journalPosition, List<Person> persons, List<Meeting> meetings) {
+    }
+
+    // newest first - the file name carries the journal position
+    public static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        }
+    }
+
+    public static long journalPositionOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    public static Path write(Path directory, long journalPosition, Collection<Person> persons, List<Meeting> meetings) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, journalPosition, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        List<Person> personList = new ArrayList<>(persons);
+        Map<String, Integer> personIndex = new HashMap<>(personList.size() * 2);
+        for (int i = 0; i < personList.size(); i++) {
+            personIndex.put(personList.get(i).getUuid(), i);
+        }
+
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeLong(journalPosition);
+            out.writeInt(personList.size());
+            out.writeInt(meetings.size());
+            ByteArrayOutputStream block = new ByteArrayOutputStream(1 << 16);
+            DataOutputStream payload = new DataOutputStream(block);
+            for (int from = 0; from < personList.size(); from += BLOCK_RECORDS) {
+                int to = Math.min(personList.size(), from + BLOCK_RECORDS);
+                for (Person person : personList.subList(from, to)) {
+                    writeUuid(payload, person.getUuid());
+                    writeString(payload, person.getName());
+                    writeString(payload, person.getEmail());
+                }
+                writeBlock(out, to - from, block);
+            }
+            for (int from = 0; from < meetings.size(); from += BLOCK_RECORDS) {
+                int to = Math.min(meetings.size(), from + BLOCK_RECORDS);
+                for (Meeting meeting : meetings.subList(from, to)) {
+                    writeUuid(payload, meeting.getUuid());
+                    writeString(payload, meeting.getTitle());
+                    long start = meeting.getStartTime().toEpochSecond(ZoneOffset.UTC);
+                    payload.writeLong(start);
+                    payload.writeInt((int) (meeting.getEndTime().toEpochSecond(ZoneOffset.UTC) - start));
+                    payload.writeInt(indexOf(personIndex, meeting.getOrganizer()));
+                    payload.writeInt(meeting.getAttendees().size());
+                    for (Person attendee : meeting.getAttendees()) {
+                        payload.writeInt(indexOf(personIndex, attendee));
+                    }
+                    Recurrence recurrence = meeting.getRecurrence();
+                    payload.writeByte(recurrence == null ? 0 : recurrence.frequency().ordinal() + 1);
+                    if (recurrence != null) {
+                        payload.writeInt(recurrence.interval());
+                        payload.writeInt(recurrence.count());
+                    }
+                }
+                writeBlock(out, to - from, block);
+            }
+            out.flush();
+            file.getChannel().force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(directory);
+        return target;
+    }
+
+    private static int indexOf(Map<String, Integer> personIndex, Person person) {
+        Integer index = personIndex.get(person.getUuid());
+        if (index == null) {
+            throw new IllegalStateException("Meeting participant " + person.getUuid() + " is not in the snapshot");
+        }
+        return index;
+    }
+
+    private static void writeBlock(DataOutputStream out, int count, ByteArrayOutputStream block) throws IOException {
+        byte[] bytes = block.toByteArray();
+        out.writeInt(count);
+        out.writeInt(bytes.length);
+        out.writeInt(JournalCodec.checksum(bytes, 0, bytes.length));
+        out.write(bytes);
+        block.reset();
+    }
+
+    public static Contents read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = readAt(channel, 0, HEADER_BYTES);
+            int format = header.getInt(4);
+            if (header.getInt() != MAGIC || (header.getInt() != FORMAT && format != FORMAT_WITHOUT_RECURRENCE)) {
+                throw new IOException("Not a snapshot file: " + file);
+            }
+            long journalPosition = header.getLong();
+            int personCount = header.getInt();
+            int meetingCount = header.getInt();
+
+            // one pass over the block headers only, then every block is decoded independently
+            List<Block> personBlocks = new ArrayList<>();
+            List<Block> meetingBlocks = new ArrayList<>();
+            long offset = HEADER_BYTES;
+            int seen = 0;
+            while (seen < personCount + meetingCount) {
+                ByteBuffer blockHeader = readAt(channel, offset, BLOCK_HEADER_BYTES);
+                int count = blockHeader.getInt();
+                int bytes = blockHeader.getInt();
+                if (count <= 0 || bytes < 0) {
+                    throw new IOException("Snapshot block header at " + offset + " is corrupt");
+                }
+                Block block = new Block(offset + BLOCK_HEADER_BYTES, bytes, blockHeader.getInt(), seen < personCount ? seen : seen - personCount);
+                (seen < personCount ? personBlocks : meetingBlocks).add(block);
+                seen += count;
+                offset += BLOCK_HEADER_BYTES + bytes;
+            }
+
+            Person[] persons = new Person[personCount];
+            decodeBlocks(channel, personBlocks, (buffer, first) -> {
+                for (int i = first; buffer.hasRemaining(); i++) {
+                    persons[i] = Person.builder().uuid(readUuid(buffer)).name(readString(buffer)).email(readString(buffer)).build();
+                }
+            });
+            Meeting[] meetings = new Meeting[meetingCount];
+            decodeBlocks(channel, meetingBlocks, (buffer, first) -> {
+                for (int i = first; buffer.hasRemaining(); i++) {
+                    String uuid = readUuid(buffer);
+                    String title = readString(buffer);
+                    long start = buffer.getLong();
+                    int duration = buffer.getInt();
+                    Person organizer = persons[buffer.getInt()];
+                    int attendeeCount = buffer.getInt();
+                    List<Person> attendees = new ArrayList<>(attendeeCount);
+                    for (int a = 0; a < attendeeCount; a++) {
+                        attendees.add(persons[buffer.getInt()]);
+                    }
+                    Recurrence recurrence = null;
+                    int frequency = format == FORMAT_WITHOUT_RECURRENCE ? 0 : buffer.get();
+                    if (frequency != 0) {
+                        recurrence = new Recurrence(Recurrence.Frequency.values()[frequency - 1], buffer.getInt(), buffer.getInt());
+                    }
+                    meetings[i] = Meeting.builder()
+                            .uuid(uuid)
+                            .title(title)
+                            .startTime(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC))
+                            .endTime(LocalDateTime.ofEpochSecond(start + duration, 0, ZoneOffset.UTC))
+                            .organizer(organizer)
+                            .attendees(attendees)
+                            .recurrence(recurrence)
+                            .build();
+                }
+            });
+            return new Contents(journalPosition, Arrays.asList(persons), Arrays.asList(meetings));
+        }
+    }
+
+    private record Block(long offset, int bytes, int checksum, int firstRecord) {
+    }
+
+    private interface BlockDecoder {
+        void decode(ByteBuffer payload, int firstRecord);
+    }
+
+    private static void decodeBlocks(FileChannel channel, List<Block> blocks, BlockDecoder decoder) throws IOException {
+        try {
+            blocks.parallelStream().forEach(block -> {
+                try {
+                    ByteBuffer payload = map(channel, block.offset(), block.bytes());
+                    if (checksum(payload) != block.checksum()) {
+                        throw new IOException("Snapshot block at " + block.offset() + " is corrupt");
+                    }
+                    decoder.decode(payload, block.firstRecord());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Snapshot truncated at " + offset);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long offset, int length) throws IOException {
+        if (offset + length > channel.size()) {
+            throw new EOFException("Snapshot truncated at " + offset);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static void writeUuid(DataOutputStream out, String uuid) throws IOException {
+        UUID parsed = UUID.fromString(uuid);
+        out.writeLong(parsed.getMostSignificantBits());
+        out.writeLong(parsed.getLeastSignificantBits());
+    }
+
+    private static String readUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void syncDirectory(Path directory) {
+        // makes the rename durable; not supported on every platform, where it is skipped
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Could not fsync directory {}", directory, e);
+        }
+    }
+}
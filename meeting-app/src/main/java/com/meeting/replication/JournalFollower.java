@@ -0,0 +1,189 @@
+package com.meeting.replication;
+
+import com.meeting.persistence.JournalCodec;
+import com.meeting.persistence.JournalRecord;
+import com.meeting.persistence.SnapshotFile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+// Replica side of replication: one thread connects to the primary's JournalShipper, loads the snapshot it
+// sends to a new replica and applies every shipped journal record in order - the only writer of the
+// replica's stores. After a dropped link it reconnects and resumes from the position it got to.
+//
+// Staleness is measured against the primary's heartbeats: once everything before a heartbeat's position
+// is applied, the replica holds every write the primary acknowledged before the heartbeat's time. Both
+// instances are expected to share a clock (same host, or NTP).
+@Slf4j
+public class JournalFollower implements AutoCloseable {
+
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+
+    // the replica's stores, written only from the follower thread
+    public interface Applier {
+        // a new replica's state, before any record
+        void load(SnapshotFile.Contents snapshot);
+
+        void apply(JournalRecord record);
+    }
+
+    private final String host;
+    private final int port;
+    private final Duration reconnectDelay;
+    private final Applier applier;
+    private final Clock clock;
+    private final Thread follower;
+    private volatile boolean running = true;
+    private volatile Socket socket;
+    // journal position of the primary the replica has applied up to
+    private volatile long position;
+    // primary time the applied state is current as of, -1 until the first heartbeat
+    private volatile long syncedAt = -1;
+
+    public JournalFollower(String host, int port, Duration reconnectDelay, Applier applier, Clock clock) {
+        this.host = host;
+        this.port = port;
+        this.reconnectDelay = reconnectDelay;
+        this.applier = applier;
+        this.clock = clock;
+        this.follower = new Thread(this::run, "journal-follower");
+        follower.setDaemon(true);
+        follower.start();
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public boolean isConnected() {
+        Socket current = socket;
+        return current != null && !current.isClosed();
+    }
+
+    // how far behind the primary the applied state may be - grows while the link is down
+    public Duration staleness() {
+        long at = syncedAt;
+        return at < 0 ? null : Duration.ofMillis(Math.max(0, clock.millis() - at));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                follow();
+            } catch (IOException | RuntimeException e) {
+                if (running) {
+                    log.warn("Replication from {}:{} interrupted at position {}: {}", host, port, position, e.getMessage());
+                }
+            }
+            try {
+                Thread.sleep(reconnectDelay.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void follow() throws IOException {
+        try (Socket connection = new Socket()) {
+            connection.connect(new InetSocketAddress(host, port));
+            connection.setTcpNoDelay(true);
+            socket = connection;
+            if (!running) {
+                return;
+            }
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+            out.writeInt(JournalShipper.MAGIC);
+            out.writeLong(position);
+            out.flush();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream(), COPY_BUFFER_BYTES));
+            log.info("Following the primary at {}:{} from journal position {}", host, port, position);
+            while (running) {
+                byte type = in.readByte();
+                switch (type) {
+                    case JournalShipper.SNAPSHOT -> loadSnapshot(in);
+                    case JournalShipper.FRAME -> applyFrame(in);
+                    case JournalShipper.HEARTBEAT -> {
+                        long shipped = in.readLong();
+                        long at = in.readLong();
+                        if (shipped != position) {
+                            throw new IOException("Primary shipped up to " + shipped + " but the replica is at " + position);
+                        }
+                        syncedAt = at;
+                    }
+                    case JournalShipper.REFUSED -> throw new IOException("Primary refused the replica: " + in.readUTF());
+                    default -> throw new IOException("Unknown replication message " + type);
+                }
+            }
+        } finally {
+            socket = null;
+        }
+    }
+
+    private void loadSnapshot(DataInputStream in) throws IOException {
+        if (position != 0) {
+            throw new IOException("Primary sent a snapshot to a replica at position " + position);
+        }
+        long bytes = in.readLong();
+        Path file = Files.createTempFile("replica-snapshot-", ".bin");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), COPY_BUFFER_BYTES)) {
+                byte[] buffer = new byte[COPY_BUFFER_BYTES];
+                for (long remaining = bytes; remaining > 0; ) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new EOFException("Snapshot cut short");
+                    }
+                    out.write(buffer, 0, read);
+                    remaining -= read;
+                }
+            }
+            SnapshotFile.Contents snapshot = SnapshotFile.read(file);
+            applier.load(snapshot);
+            position = snapshot.journalPosition();
+            log.info("Loaded the primary snapshot with {} persons and {} meetings at journal position {}",
+                    snapshot.persons().size(), snapshot.meetings().size(), position);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void applyFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length <= 0 || length > JournalCodec.MAX_PAYLOAD_BYTES) {
+            throw new IOException("Corrupt frame length " + length + " at position " + position);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        if (JournalCodec.checksum(payload, 0, length) != checksum) {
+            throw new IOException("Checksum mismatch in frame at position " + position);
+        }
+        applier.apply(JournalCodec.decode(payload));
+        position += JournalCodec.HEADER_BYTES + length;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        follower.interrupt();
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                // the follower thread ends on its own
+            }
+        }
+        try {
+            follower.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
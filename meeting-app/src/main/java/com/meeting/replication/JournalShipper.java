@@ -0,0 +1,186 @@
+package com.meeting.replication;
+
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.SnapshotFile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Primary side of replication: replicas connect over TCP and get the journal streamed to them, each on
+// a thread of its own. The journal is the replication log - frames are shipped exactly as they were
+// made durable, so a replica applies the same records in the same order recovery would.
+//
+//   replica -> primary: int magic | long position to resume from (0 for a new replica)
+//   primary -> replica: SNAPSHOT long bytes | file        the newest snapshot, for a new replica only
+//                       FRAME journal frame                 header included, see JournalCodec
+//                       HEARTBEAT long position | long at  everything before position was shipped, and
+//                                                           it holds every write acknowledged before at
+//                       REFUSED utf reason                  then the connection is closed
+//
+// A heartbeat follows every shipped run of frames and is repeated while the journal is idle; its time
+// is taken before the journal end is read, so a replica that applied up to the heartbeat is no older
+// than it.
+@Slf4j
+public class JournalShipper implements AutoCloseable {
+
+    static final int MAGIC = 0x4D4A5231;
+    static final byte SNAPSHOT = 1;
+    static final byte FRAME = 2;
+    static final byte HEARTBEAT = 3;
+    static final byte REFUSED = 4;
+
+    private final Journal journal;
+    // null when snapshots are off - a new replica then replays the whole journal
+    private final Path snapshotDirectory;
+    private final Duration heartbeat;
+    private final Clock clock;
+    private final ServerSocket server;
+    private final Thread acceptor;
+    private final Set<Socket> replicas = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    public JournalShipper(Journal journal, Path snapshotDirectory, int port, Duration heartbeat, Clock clock) throws IOException {
+        this.journal = journal;
+        this.snapshotDirectory = snapshotDirectory;
+        this.heartbeat = heartbeat;
+        this.clock = clock;
+        this.server = new ServerSocket();
+        server.setReuseAddress(true);
+        server.bind(new InetSocketAddress(port));
+        this.acceptor = new Thread(this::accept, "journal-shipper");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("Shipping the journal to replicas on port {}", server.getLocalPort());
+    }
+
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    public int replicas() {
+        return replicas.size();
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = server.accept();
+                replicas.add(socket);
+                Thread shipping = new Thread(() -> ship(socket), "journal-shipper-" + socket.getRemoteSocketAddress());
+                shipping.setDaemon(true);
+                shipping.start();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Accepting a replica failed", e);
+                }
+            }
+        }
+    }
+
+    private void ship(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16))) {
+            socket.setTcpNoDelay(true);
+            if (in.readInt() != MAGIC) {
+                log.warn("Dropping {} - not a replica", socket.getRemoteSocketAddress());
+                return;
+            }
+            long from = in.readLong();
+            long sent = from == 0 ? sendSnapshot(out) : from;
+            if (sent < journal.startPosition() || sent > journal.position()) {
+                refuse(out, "Position " + sent + " is outside the primary journal [" + journal.startPosition() + ", "
+                        + journal.position() + "] - restart the replica to resync from a snapshot");
+                return;
+            }
+            log.info("Replica {} follows from journal position {}", socket.getRemoteSocketAddress(), sent);
+            while (running) {
+                journal.awaitPosition(sent, heartbeat.toMillis());
+                long at = clock.millis();
+                long[] shipped = {sent};
+                try {
+                    journal.readFrames(sent, frame -> {
+                        try {
+                            out.writeByte(FRAME);
+                            out.write(frame);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        shipped[0] += frame.length;
+                    });
+                } catch (UncheckedIOException e) {
+                    // a snapshot truncated the journal past a lagging replica while it was being read
+                    if (shipped[0] < journal.startPosition()) {
+                        refuse(out, "Position " + shipped[0] + " was truncated from the primary journal"
+                                + " - restart the replica to resync from a snapshot");
+                        return;
+                    }
+                    throw e;
+                }
+                sent = shipped[0];
+                out.writeByte(HEARTBEAT);
+                out.writeLong(sent);
+                out.writeLong(at);
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | UncheckedIOException e) {
+            if (running) {
+                log.info("Replica {} disconnected: {}", socket.getRemoteSocketAddress(), e.getMessage());
+            }
+        } finally {
+            replicas.remove(socket);
+        }
+    }
+
+    // returns the journal position the snapshot covers, 0 when there is none
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+        List<Path> snapshots = snapshotDirectory != null ? SnapshotFile.list(snapshotDirectory) : List.of();
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        // the journal is only trimmed up to the older of the kept snapshots, so it still holds
+        // everything after the newest one
+        Path file = snapshots.get(0);
+        out.writeByte(SNAPSHOT);
+        out.writeLong(Files.size(file));
+        Files.copy(file, out);
+        return SnapshotFile.journalPositionOf(file);
+    }
+
+    private static void refuse(DataOutputStream out, String reason) throws IOException {
+        log.warn("Refusing replica: {}", reason);
+        out.writeByte(REFUSED);
+        out.writeUTF(reason);
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            server.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the replication port", e);
+        }
+        for (Socket socket : replicas) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // the shipping thread ends on its own
+            }
+        }
+    }
+}
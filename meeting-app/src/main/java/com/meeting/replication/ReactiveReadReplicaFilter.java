@@ -0,0 +1,53 @@
+package com.meeting.replication;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// ReadReplicaFilter for the reactive stack - same rules, same answers, applied to /api/ only
+public class ReactiveReadReplicaFilter implements WebFilter {
+
+    private final Supplier<Duration> staleness;
+    private final Duration maxStaleness;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveReadReplicaFilter(Supplier<Duration> staleness, Duration maxStaleness, ObjectMapper objectMapper) {
+        this.staleness = staleness;
+        this.maxStaleness = maxStaleness;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().pathWithinApplication().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        Duration behind = staleness.get();
+        String refusal = ReadReplicaFilter.refusal(exchange.getRequest().getMethod().name(), behind, maxStaleness);
+        ServerHttpResponse response = exchange.getResponse();
+        if (refusal == null) {
+            response.getHeaders().set(ReadReplicaFilter.STALENESS_HEADER, Long.toString(behind.toMillis()));
+            return chain.filter(exchange);
+        }
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ReadReplicaFilter.refusalBody(refusal));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.meeting.replication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// The API of a read replica: writes are refused, reads are served only while the replica's state is
+// at most `maxStaleness` behind the primary. Both are refused with 503, which a load balancer retries
+// on another instance. Served reads carry the staleness they were answered with. Servlet stack;
+// ReactiveReadReplicaFilter does the same on the reactive one.
+public class ReadReplicaFilter extends OncePerRequestFilter {
+
+    public static final String STALENESS_HEADER = "X-Replica-Staleness-Ms";
+
+    private final Supplier<Duration> staleness;
+    private final Duration maxStaleness;
+    private final ObjectMapper objectMapper;
+
+    public ReadReplicaFilter(Supplier<Duration> staleness, Duration maxStaleness, ObjectMapper objectMapper) {
+        this.staleness = staleness;
+        this.maxStaleness = maxStaleness;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration behind = staleness.get();
+        String refusal = refusal(request.getMethod(), behind, maxStaleness);
+        if (refusal != null) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), refusalBody(refusal));
+            return;
+        }
+        response.setHeader(STALENESS_HEADER, Long.toString(behind.toMillis()));
+        chain.doFilter(request, response);
+    }
+
+    // why the request is refused, null when it may be served - shared with the reactive filter
+    static String refusal(String method, Duration behind, Duration maxStaleness) {
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return "This instance is a read replica - send writes to the primary";
+        }
+        if (behind == null) {
+            return "Replica has not caught up with the primary yet";
+        }
+        if (behind.compareTo(maxStaleness) > 0) {
+            return "Replica is " + behind.toMillis() + " ms behind the primary";
+        }
+        return null;
+    }
+
+    static Map<String, Object> refusalBody(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("message", message);
+        body.put("timestamp", LocalDateTime.now());
+        return body;
+    }
+}
@@ -0,0 +1,16 @@
+package com.meeting.service;
+
+import com.meeting.store.BusyInterval;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Free/busy view of one person over [from, to): the merged busy intervals, clipped to the window, and
+// the same calendar at hour granularity as run lengths of alternating free and busy hours starting at
+// runsFrom - the first run is free and may be 0
+public record FreeBusy(String personId, LocalDateTime from, LocalDateTime to, List<BusyInterval> busy,
+                       LocalDateTime runsFrom, int[] runs) {
+
+    public static final int MAX_PERSONS = 1000;
+    public static final int MAX_WINDOW_DAYS = 366;
+}
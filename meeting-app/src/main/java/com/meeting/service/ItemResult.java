@@ -0,0 +1,20 @@
+package com.meeting.service;
+
+// Outcome of one row of a batch operation - either a value or the reason it was rejected
+public record ItemResult<T>(int index, T value, String error) {
+
+    // the error of a valid item of an all-or-nothing batch that was rejected for the other items
+    public static final String BATCH_REJECTED = "Not created because other meetings in the batch were rejected";
+
+    public static <T> ItemResult<T> success(int index, T value) {
+        return new ItemResult<>(index, value, null);
+    }
+
+    public static <T> ItemResult<T> failure(int index, String error) {
+        return new ItemResult<>(index, null, error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.meeting.service;
+
+import com.meeting.entity.Recurrence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One meeting of a batch create. Participants are given by email and resolved once for the whole batch;
+// without an end time the meeting lasts Meeting.DEFAULT_DURATION, without a recurrence it happens once.
+public record MeetingRequest(String title, LocalDateTime startTime, LocalDateTime endTime, String organizerEmail,
+                             List<String> attendeeEmails, Recurrence recurrence) {
+}
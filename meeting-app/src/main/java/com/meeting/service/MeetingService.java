@@ -2,22 +2,79 @@ package com.meeting.service;
 
 import com.meeting.entity.Meeting;
 import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface MeetingService {
-    Meeting createMeeting(String title, LocalDateTime startTime, Person organizer, List<Person> attendees);
+    // meetings without an end time last Meeting.DEFAULT_DURATION
+    default Meeting createMeeting(String title, LocalDateTime startTime, Person organizer, List<Person> attendees) {
+        return createMeeting(title, startTime, defaultEnd(startTime), organizer, attendees);
+    }
 
-    boolean isTimeSlotAvailable(List<Person> persons, LocalDateTime startTime);
+    default Meeting createMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees) {
+        return createMeeting(title, startTime, endTime, organizer, attendees, null);
+    }
+
+    // a recurring meeting is stored and conflict-checked as one series; startTime and endTime are its first occurrence
+    Meeting createMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence);
+
+    List<ItemResult<Meeting>> createMeetings(List<MeetingRequest> requests);
+
+    default CompletableFuture<Meeting> submitMeeting(String title, LocalDateTime startTime, Person organizer, List<Person> attendees) {
+        return submitMeeting(title, startTime, defaultEnd(startTime), organizer, attendees);
+    }
+
+    default CompletableFuture<Meeting> submitMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees) {
+        return submitMeeting(title, startTime, endTime, organizer, attendees, null);
+    }
+
+    CompletableFuture<Meeting> submitMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence);
+
+    default boolean isTimeSlotAvailable(List<Person> persons, LocalDateTime startTime) {
+        return isTimeSlotAvailable(persons, startTime, defaultEnd(startTime));
+    }
+
+    boolean isTimeSlotAvailable(List<Person> persons, LocalDateTime startTime, LocalDateTime endTime);
 
     List<Meeting> getUpcomingMeetingsForPerson(Person person);
 
-    List<LocalDateTime> suggestAvailableTimeSlots(List<Person> participants, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions);
+    List<Meeting> getUpcomingMeetingsForPerson(Person person, LocalDateTime until, int limit);
+
+    // meetings starting after `after` instead of now - passing the last start time seen walks a schedule
+    // chunk by chunk, each chunk read from the then-current snapshot
+    List<Meeting> getUpcomingMeetingsForPerson(Person person, LocalDateTime after, LocalDateTime until, int limit);
+
+    default List<LocalDateTime> suggestAvailableTimeSlots(List<Person> participants, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions) {
+        return suggestAvailableTimeSlots(participants, searchStart, searchEnd, maxSuggestions, Meeting.DEFAULT_DURATION);
+    }
+
+    // start times before searchEnd where everyone is free for the whole duration
+    List<LocalDateTime> suggestAvailableTimeSlots(List<Person> participants, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions, Duration duration);
+
+    List<RankedSlot> suggestRankedTimeSlots(List<Person> participants, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions);
+
+    List<QuorumSlot> suggestQuorumTimeSlots(List<Person> required, List<Person> optional, int minOptionalFree, LocalDateTime searchStart, LocalDateTime searchEnd, int maxSuggestions);
+
+    List<FreeBusy> getFreeBusy(List<Person> persons, LocalDateTime from, LocalDateTime to);
 
     List<Meeting> getAllMeetings();
 
+    Page<Meeting> getMeetingsPage(String afterCursor, int limit);
+
+    // meetings moved out of the hot store once they ended, in the order they were archived - all of
+    // them, or only one person's when personId is given
+    Page<Meeting> getMeetingHistory(String personId, String afterCursor, int limit);
+
+    // current and future meetings first, then the archive
     Optional<Meeting> findById(String id);
+
+    private static LocalDateTime defaultEnd(LocalDateTime startTime) {
+        return startTime == null ? null : startTime.plus(Meeting.DEFAULT_DURATION);
+    }
 }
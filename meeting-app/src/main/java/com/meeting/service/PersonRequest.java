@@ -0,0 +1,5 @@
+package com.meeting.service;
+
+// One row of a bulk person create - trimmed and checked by the service like createPerson's arguments
+public record PersonRequest(String name, String email) {
+}
@@ -2,16 +2,21 @@ package com.meeting.service;
 
 import com.meeting.entity.Person;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PersonService {
     Person createPerson(String name, String email);
 
+    List<ItemResult<Person>> createPersons(Collection<PersonRequest> rows);
+
     boolean emailExists(String email);
 
     List<Person> getAllPersons();
 
+    Page<Person> getPersonsPage(String afterCursor, int limit);
+
     Optional<Person> findByEmail(String email);
 
     Optional<Person> findById(String id);
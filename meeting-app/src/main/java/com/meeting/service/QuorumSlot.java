@@ -0,0 +1,7 @@
+package com.meeting.service;
+
+import java.time.LocalDateTime;
+
+// A suggested hour where every required participant is free, with how many of the optional ones are
+public record QuorumSlot(LocalDateTime startTime, int optionalFree, int optionalTotal) {
+}
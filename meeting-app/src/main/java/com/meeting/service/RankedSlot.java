@@ -0,0 +1,7 @@
+package com.meeting.service;
+
+import java.time.LocalDateTime;
+
+// A suggested start hour and its preference score in [0, 1], higher is better
+public record RankedSlot(LocalDateTime startTime, double score) {
+}
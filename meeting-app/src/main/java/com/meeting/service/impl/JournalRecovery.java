@@ -0,0 +1,76 @@
+package com.meeting.service.impl;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.JournalRecord;
+import com.meeting.persistence.SnapshotFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+// Rebuilds the in-memory stores once all beans exist and before the web server starts taking
+// requests: the newest readable snapshot is loaded first, then only the journal after its position
+// is replayed. Persons are journaled before any meeting that references them, so a single pass in
+// file order is enough.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JournalRecovery implements SmartInitializingSingleton {
+
+    private final MeetingProperties properties;
+    private final Journal journal;
+    private final PersonServiceImpl personService;
+    private final MeetingServiceImpl meetingService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.getReplication().isReplica()) {
+            log.info("Starting as a replica - the stores are filled from the primary, not from local files");
+            return;
+        }
+        long started = System.nanoTime();
+        long from = properties.getSnapshot().isEnabled() ? loadSnapshot() : 0;
+        int[] persons = new int[1];
+        int[] meetings = new int[1];
+        journal.replay(from, record -> {
+            if (record instanceof JournalRecord.PersonCreated person) {
+                personService.restore(person);
+                persons[0]++;
+            } else if (record instanceof JournalRecord.MeetingsCreated batch) {
+                meetingService.restore(batch);
+                meetings[0] += batch.meetings().size();
+            }
+        });
+        log.info("Replayed {} persons and {} meetings from the journal in {} ms",
+                persons[0], meetings[0], (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // returns the journal position the snapshot covers, 0 when there is none
+    private long loadSnapshot() {
+        try {
+            for (Path file : SnapshotFile.list(Path.of(properties.getSnapshot().getDirectory()))) {
+                long started = System.nanoTime();
+                SnapshotFile.Contents contents;
+                try {
+                    contents = SnapshotFile.read(file);
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable snapshot {}", file, e);
+                    continue;
+                }
+                personService.load(contents.persons());
+                meetingService.load(contents.meetings());
+                log.info("Loaded snapshot {} with {} persons and {} meetings in {} ms", file, contents.persons().size(),
+                        contents.meetings().size(), (System.nanoTime() - started) / 1_000_000);
+                return contents.journalPosition();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return 0;
+    }
+}
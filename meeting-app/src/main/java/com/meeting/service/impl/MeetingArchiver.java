@@ -0,0 +1,65 @@
+package com.meeting.service.impl;
+
+import com.meeting.config.MeetingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Retention sweeper: periodically moves meetings that ended more than the retention ago out of the hot
+// store into the packed, read-only archive. Each sweep is one pass over the hot root with bookings held
+// off. The first sweep runs as soon as the application is ready - after recovery, which loads archived
+// meetings from the snapshot back into the hot store.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingArchiver {
+
+    private final MeetingProperties properties;
+    private final MeetingServiceImpl meetingService;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        MeetingProperties.Archive archive = properties.getArchive();
+        if (!archive.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "meeting-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (Exception e) {
+                log.error("Archive sweep failed", e);
+            }
+        }, 0, archive.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public int sweep() {
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getArchive().getRetention());
+        int archived = meetingService.archive(cutoff);
+        log.info("Archived {} meetings that ended by {} in {} ms", archived, cutoff, (System.nanoTime() - started) / 1_000_000);
+        return archived;
+    }
+}
@@ -0,0 +1,97 @@
+package com.meeting.service.impl;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.metrics.SchedulingMetrics;
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.JournalRecord;
+import com.meeting.persistence.SnapshotFile;
+import com.meeting.replication.JournalFollower;
+import com.meeting.replication.JournalShipper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+// Journal-shipped read replicas. The primary takes every write and streams its journal to the replicas;
+// a replica starts empty - it has no journal or snapshots of its own - takes the primary's newest
+// snapshot, then applies the shipped records to its stores exactly like recovery does. Replicas refuse
+// writes and refuse reads once they are more than meeting.replication.max-staleness behind (see
+// ReplicationConfig). Started once the application is ready, i.e. after the primary's own recovery.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingReplication {
+
+    private final MeetingProperties properties;
+    private final Journal journal;
+    private final PersonServiceImpl personService;
+    private final MeetingServiceImpl meetingService;
+    private final SchedulingMetrics metrics;
+    private final Clock clock;
+    private JournalShipper shipper;
+    private JournalFollower follower;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() throws IOException {
+        MeetingProperties.Replication replication = properties.getReplication();
+        switch (replication.getRole()) {
+            case PRIMARY -> {
+                if (journal == Journal.NONE) {
+                    log.warn("Replication ships the journal - meeting.replication.role=primary is ignored without it");
+                    return;
+                }
+                Path snapshots = properties.getSnapshot().isEnabled() ? Path.of(properties.getSnapshot().getDirectory()) : null;
+                shipper = new JournalShipper(journal, snapshots, replication.getPort(), replication.getHeartbeat(), clock);
+                metrics.primary(shipper);
+            }
+            case REPLICA -> {
+                follower = new JournalFollower(replication.getPrimaryHost(), replication.getPrimaryPort(),
+                        replication.getReconnectDelay(), new Applier(), clock);
+                metrics.replica(follower);
+            }
+            case NONE -> {
+            }
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (shipper != null) {
+            shipper.close();
+        }
+        if (follower != null) {
+            follower.close();
+        }
+    }
+
+    // null on an instance that is not a replica or has not heard from the primary yet
+    public Duration staleness() {
+        return follower != null ? follower.staleness() : null;
+    }
+
+    // the follower thread is the replica's only writer - writes are refused at the endpoints
+    private class Applier implements JournalFollower.Applier {
+
+        @Override
+        public void load(SnapshotFile.Contents snapshot) {
+            personService.load(snapshot.persons());
+            meetingService.load(snapshot.meetings());
+        }
+
+        @Override
+        public void apply(JournalRecord record) {
+            if (record instanceof JournalRecord.PersonCreated person) {
+                personService.restore(person);
+            } else if (record instanceof JournalRecord.MeetingsCreated batch) {
+                meetingService.restore(batch);
+            }
+        }
+    }
+}
@@ -1,32 +1,169 @@
 package com.meeting.service.impl;
 
+import com.meeting.concurrent.MeetingPartitions;
+import com.meeting.concurrent.MeetingSequencer;
+import com.meeting.concurrent.StripedLocks;
+import com.meeting.config.MeetingProperties;
 import com.meeting.entity.Meeting;
 import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.jfr.ConflictCheckEvent;
+import com.meeting.jfr.CreateMeetingEvent;
+import com.meeting.jfr.SlotSearchEvent;
+import com.meeting.metrics.SchedulingMetrics;
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.JournalRecord;
+import com.meeting.service.FreeBusy;
+import com.meeting.service.ItemResult;
+import com.meeting.service.MeetingRequest;
 import com.meeting.service.MeetingService;
+import com.meeting.service.Page;
 import com.meeting.service.PersonService;
-import lombok.RequiredArgsConstructor;
+import com.meeting.service.QuorumSlot;
+import com.meeting.service.RankedSlot;
+import com.meeting.store.BusyCalendar;
+import com.meeting.store.BusyInterval;
+import com.meeting.store.MeetingArchive;
+import com.meeting.store.MeetingEntry;
+import com.meeting.store.MeetingSnapshot;
+import com.meeting.store.MeetingStore;
+import com.meeting.store.PersonMeetingIndex;
+import com.meeting.store.RecurringSeries;
+import com.meeting.store.SlotRanker;
+import com.meeting.store.SuggestionCache;
+import com.meeting.util.Utility;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MeetingServiceImpl implements MeetingService {
 
     private final PersonService personService;
     
-    // In-memory storage for meetings
-    private final Map<String, Meeting> meetingsById = new ConcurrentHashMap<>();
-    private final List<Meeting> meetings = Collections.synchronizedList(new ArrayList<>());
+    // In-memory storage for meetings - versioned, readers work on immutable snapshots
+    private final MeetingStore store = new MeetingStore();
+    // ended meetings, packed off-heap and read-only - filled by the archiver
+    private final MeetingArchive archive;
+    // bookings may not start before the latest archive cutoff - the meetings they could conflict with are gone
+    private volatile LocalDateTime archivedUntil;
+
+    // striped mode - booking locks keyed by person uuid, check and insert happen under the participants' stripes
+    // sequencer mode - the writer thread owns the indexes, so no locks are taken
+    // partitioned mode - one writer thread per partition of persons, a booking runs on its participants' partitions;
+    // they all write the same store, reads run in place
+    private final StripedLocks bookingLocks;
+    private final MeetingSequencer sequencer;
+    private final MeetingPartitions partitions;
+    private final int maxMeetingsPerBatch;
+    private final Clock clock;
+    // a create is acknowledged only once its journal record is durable - other readers see it as soon as it is linked in
+    private final Journal journal;
+    private final SchedulingMetrics metrics;
+    // null when disabled
+    private final SuggestionCache suggestionCache;
+    private final SlotRanker slotRanker;
+    private final Duration maxRankingWindow;
+
+    public MeetingServiceImpl(PersonService personService) {
+        this(personService, new MeetingProperties(), Clock.systemDefaultZone());
+    }
+
+    public MeetingServiceImpl(PersonService personService, MeetingProperties properties) {
+        this(personService, properties, Clock.systemDefaultZone());
+    }
+
+    public MeetingServiceImpl(PersonService personService, MeetingProperties properties, Clock clock) {
+        this(personService, properties, clock, Journal.NONE);
+    }
+
+    public MeetingServiceImpl(PersonService personService, MeetingProperties properties, Clock clock, Journal journal) {
+        this(personService, properties, clock, journal, SchedulingMetrics.NONE);
+    }
+
+    @Autowired
+    public MeetingServiceImpl(PersonService personService, MeetingProperties properties, Clock clock, Journal journal, SchedulingMetrics metrics) {
+        this.personService = personService;
+        this.archive = new MeetingArchive(id -> personService.findById(id).orElse(null));
+        this.clock = clock;
+        this.journal = journal;
+        this.metrics = metrics;
+        metrics.storeSize("meetings", () -> store.snapshot().size());
+        metrics.storeSize("archived-meetings", archive::size);
+        MeetingProperties.Booking booking = properties.getBooking();
+        this.bookingLocks = booking.getMode() == MeetingProperties.BookingMode.STRIPED ? new StripedLocks(booking.getStripes()) : null;
+        this.sequencer = booking.getMode() == MeetingProperties.BookingMode.SEQUENCER
+                ? new MeetingSequencer("meeting-writer", booking.getQueueCapacity(), booking.getMaxBatch()) : null;
+        this.partitions = booking.getMode() == MeetingProperties.BookingMode.PARTITIONED
+                ? new MeetingPartitions("meeting-partition", booking.getPartitions(), booking.getQueueCapacity(), booking.getMaxBatch()) : null;
+        MeetingProperties.SuggestionCache cache = properties.getSuggestionCache();
+        if (cache.isEnabled()) {
+            this.suggestionCache = new SuggestionCache(store.busyCalendar(), cache.getMaxEntries(), cache.getMaxMemory().toBytes());
+            metrics.suggestionCache(suggestionCache);
+        } else {
+            this.suggestionCache = null;
+        }
+        MeetingProperties.Ranking ranking = properties.getRanking();
+        this.slotRanker = new SlotRanker(store.busyCalendar(), new SlotRanker.Preferences(
+                ranking.getWorkdayStart(), ranking.getWorkdayEnd(), ranking.getPreferredStart(), ranking.getPreferredEnd(),
+                ranking.getMinGapHours(), ranking.getTimeOfDayWeight(), ranking.getSpacingWeight(), ranking.getFragmentationWeight()),
+                ranking.getChunkHours());
+        this.maxRankingWindow = ranking.getMaxWindow();
+        this.maxMeetingsPerBatch = booking.getMaxMeetingsPerBatch();
+        log.info("Meeting booking mode: {}", booking.getMode());
+    }
 
     @Override
-    public Meeting createMeeting(String title, LocalDateTime startTime, Person organizer, List<Person> attendees) {
-        // Validate that all persons involved exist in the system
+    public Meeting createMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence) {
+        // JFR events are plain objects until a recording enables them - then only slow calls are committed
+        CreateMeetingEvent event = new CreateMeetingEvent();
+        event.begin();
+        try {
+            List<Person> allParticipants = validateParticipants(organizer, attendees);
+            Meeting meeting = await(exclusive(participantIds(allParticipants),
+                    () -> book(title, startTime, endTime, organizer, attendees, recurrence, allParticipants, event)));
+            event.outcome = "created";
+            return meeting;
+        } catch (RuntimeException e) {
+            if (event.outcome == null) {
+                event.outcome = e instanceof IllegalArgumentException ? "invalid" : "error";
+            }
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.participants = attendees == null ? 1 : attendees.size() + 1;
+                event.windowHours = startTime == null || endTime == null ? 0
+                        : Math.max(0, Utility.toEpochHourCeil(endTime) - Utility.toEpochHour(startTime));
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Meeting> submitMeeting(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence) {
+        List<Person> allParticipants;
+        try {
+            allParticipants = validateParticipants(organizer, attendees);
+            return exclusive(participantIds(allParticipants),
+                    () -> book(title, startTime, endTime, organizer, attendees, recurrence, allParticipants, null));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Validate that all persons involved exist in the system
+    private List<Person> validateParticipants(Person organizer, List<Person> attendees) {
         List<Person> allParticipants = new ArrayList<>(attendees);
         allParticipants.add(organizer);
         
@@ -35,75 +172,613 @@ public class MeetingServiceImpl implements MeetingService {
                 throw new IllegalArgumentException("Person with email " + person.getEmail() + " does not exist in the system");
             }
         }
-        
-        // Check for scheduling conflicts
-        if (!isTimeSlotAvailable(allParticipants, startTime)) {
-            throw new IllegalArgumentException("One or more participants have a scheduling conflict at " + startTime);
+        return allParticipants;
+    }
+
+    // Runs a booking step with the participants' calendars to itself: under their stripes, on the writer
+    // thread, or on their partitions. Two bookings that share a participant serialize, disjoint bookings
+    // run in parallel (except in sequencer mode). Everything is released before waiting for the journal,
+    // so the fsync is shared with other writers.
+    private <T> CompletableFuture<T> exclusive(Collection<String> personIds, Supplier<CompletableFuture<T>> booking) {
+        if (sequencer != null) {
+            return sequencer.submit(booking::get).thenCompose(durable -> durable);
         }
-        
-        Meeting meeting = new Meeting(title.trim(), startTime, organizer, attendees);
-        meetingsById.put(meeting.getUuid(), meeting);
-        meetings.add(meeting);
-        
+        if (partitions != null) {
+            int[] owners = partitions.partitionsOf(personIds);
+            // a batch where every item was invalid still runs, on any partition
+            return partitions.submit(owners.length == 0 ? new int[]{0} : owners, booking::get).thenCompose(durable -> durable);
+        }
+        try (StripedLocks.Held ignored = bookingLocks.lockAll(personIds)) {
+            return booking.get();
+        }
+    }
+
+    // Check for scheduling conflicts and insert as one step - caller holds the stripes or is the writer thread.
+    // The record is queued before the meeting is linked in, so journal order never contradicts what
+    // readers saw; the returned future completes once the record is durable. Readers and conflict checks
+    // see the meeting before that (read-uncommitted, see Journal). The event, if any, gets the
+    // conflict check's figures - the caller reads them after the future completes.
+    private CompletableFuture<Meeting> book(String title, LocalDateTime startTime, LocalDateTime endTime, Person organizer, List<Person> attendees, Recurrence recurrence, List<Person> allParticipants, CreateMeetingEvent event) {
+        // validates the times and the rule before they are used for the conflict check
+        Meeting meeting = new Meeting(title.trim(), startTime, endTime, organizer, attendees, recurrence);
+        checkNotArchived(meeting);
+        PersonMeetingIndex.Scan scan = checkConflicts(allParticipants, meeting);
+        if (event != null) {
+            event.meetingsScanned = scan.meetingsScanned();
+        }
+        if (scan.conflict()) {
+            metrics.conflictRejected();
+            if (event != null) {
+                event.outcome = "conflict";
+            }
+            throw new IllegalArgumentException(conflictMessage(meeting));
+        }
+
+        CompletableFuture<Long> durable = journal.append(JournalRecord.MeetingsCreated.of(List.of(meeting)));
+        MeetingEntry entry = store.add(meeting);
+
         log.info("Successfully created meeting: {}", meeting.getUuid());
-        return meeting;
+        return unlinkIfLost(durable, List.of(entry)).thenApply(ignored -> meeting);
     }
 
     @Override
-    public boolean isTimeSlotAvailable(List<Person> persons, LocalDateTime startTime) {
-        if (persons == null || persons.isEmpty() || startTime == null) {
+    public List<ItemResult<Meeting>> createMeetings(List<MeetingRequest> requests) {
+        if (requests.size() > maxMeetingsPerBatch) {
+            throw new IllegalArgumentException("At most " + maxMeetingsPerBatch + " meetings per batch");
+        }
+        // every distinct email is resolved once for the whole batch
+        Map<String, Optional<Person>> personsByEmail = new HashMap<>();
+        String[] errors = new String[requests.size()];
+        List<Meeting> drafts = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        Set<String> participantIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                Meeting draft = draftMeeting(requests.get(i), personsByEmail);
+                drafts.set(i, draft);
+                participantIds.addAll(participantIds(draft.getAttendees()));
+                participantIds.add(draft.getOrganizer().getUuid());
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        return await(exclusive(participantIds, () -> bookAll(drafts, errors)));
+    }
+
+    private Meeting draftMeeting(MeetingRequest request, Map<String, Optional<Person>> personsByEmail) {
+        if (request == null) {
+            throw new IllegalArgumentException("Meeting cannot be null");
+        }
+        if (request.title() == null || request.title().trim().isEmpty()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (request.startTime() == null) {
+            throw new IllegalArgumentException("Start time is required");
+        }
+        if (request.attendeeEmails() == null || request.attendeeEmails().isEmpty()) {
+            throw new IllegalArgumentException("At least one attendee email is required");
+        }
+        Person organizer = resolve(request.organizerEmail(), personsByEmail);
+        List<Person> attendees = new ArrayList<>(request.attendeeEmails().size());
+        for (String email : request.attendeeEmails()) {
+            attendees.add(resolve(email, personsByEmail));
+        }
+        LocalDateTime endTime = request.endTime() != null ? request.endTime() : request.startTime().plus(Meeting.DEFAULT_DURATION);
+        return new Meeting(request.title().trim(), request.startTime(), endTime, organizer, attendees, request.recurrence());
+    }
+
+    private Person resolve(String email, Map<String, Optional<Person>> personsByEmail) {
+        String key = email == null ? "" : email.trim().toLowerCase();
+        return personsByEmail.computeIfAbsent(key, personService::findByEmail)
+                .orElseThrow(() -> new IllegalArgumentException("Person with email " + email + " does not exist in the system"));
+    }
+
+    // all-or-nothing: caller holds the stripes of every participant in the batch or is the writer thread
+    private CompletableFuture<List<ItemResult<Meeting>>> bookAll(List<Meeting> drafts, String[] errors) {
+        // conflicts with meetings already stored
+        for (int i = 0; i < drafts.size(); i++) {
+            Meeting draft = drafts.get(i);
+            if (draft != null && isArchived(draft.getStartTime())) {
+                errors[i] = archivedMessage();
+            } else if (draft != null && checkConflicts(PersonMeetingIndex.participantsOf(draft), draft).conflict()) {
+                errors[i] = conflictMessage(draft);
+                metrics.conflictRejected();
+            }
+        }
+        // conflicts between meetings of the same batch - per person
+        Map<String, List<Integer>> itemsByPerson = new HashMap<>();
+        for (int i = 0; i < drafts.size(); i++) {
+            Meeting draft = drafts.get(i);
+            if (draft != null) {
+                for (String personId : new HashSet<>(participantIds(PersonMeetingIndex.participantsOf(draft)))) {
+                    itemsByPerson.computeIfAbsent(personId, id -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        for (List<Integer> items : itemsByPerson.values()) {
+            // a series is tested against every other item of the person, arithmetically
+            List<Integer> oneOffs = new ArrayList<>(items.size());
+            for (int k = 0; k < items.size(); k++) {
+                Meeting draft = drafts.get(items.get(k));
+                if (draft.getRecurrence() == null) {
+                    oneOffs.add(items.get(k));
+                    continue;
+                }
+                int item = items.get(k);
+                RecurringSeries series = new RecurringSeries(draft);
+                for (int other : items) {
+                    // a pair is reported once, on its later item
+                    int later = Math.max(item, other);
+                    if (other != item && errors[later] == null && overlaps(series, drafts.get(other))) {
+                        errors[later] = "Conflicts with item " + Math.min(item, other) + " of the same batch at " + drafts.get(later).getStartTime();
+                        metrics.conflictRejected();
+                    }
+                }
+            }
+            // one-offs sorted by start: one overlaps an earlier one exactly when it starts before the latest end
+            // so far - a long meeting can overlap several that follow it, not only its neighbour
+            oneOffs.sort(Comparator.comparing(i -> drafts.get(i).getStartTime()));
+            int latest = -1;
+            for (int item : oneOffs) {
+                Meeting next = drafts.get(item);
+                if (latest >= 0 && next.getStartTime().isBefore(drafts.get(latest).getEndTime()) && errors[item] == null) {
+                    errors[item] = "Conflicts with item " + latest + " of the same batch at " + next.getStartTime();
+                    metrics.conflictRejected();
+                }
+                if (latest < 0 || next.getEndTime().isAfter(drafts.get(latest).getEndTime())) {
+                    latest = item;
+                }
+            }
+        }
+
+        List<ItemResult<Meeting>> results = new ArrayList<>(drafts.size());
+        boolean rejected = Arrays.stream(errors).anyMatch(Objects::nonNull);
+        if (rejected) {
+            for (int i = 0; i < drafts.size(); i++) {
+                results.add(ItemResult.failure(i, errors[i] != null ? errors[i] : ItemResult.BATCH_REJECTED));
+            }
+            log.info("Rejected batch of {} meetings", drafts.size());
+            return CompletableFuture.completedFuture(results);
+        }
+        // the batch is a single journal record, so replay restores all of it or none of it
+        CompletableFuture<Long> durable = journal.append(JournalRecord.MeetingsCreated.of(drafts));
+        List<MeetingEntry> entries = store.addAll(drafts);
+        for (int i = 0; i < drafts.size(); i++) {
+            results.add(ItemResult.success(i, drafts.get(i)));
+        }
+        log.info("Successfully created batch of {} meetings", drafts.size());
+        return unlinkIfLost(durable, entries).thenApply(ignored -> results);
+    }
+
+    // A booking whose record did not become durable must not stay visible - it would hold its slots and
+    // then vanish on restart. It is unlinked under the same exclusion as a booking before the caller sees
+    // the failure; that runs off the journal's flusher, which a booker may be waiting on.
+    private CompletableFuture<Long> unlinkIfLost(CompletableFuture<Long> durable, List<MeetingEntry> entries) {
+        return durable.exceptionallyComposeAsync(error -> {
+            Set<String> participantIds = new HashSet<>();
+            for (MeetingEntry entry : entries) {
+                participantIds.addAll(participantIds(PersonMeetingIndex.participantsOf(entry.getMeeting())));
+            }
+            return exclusive(participantIds, () -> {
+                store.unlink(entries);
+                log.warn("Unlinked {} meetings whose journal record was lost", entries.size());
+                return CompletableFuture.<Long>failedFuture(error);
+            });
+        });
+    }
+
+    // journal replay - the batch was validated when it was written, so it is only linked in
+    void restore(JournalRecord.MeetingsCreated record) {
+        List<Meeting> meetings = new ArrayList<>(record.meetings().size());
+        for (JournalRecord.MeetingData data : record.meetings()) {
+            Optional<Person> organizer = personService.findById(data.organizerId());
+            List<Person> attendees = new ArrayList<>(data.attendeeIds().size());
+            for (String attendeeId : data.attendeeIds()) {
+                personService.findById(attendeeId).ifPresent(attendees::add);
+            }
+            if (organizer.isEmpty() || attendees.size() != data.attendeeIds().size()) {
+                log.warn("Skipping journaled batch with meeting {} - unknown participant", data.uuid());
+                return;
+            }
+            meetings.add(Meeting.builder()
+                    .uuid(data.uuid())
+                    .title(data.title())
+                    .startTime(data.startTime())
+                    .endTime(data.endTime())
+                    .organizer(organizer.get())
+                    .attendees(attendees)
+                    .recurrence(data.recurrence())
+                    .build());
+        }
+        store.addAll(meetings);
+    }
+
+    // cold start from a snapshot, before any booking
+    void load(List<Meeting> meetings) {
+        store.load(meetings);
+    }
+
+    // runs the action while no booking is in flight - with every stripe or every partition held, or on the writer thread
+    <T> T quiesce(Supplier<T> action) {
+        if (sequencer != null) {
+            return await(sequencer.submit(action::get));
+        }
+        if (partitions != null) {
+            return await(partitions.submitAll(action::get));
+        }
+        try (StripedLocks.Held ignored = bookingLocks.lockEverything()) {
+            return action.get();
+        }
+    }
+
+    MeetingSnapshot snapshot() {
+        return store.snapshot();
+    }
+
+    // read together with snapshot() inside one quiesce, the two hold every meeting exactly once
+    List<Meeting> archivedMeetings() {
+        return archive.meetings();
+    }
+
+    // Moves every meeting that ended at or before the cutoff into the archive, with bookings held off for
+    // the move. From then on a booking must start at or after the cutoff: an earlier one could overlap an
+    // archived meeting, which conflict checks no longer see. Returns how many meetings were moved.
+    public int archive(LocalDateTime cutoff) {
+        return quiesce(() -> {
+            int archived = store.expire(cutoff, archive::append).size();
+            if (archivedUntil == null || cutoff.isAfter(archivedUntil)) {
+                archivedUntil = cutoff;
+            }
+            return archived;
+        });
+    }
+
+    // slot searches start at the archive cutoff - nothing before it can be booked
+    private LocalDateTime bookableFrom(LocalDateTime startDate) {
+        LocalDateTime until = archivedUntil;
+        return until != null && startDate.isBefore(until) ? until : startDate;
+    }
+
+    private boolean isArchived(LocalDateTime startTime) {
+        LocalDateTime until = archivedUntil;
+        return until != null && startTime.isBefore(until);
+    }
+
+    private void checkNotArchived(Meeting meeting) {
+        if (isArchived(meeting.getStartTime())) {
+            throw new IllegalArgumentException(archivedMessage());
+        }
+    }
+
+    private String archivedMessage() {
+        return "Meetings before " + archivedUntil + " are archived - a new meeting cannot start before then";
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public boolean isTimeSlotAvailable(List<Person> persons, LocalDateTime startTime, LocalDateTime endTime) {
+        if (persons == null || persons.isEmpty() || startTime == null || endTime == null || !startTime.isBefore(endTime)) {
+            return false;
+        }
+        if (isArchived(startTime)) {
             return false;
         }
         
-        LocalDateTime endTime = startTime.plusHours(1);
-        
-        return meetings.stream()
-                .filter(meeting -> meeting.involvesAnyPerson(persons))
-                // to ensure no meeting existing during suggested startTime and endTime
-                // example - startTime 2 endTime 3
-                // meeting time = start 1 end 2 then >> 1 is before 3 (endTime) and 2 (startTime) is not before 2 > result allow
-                // meeting time = start 2 end 3 then >> 2 is before 3 (endTime) and 2 (startTime) is before 3 > result deny
-                // meeting time = start 3 end 4 then >> 3 is not before 3 (endTime) and 2 (startTime) is before 4 > result allow
-                .noneMatch(meeting ->  startTime.isBefore(meeting.getEndTime()) && meeting.getStartTime().isBefore(endTime));
+        return !checkConflicts(persons, startTime, endTime).conflict();
+    }
+
+    private static boolean overlaps(RecurringSeries series, Meeting other) {
+        return other.getRecurrence() != null ? series.overlaps(new RecurringSeries(other))
+                : series.overlaps(Utility.toEpochMinute(other.getStartTime()), Utility.toEpochMinuteCeil(other.getEndTime()));
+    }
+
+    private static String conflictMessage(Meeting meeting) {
+        return meeting.getRecurrence() == null
+                ? "One or more participants have a scheduling conflict at " + meeting.getStartTime()
+                : "One or more participants have a scheduling conflict with the series starting at " + meeting.getStartTime();
+    }
+
+    private PersonMeetingIndex.Scan checkConflicts(List<Person> persons, Meeting meeting) {
+        RecurringSeries series = meeting.getRecurrence() == null ? null : new RecurringSeries(meeting);
+        return checkConflicts(persons, meeting.getStartTime(), meeting.getEndTime(), series);
+    }
+
+    private PersonMeetingIndex.Scan checkConflicts(List<Person> persons, LocalDateTime startTime, LocalDateTime endTime) {
+        return checkConflicts(persons, startTime, endTime, null);
+    }
+
+    // a series is checked as a whole - startTime and endTime are its first occurrence
+    private PersonMeetingIndex.Scan checkConflicts(List<Person> persons, LocalDateTime startTime, LocalDateTime endTime, RecurringSeries series) {
+        ConflictCheckEvent event = new ConflictCheckEvent();
+        event.begin();
+
+        // only the participants' own calendars are probed - O(participants x log meetings-per-person)
+        // a meeting conflicts when it starts before endTime and ends after startTime
+        // example - startTime 2 endTime 3
+        // meeting time = start 1 end 2 then >> 1 is before 3 (endTime) and 2 (startTime) is not before 2 > result allow
+        // meeting time = start 2 end 3 then >> 2 is before 3 (endTime) and 2 (startTime) is before 3 > result deny
+        // meeting time = start 3 end 4 then >> 3 is not before 3 (endTime) and 2 (startTime) is before 4 > result allow
+        PersonMeetingIndex.Scan scan = series != null ? store.personIndex().scan(persons, series)
+                : store.personIndex().scan(persons, startTime, endTime);
+        event.end();
+        metrics.meetingsScanned(scan.meetingsScanned());
+        if (event.shouldCommit()) {
+            event.participants = persons.size();
+            event.windowHours = Math.max(0, Utility.toEpochHourCeil(endTime) - Utility.toEpochHour(startTime));
+            event.meetingsScanned = scan.meetingsScanned();
+            event.outcome = scan.conflict() ? "conflict" : "free";
+            event.commit();
+        }
+        return scan;
     }
 
     @Override
     public List<Meeting> getUpcomingMeetingsForPerson(Person person) {
+        return getUpcomingMeetingsForPerson(person, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Meeting> getUpcomingMeetingsForPerson(Person person, LocalDateTime until, int limit) {
+        return getUpcomingMeetingsForPerson(person, LocalDateTime.now(clock), until, limit);
+    }
+
+    @Override
+    public List<Meeting> getUpcomingMeetingsForPerson(Person person, LocalDateTime after, LocalDateTime until, int limit) {
         if (person == null) {
             return new ArrayList<>();
         }
-        // to fetch meetings after current time - sorted by start time to display it properly
-        return meetings.stream()
-                .filter(meeting -> meeting.getStartTime().isAfter(LocalDateTime.now()))
-                .filter(meeting -> meeting.getOrganizer().equals(person) || meeting.getAttendees().contains(person))
-                .sorted(Comparator.comparing(Meeting::getStartTime))
-                .collect(Collectors.toList());
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (after == null) {
+            throw new IllegalArgumentException("After cannot be null");
+        }
+        // the person's index is already sorted by start time, so this is a tail view from `after`: O(log n + limit)
+        return store.upcomingFor(person.getUuid(), after, until, limit);
     }
 
     @Override
-    public List<LocalDateTime> suggestAvailableTimeSlots(List<Person> participants, LocalDateTime startDate, LocalDateTime endDate, int maxSuggestions) {
+    public List<LocalDateTime> suggestAvailableTimeSlots(List<Person> participants, LocalDateTime startDate, LocalDateTime endDate, int maxSuggestions, Duration duration) {
+        SlotSearchEvent event = new SlotSearchEvent();
+        event.begin();
+        try {
+            List<LocalDateTime> suggestions = findSlots(participants, startDate, endDate, maxSuggestions, duration, event);
+            event.suggestions = suggestions.size();
+            event.outcome = suggestions.isEmpty() ? "none" : "found";
+            return suggestions;
+        } catch (RuntimeException e) {
+            event.outcome = e instanceof IllegalArgumentException ? "invalid" : "error";
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.participants = participants == null ? 0 : participants.size();
+                event.commit();
+            }
+        }
+    }
+
+    private List<LocalDateTime> findSlots(List<Person> participants, LocalDateTime startDate, LocalDateTime endDate, int maxSuggestions, Duration duration, SlotSearchEvent event) {
         suggestAvailableTimeSlotsValidation(participants, startDate, endDate);
+        if (duration == null || duration.isNegative() || duration.isZero() || duration.toSecondsPart() != 0
+                || duration.compareTo(Meeting.MAX_DURATION) > 0) {
+            throw new IllegalArgumentException("Duration must be whole minutes, at most " + Meeting.MAX_DURATION.toHours() + " hours");
+        }
+        LocalDateTime searchStart = bookableFrom(startDate);
+        if (!searchStart.isBefore(endDate)) {
+            return new ArrayList<>();
+        }
+        // candidates start on the slot grid - if the start time is off the grid, move to the NEXT step;
+        // every slot starting before endDate is a candidate
+        Duration step = slotStep(duration);
+        long stepMinutes = step.toMinutes();
+        long fromMinute = Math.floorDiv(Utility.toEpochMinuteCeil(searchStart) + stepMinutes - 1, stepMinutes) * stepMinutes;
+        long toMinute = Utility.toEpochMinuteCeil(endDate);
         List<LocalDateTime> suggestions = new ArrayList<>();
-        LocalDateTime current = startDate.withMinute(0).withSecond(0).withNano(0);
-        // If start time is not at hr mark, move to NEXT hour
-        if (startDate.getMinute() != 0 || startDate.getSecond() != 0 || startDate.getNano() != 0) {
-            current = current.plusHours(1);
+        SuggestionCache.Key key = suggestionCache == null ? null
+                : SuggestionCache.Key.of(participants, fromMinute, toMinute, duration.toMinutes(), maxSuggestions);
+        List<Long> freeSlots;
+        boolean cached = false;
+        if (key == null) {
+            freeSlots = searchFreeSlots(participants, searchStart, endDate, duration, step, fromMinute, toMinute, maxSuggestions);
+        } else {
+            SuggestionCache.Result result = suggestionCache.get(key,
+                    () -> searchFreeSlots(participants, searchStart, endDate, duration, step, fromMinute, toMinute, maxSuggestions));
+            freeSlots = result.slots();
+            cached = result.cached();
         }
-        while (current.isBefore(endDate) && suggestions.size() < maxSuggestions) {
-            if (isTimeSlotAvailable(participants, current)) {
-                suggestions.add(current);
-            }
-            current = current.plusHours(1);
+        for (long minute : freeSlots) {
+            suggestions.add(Utility.fromEpochMinute(minute));
         }
+        // the window is swept in order - the search stops at the last suggestion once enough are found;
+        // a cached answer swept none
+        boolean stoppedEarly = maxSuggestions > 0 && freeSlots.size() == maxSuggestions;
+        long sweptMinutes = cached ? 0 : Math.max(0, (stoppedEarly ? freeSlots.get(freeSlots.size() - 1) + stepMinutes : toMinute) - fromMinute);
+        long candidateHours = (sweptMinutes + 59) / 60;
+        metrics.candidateHours(candidateHours);
+        event.windowHours = Math.max(0, (toMinute - fromMinute + 59) / 60);
+        event.candidateHours = candidateHours;
+        event.cacheHit = cached;
         log.info("Found {} available time slots for {} persons between {} and {}", 
                 suggestions.size(), participants.size(), startDate, endDate);
         
         return suggestions;
     }
 
+    // whole-hour slots on the hour grid are answered exactly by the hour bitmaps, 64 hours per word;
+    // anything finer merges the participants' timelines minute by minute
+    private List<Long> searchFreeSlots(List<Person> participants, LocalDateTime startDate, LocalDateTime endDate,
+                                       Duration duration, Duration step, long fromMinute, long toMinute, int maxSuggestions) {
+        if (step.toMinutes() != 60) {
+            return store.personIndex().findFreeSlots(participants, startDate, endDate, duration, step, maxSuggestions);
+        }
+        List<Long> freeHours = store.busyCalendar().findFreeHours(participants, fromMinute / 60,
+                Math.floorDiv(toMinute + 59, 60), (int) duration.toHours(), maxSuggestions);
+        List<Long> freeSlots = new ArrayList<>(freeHours.size());
+        for (long hour : freeHours) {
+            freeSlots.add(hour * 60);
+        }
+        return freeSlots;
+    }
+
+    // suggestions are spaced by the coarsest of hour, half hour and quarter hour that divides the duration
+    private static Duration slotStep(Duration duration) {
+        long minutes = duration.toMinutes();
+        return Duration.ofMinutes(minutes % 60 == 0 ? 60 : minutes % 30 == 0 ? 30 : 15);
+    }
+
+    @Override
+    public List<RankedSlot> suggestRankedTimeSlots(List<Person> participants, LocalDateTime startDate, LocalDateTime endDate, int maxSuggestions) {
+        suggestAvailableTimeSlotsValidation(participants, startDate, endDate);
+        // every free hour of the window is scored, so unlike the first-fit search the window is bounded
+        if (Duration.between(startDate, endDate).compareTo(maxRankingWindow) > 0) {
+            throw new IllegalArgumentException("Ranked search window cannot exceed " + maxRankingWindow.toDays() + " days");
+        }
+        startDate = bookableFrom(startDate);
+        if (!startDate.isBefore(endDate)) {
+            return new ArrayList<>();
+        }
+        long fromHour = Utility.toEpochHourCeil(startDate);
+        long toHour = Utility.toEpochHourCeil(endDate);
+        List<RankedSlot> suggestions = new ArrayList<>();
+        for (SlotRanker.RankedHour hour : slotRanker.rank(participants, fromHour, toHour, maxSuggestions)) {
+            suggestions.add(new RankedSlot(Utility.fromEpochHour(hour.hour()), hour.score()));
+        }
+        metrics.candidateHours(Math.max(0, toHour - fromHour));
+        log.info("Ranked {} time slots for {} persons between {} and {}",
+                suggestions.size(), participants.size(), startDate, endDate);
+        return suggestions;
+    }
+
+    @Override
+    public List<QuorumSlot> suggestQuorumTimeSlots(List<Person> required, List<Person> optional, int minOptionalFree, LocalDateTime startDate, LocalDateTime endDate, int maxSuggestions) {
+        // a person listed twice counts once, and as required if listed as both
+        Map<String, Person> requiredById = distinctById(required == null ? List.of() : required);
+        Map<String, Person> optionalById = distinctById(optional == null ? List.of() : optional);
+        optionalById.keySet().removeAll(requiredById.keySet());
+        List<Person> participants = new ArrayList<>(requiredById.values());
+        participants.addAll(optionalById.values());
+        suggestAvailableTimeSlotsValidation(participants, startDate, endDate);
+        if (minOptionalFree < 0 || minOptionalFree > optionalById.size()) {
+            throw new IllegalArgumentException("Quorum must be between 0 and the " + optionalById.size() + " optional participants");
+        }
+        startDate = bookableFrom(startDate);
+        if (!startDate.isBefore(endDate)) {
+            return new ArrayList<>();
+        }
+        long fromHour = Utility.toEpochHourCeil(startDate);
+        long toHour = Utility.toEpochHourCeil(endDate);
+        List<QuorumSlot> suggestions = new ArrayList<>();
+        for (BusyCalendar.QuorumHour hour : store.busyCalendar().findQuorumHours(requiredById.values(), optionalById.values(),
+                minOptionalFree, fromHour, toHour, maxSuggestions)) {
+            suggestions.add(new QuorumSlot(Utility.fromEpochHour(hour.hour()), hour.optionalFree(), optionalById.size()));
+        }
+        log.info("Found {} quorum time slots for {} required and {} of {} optional persons between {} and {}",
+                suggestions.size(), requiredById.size(), minOptionalFree, optionalById.size(), startDate, endDate);
+        return suggestions;
+    }
+
+    private static Map<String, Person> distinctById(List<Person> persons) {
+        Map<String, Person> byId = new LinkedHashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (person == null) {
+                throw new IllegalArgumentException("Person cannot be null");
+            }
+            byId.putIfAbsent(person.getUuid(), person);
+        }
+        return byId;
+    }
+
+    @Override
+    public List<FreeBusy> getFreeBusy(List<Person> persons, LocalDateTime from, LocalDateTime to) {
+        if (persons == null || persons.isEmpty()) {
+            throw new IllegalArgumentException("At least one person is required");
+        }
+        if (persons.size() > FreeBusy.MAX_PERSONS) {
+            throw new IllegalArgumentException("At most " + FreeBusy.MAX_PERSONS + " persons per request");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to cannot be null");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("From must be before to");
+        }
+        if (from.plusDays(FreeBusy.MAX_WINDOW_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("Window cannot exceed " + FreeBusy.MAX_WINDOW_DAYS + " days");
+        }
+        // both views come straight from the per-person indexes - no meeting outside the window is touched
+        long fromHour = Utility.toEpochHour(from);
+        long toHour = Utility.toEpochHourCeil(to);
+        LocalDateTime archived = archivedUntil;
+        boolean reachesArchive = archived != null && from.isBefore(archived);
+        List<FreeBusy> result = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            List<BusyInterval> busy = store.busyIntervals(person.getUuid(), from, to);
+            int[] runs;
+            if (reachesArchive) {
+                // archived meetings are gone from the indexes and the hour bitmaps - the archive adds
+                // its intervals and the hour view is derived from the merged ones
+                List<BusyInterval> all = new ArrayList<>(archive.busyIntervals(person.getUuid(), from, to));
+                all.addAll(busy);
+                all.sort(Comparator.comparing(BusyInterval::start));
+                busy = BusyInterval.merge(all);
+                runs = BusyInterval.hourRuns(busy, fromHour, toHour);
+            } else {
+                runs = store.busyCalendar().busyRuns(person.getUuid(), fromHour, toHour);
+            }
+            result.add(new FreeBusy(person.getUuid(), from, to, busy, Utility.fromEpochHour(fromHour), runs));
+        }
+        return result;
+    }
+
     @Override
     public List<Meeting> getAllMeetings() {
-        return new ArrayList<>(meetings);
+        // read-only view of the current snapshot - nothing is copied
+        return store.snapshot().meetings();
+    }
+
+    @Override
+    public Page<Meeting> getMeetingsPage(String afterCursor, int limit) {
+        Page.validateLimit(limit);
+        // the cursor is the publication version of the last meeting returned - meetings are kept in
+        // version order, so the next page starts right after it regardless of later inserts
+        MeetingSnapshot snapshot = store.snapshot();
+        int from = afterCursor == null ? 0 : snapshot.indexAfterVersion(parseCursor(afterCursor));
+        int to = (int) Math.min(snapshot.size(), (long) from + limit);
+        List<Meeting> items = new ArrayList<>(snapshot.meetings().subList(from, to));
+        String nextCursor = to < snapshot.size() ? Long.toString(snapshot.versionAt(to - 1)) : null;
+        return new Page<>(items, nextCursor);
+    }
+
+    @Override
+    public Page<Meeting> getMeetingHistory(String personId, String afterCursor, int limit) {
+        Page.validateLimit(limit);
+        // the cursor is the archive number of the next meeting - numbers never change once given
+        MeetingArchive.History history = archive.history(personId, afterCursor == null ? 0 : parseCursor(afterCursor), limit);
+        return new Page<>(history.meetings(), history.nextOrdinal() < 0 ? null : Long.toString(history.nextOrdinal()));
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static List<String> participantIds(List<Person> participants) {
+        List<String> ids = new ArrayList<>(participants.size());
+        for (Person person : participants) {
+            ids.add(person.getUuid());
+        }
+        return ids;
     }
 
     private static void suggestAvailableTimeSlotsValidation(List<Person> participants, LocalDateTime startDate, LocalDateTime endDate) {
@@ -123,7 +798,17 @@ public class MeetingServiceImpl implements MeetingService {
         if (id == null) {
             return Optional.empty();
         }
-        return Optional.ofNullable(meetingsById.get(id));
+        Optional<Meeting> meeting = store.findById(id);
+        return meeting.isPresent() ? meeting : archive.findById(id);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (sequencer != null) {
+            sequencer.close();
+        }
+        if (partitions != null) {
+            partitions.close();
+        }
+    }
 }
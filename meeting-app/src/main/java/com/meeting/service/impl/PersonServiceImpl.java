@@ -1,40 +1,180 @@
 package com.meeting.service.impl;
 
 import com.meeting.entity.Person;
+import com.meeting.metrics.SchedulingMetrics;
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.JournalRecord;
+import com.meeting.service.ItemResult;
+import com.meeting.service.Page;
+import com.meeting.service.PersonRequest;
 import com.meeting.service.PersonService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PersonServiceImpl implements PersonService {
 
     // In-memory storage for persons (email -> person mapping for uniqueness)
     private final Map<String, Person> personsByEmail = new ConcurrentHashMap<>();
     private final Map<String, Person> personsById = new ConcurrentHashMap<>();
+    // same persons ordered by uuid - keyset pagination walks this without copying the whole store
+    private final NavigableMap<String, Person> personsInIdOrder = new ConcurrentSkipListMap<>();
+    // inserts are serialized so journal order matches the order persons become visible
+    private final Object insertLock = new Object();
+    private final Journal journal;
+
+    public PersonServiceImpl() {
+        this(Journal.NONE);
+    }
+
+    public PersonServiceImpl(Journal journal) {
+        this(journal, SchedulingMetrics.NONE);
+    }
+
+    @Autowired
+    public PersonServiceImpl(Journal journal, SchedulingMetrics metrics) {
+        this.journal = journal;
+        metrics.storeSize("persons", personsByEmail::size);
+    }
 
     @Override
     public Person createPerson(String name, String email) {
         log.info("Creating person with name: {} and email: {}", name, email);
+        Person person = normalize(name, email);
+        CompletableFuture<Long> durable = insert(person);
+        if (durable == null) {
+            throw new IllegalArgumentException("Person with email " + email + " already exists");
+        }
+        await(durable);
+        log.info("Successfully created person: {}", person);
+        return person;
+    }
+
+    @Override
+    public List<ItemResult<Person>> createPersons(Collection<PersonRequest> rows) {
+        List<PersonRequest> input = new ArrayList<>(rows);
+        int size = input.size();
+        // normalizing and validating a row touches no shared state, so rows are prepared in parallel
+        Person[] candidates = new Person[size];
+        String[] errors = new String[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            PersonRequest row = input.get(i);
+            try {
+                if (row == null) {
+                    throw new IllegalArgumentException("Row cannot be null");
+                }
+                candidates[i] = normalize(row.name(), row.email());
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        });
+
+        // inserts run in row order so the first of two rows with the same email is the one kept
+        List<ItemResult<Person>> results = new ArrayList<>(size);
+        List<CompletableFuture<Long>> pending = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            CompletableFuture<Long> durable = errors[i] == null ? insert(candidates[i]) : null;
+            if (errors[i] != null) {
+                results.add(ItemResult.failure(i, errors[i]));
+            } else if (durable == null) {
+                results.add(ItemResult.failure(i, "Person with email " + candidates[i].getEmail() + " already exists"));
+            } else {
+                results.add(ItemResult.success(i, candidates[i]));
+                pending.add(durable);
+            }
+        }
+        // one wait for the whole import - the rows land in a handful of group commits
+        await(CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)));
+        int created = pending.size();
+        log.info("Bulk created {} of {} persons", created, size);
+        return results;
+    }
+
+    private static Person normalize(String name, String email) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Name cannot be null or empty");
         }
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
-        if (emailExists(email)) {
-            throw new IllegalArgumentException("Person with email " + email + " already exists");
+        return new Person(name.trim(), email.trim().toLowerCase());
+    }
+
+    // returns null for a duplicate email, otherwise the journal write to wait for before acknowledging.
+    // The record is queued before the person can be found, so a meeting referencing the person is
+    // always journaled after it. The person is findable before the record is durable (see Journal).
+    private CompletableFuture<Long> insert(Person person) {
+        synchronized (insertLock) {
+            if (personsByEmail.containsKey(person.getEmail())) {
+                return null;
+            }
+            CompletableFuture<Long> durable = journal.append(JournalRecord.PersonCreated.of(person));
+            link(person);
+            // a person whose record was lost must not stay findable - unlinked off the journal's flusher,
+            // which an insert holding the lock may be waiting on, before the caller sees the failure
+            return durable.exceptionallyComposeAsync(error -> {
+                unlink(person);
+                log.warn("Unlinked person {} whose journal record was lost", person.getEmail());
+                return CompletableFuture.failedFuture(error);
+            });
+        }
+    }
+
+    private void unlink(Person person) {
+        personsByEmail.remove(person.getEmail(), person);
+        personsById.remove(person.getUuid(), person);
+        personsInIdOrder.remove(person.getUuid(), person);
+    }
+
+    private boolean link(Person person) {
+        if (personsByEmail.putIfAbsent(person.getEmail(), person) != null) {
+            return false;
         }
-        Person person = new Person(name.trim(), email.trim().toLowerCase());
-        personsByEmail.put(person.getEmail(), person);
         personsById.put(person.getUuid(), person);
-        log.info("Successfully created person: {}", person);
-        return person;
+        personsInIdOrder.put(person.getUuid(), person);
+        return true;
+    }
+
+    // journal replay - the record was validated when it was written, so it is only linked in
+    void restore(JournalRecord.PersonCreated record) {
+        if (!link(Person.builder().uuid(record.uuid()).name(record.name()).email(record.email()).build())) {
+            // persons created right after a snapshot was cut are in the snapshot and in the journal tail
+            log.debug("Skipping journaled person {} - email {} already restored", record.uuid(), record.email());
+        }
+    }
+
+    // cold start from a snapshot, before any create
+    void load(List<Person> persons) {
+        persons.parallelStream().forEach(this::link);
+    }
+
+    // runs the action while no person insert is in flight
+    <T> T quiesce(Supplier<T> action) {
+        synchronized (insertLock) {
+            return action.get();
+        }
+    }
+
+    Collection<Person> persons() {
+        return Collections.unmodifiableCollection(personsInIdOrder.values());
+    }
+
+    private static void await(CompletableFuture<?> durable) {
+        try {
+            durable.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
     }
 
     @Override
@@ -66,5 +206,19 @@ public class PersonServiceImpl implements PersonService {
     public List<Person> getAllPersons() {
         return new ArrayList<>(personsByEmail.values());
     }
-    
+
+    @Override
+    public Page<Person> getPersonsPage(String afterCursor, int limit) {
+        Page.validateLimit(limit);
+        // the cursor is the uuid of the last person returned
+        NavigableMap<String, Person> remaining = afterCursor == null ? personsInIdOrder : personsInIdOrder.tailMap(afterCursor, false);
+        List<Person> items = new ArrayList<>(Math.min(limit, 64));
+        for (Person person : remaining.values()) {
+            if (items.size() == limit) {
+                return new Page<>(items, items.get(items.size() - 1).getUuid());
+            }
+            items.add(person);
+        }
+        return new Page<>(items, null);
+    }
 }
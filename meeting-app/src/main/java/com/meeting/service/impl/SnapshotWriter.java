@@ -0,0 +1,125 @@
+package com.meeting.service.impl;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Meeting;
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.SnapshotFile;
+import com.meeting.store.MeetingSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Periodically writes a binary snapshot of both stores in the background.
+//
+// The cut is taken with writers paused for an instant: person inserts and bookings are held off while a
+// journal checkpoint is queued and the current meeting root is taken, so the root holds exactly the
+// meetings journaled before the checkpoint. Persons are read afterwards from the live map - a person
+// created later shows up in both the snapshot and the journal tail, and replay skips the duplicate.
+// Archived meetings are written too - the journal that created them is trimmed - and load back into
+// the hot store, where the next archive sweep picks them up again.
+// The file is written without holding anything. Two snapshots are kept; the journal is trimmed up to
+// the older one, so a damaged newest snapshot can still be recovered from.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotWriter {
+
+    private static final int KEPT_SNAPSHOTS = 2;
+
+    private final MeetingProperties properties;
+    private final Journal journal;
+    private final PersonServiceImpl personService;
+    private final MeetingServiceImpl meetingService;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        MeetingProperties.Snapshot snapshot = properties.getSnapshot();
+        if (!snapshot.isEnabled()) {
+            return;
+        }
+        if (!properties.getJournal().isEnabled()) {
+            log.warn("Snapshots need the journal - meeting.snapshot.enabled is ignored");
+            return;
+        }
+        if (properties.getReplication().isReplica()) {
+            log.warn("Replicas start from the primary's snapshot - meeting.snapshot.enabled is ignored");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = snapshot.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                writeSnapshot();
+            } catch (Exception e) {
+                log.error("Snapshot failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public synchronized Path writeSnapshot() throws IOException {
+        long started = System.nanoTime();
+        Cut cut = meetingService.quiesce(() -> personService.quiesce(() ->
+                new Cut(journal.checkpoint(), meetingService.snapshot(), meetingService.archivedMeetings())));
+        long position = cut.checkpoint().join();
+        Path directory = Path.of(properties.getSnapshot().getDirectory());
+        List<Meeting> meetings = concat(cut.archived(), cut.meetings().meetings());
+        Path file = SnapshotFile.write(directory, position, personService.persons(), meetings);
+
+        List<Path> snapshots = SnapshotFile.list(directory);
+        for (Path obsolete : snapshots.subList(Math.min(KEPT_SNAPSHOTS, snapshots.size()), snapshots.size())) {
+            Files.deleteIfExists(obsolete);
+        }
+        if (snapshots.size() >= KEPT_SNAPSHOTS) {
+            journal.truncateBefore(SnapshotFile.journalPositionOf(snapshots.get(KEPT_SNAPSHOTS - 1)));
+        }
+        log.info("Wrote snapshot {} with {} meetings in {} ms", file, meetings.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return file;
+    }
+
+    // archived meetings first, so they get the oldest versions again when the snapshot is loaded; both
+    // lists are decoded or read on demand, nothing is copied
+    private static List<Meeting> concat(List<Meeting> archived, List<Meeting> hot) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        return new AbstractList<>() {
+            @Override
+            public Meeting get(int index) {
+                return index < archived.size() ? archived.get(index) : hot.get(index - archived.size());
+            }
+
+            @Override
+            public int size() {
+                return archived.size() + hot.size();
+            }
+        };
+    }
+
+    private record Cut(CompletableFuture<Long> checkpoint, MeetingSnapshot meetings, List<Meeting> archived) {
+    }
+}
@@ -0,0 +1,271 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.util.Utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Hour-slot calendar engine: one busy bitmap per person. A slot search ORs the participants'
+// bitmaps 64 hours at a time and walks the clear bits, instead of testing every hour separately.
+public class BusyCalendar {
+
+    private final Map<String, HourBitmap> bitmapsByPerson = new ConcurrentHashMap<>();
+
+    public void markBusy(Meeting meeting) {
+        RecurringSeries recurring = meeting.getRecurrence() == null ? null : new RecurringSeries(meeting);
+        long fromHour = Utility.toEpochHour(meeting.getStartTime());
+        long toHour = Utility.toEpochHourCeil(meeting.getEndTime());
+        for (Person person : PersonMeetingIndex.participantsOf(meeting)) {
+            if (person.getUuid() == null) {
+                continue;
+            }
+            HourBitmap bitmap = bitmapsByPerson.computeIfAbsent(person.getUuid(), id -> new HourBitmap());
+            if (recurring != null) {
+                bitmap.add(recurring);
+            } else {
+                bitmap.set(fromHour, toHour);
+            }
+        }
+    }
+
+    // Takes back markBusy for a meeting that has already left the person index: a series is dropped, and
+    // an hour of a one-off is cleared only if none of the participant's other meetings still covers it.
+    public void unmark(Meeting meeting, PersonMeetingIndex index) {
+        long fromHour = Utility.toEpochHour(meeting.getStartTime());
+        long toHour = Utility.toEpochHourCeil(meeting.getEndTime());
+        for (Person person : PersonMeetingIndex.participantsOf(meeting)) {
+            HourBitmap bitmap = bitmap(person.getUuid());
+            if (bitmap == null) {
+                continue;
+            }
+            if (meeting.getRecurrence() != null) {
+                bitmap.remove(meeting.getUuid());
+                continue;
+            }
+            for (long hour = fromHour; hour < toHour; hour++) {
+                if (index.overlapping(person.getUuid(), Utility.fromEpochHour(hour), Utility.fromEpochHour(hour + 1)).isEmpty()) {
+                    bitmap.clear(hour);
+                }
+            }
+        }
+    }
+
+    // Forgets meetings that ended before `cutoffHour`: the given series, and every page of hours that ends
+    // a day or more before the cutoff - a meeting still running at the cutoff started less than a day
+    // before it, so no such page holds one of its hours. Bitmaps themselves are kept, their versions
+    // must keep growing for the suggestion cache.
+    public void forget(List<Meeting> series, long cutoffHour) {
+        for (Meeting meeting : series) {
+            for (Person person : PersonMeetingIndex.participantsOf(meeting)) {
+                HourBitmap bitmap = bitmap(person.getUuid());
+                if (bitmap != null) {
+                    bitmap.remove(meeting.getUuid());
+                }
+            }
+        }
+        long before = cutoffHour - Meeting.MAX_DURATION.toHours();
+        for (HourBitmap bitmap : bitmapsByPerson.values()) {
+            bitmap.dropPagesBefore(before);
+        }
+    }
+
+    public HourBitmap bitmap(String personId) {
+        return personId == null ? null : bitmapsByPerson.get(personId);
+    }
+
+    // modification counter of the person's calendar - 0 until the first meeting
+    public long version(String personId) {
+        HourBitmap bitmap = bitmap(personId);
+        return bitmap == null ? 0L : bitmap.version();
+    }
+
+    // epoch hours in [fromHour, toHour) where none of the persons is busy, in chronological order
+    public List<Long> findFreeHours(Collection<Person> persons, long fromHour, long toHour, int maxResults) {
+        return findFreeHours(persons, fromHour, toHour, 1, maxResults);
+    }
+
+    // epoch hours in [fromHour, toHour) that start `hours` consecutive hours where none of the persons is
+    // busy, in chronological order - the run may reach past toHour. Exact for meetings of whole hours on
+    // the hour grid: a meeting overlaps such a slot exactly when it marks one of the slot's hours.
+    public List<Long> findFreeHours(Collection<Person> persons, long fromHour, long toHour, int hours, int maxResults) {
+        List<Long> freeHours = new ArrayList<>();
+        if (fromHour >= toHour || maxResults <= 0) {
+            return freeHours;
+        }
+        if (hours < 1 || hours > 64) {
+            throw new IllegalArgumentException("A slot must span 1 to 64 hours");
+        }
+        List<HourBitmap> bitmaps = bitmaps(persons);
+
+        long firstWord = fromHour >> 6;
+        long lastWord = (toHour - 1) >> 6;
+        for (long wordIndex = firstWord; wordIndex <= lastWord; wordIndex++) {
+            long busy = busyWord(bitmaps, wordIndex);
+            long free = ~busy & windowMask(wordIndex, fromHour, toHour);
+            if (hours > 1 && free != 0) {
+                // hour i starts a free run when hours i .. i + hours - 1 are free; the tail may be in the next word
+                long next = busyWord(bitmaps, wordIndex + 1);
+                for (int k = 1; k < hours && free != 0; k++) {
+                    free &= ~((busy >>> k) | (next << (64 - k)));
+                }
+            }
+            while (free != 0) {
+                freeHours.add((wordIndex << 6) + Long.numberOfTrailingZeros(free));
+                if (freeHours.size() >= maxResults) {
+                    return freeHours;
+                }
+                free &= free - 1;
+            }
+        }
+        return freeHours;
+    }
+
+    private static long busyWord(List<HourBitmap> bitmaps, long wordIndex) {
+        long busy = 0L;
+        for (HourBitmap bitmap : bitmaps) {
+            busy |= bitmap.word(wordIndex);
+            if (busy == -1L) {
+                break;
+            }
+        }
+        return busy;
+    }
+
+    // an hour where every required person and at least the quorum of the optional ones are free
+    public record QuorumHour(long hour, int optionalFree) {
+    }
+
+    // epoch hours in [fromHour, toHour) where none of the required persons is busy and at least
+    // minOptionalFree of the optional persons are free, in chronological order.
+    // The optional persons' busy hours are counted 64 hours at a time in bit-sliced counters - slice i
+    // holds bit i of every hour's count - so adding a person is a few word operations per 64 hours and
+    // the quorum test is one word-wide comparison, not a loop over persons for every hour.
+    public List<QuorumHour> findQuorumHours(Collection<Person> required, Collection<Person> optional, int minOptionalFree,
+                                            long fromHour, long toHour, int maxResults) {
+        List<QuorumHour> quorumHours = new ArrayList<>();
+        if (fromHour >= toHour || maxResults <= 0 || minOptionalFree > optional.size()) {
+            return quorumHours;
+        }
+        List<HourBitmap> requiredBitmaps = bitmaps(required);
+        List<HourBitmap> optionalBitmaps = bitmaps(optional);
+        // optional persons with no meetings at all are free every hour and never reach the counters
+        int maxBusy = optional.size() - minOptionalFree;
+        int slices = Math.max(1, 32 - Integer.numberOfLeadingZeros(optionalBitmaps.size()));
+        long[] counters = new long[slices];
+
+        long firstWord = fromHour >> 6;
+        long lastWord = (toHour - 1) >> 6;
+        for (long wordIndex = firstWord; wordIndex <= lastWord; wordIndex++) {
+            long candidates = windowMask(wordIndex, fromHour, toHour);
+            for (HourBitmap bitmap : requiredBitmaps) {
+                candidates &= ~bitmap.word(wordIndex);
+            }
+            if (candidates == 0) {
+                continue;
+            }
+            Arrays.fill(counters, 0L);
+            for (HourBitmap bitmap : optionalBitmaps) {
+                // ripple-carry add of one bit per hour
+                long carry = bitmap.word(wordIndex);
+                for (int i = 0; i < slices && carry != 0; i++) {
+                    long next = counters[i] & carry;
+                    counters[i] ^= carry;
+                    carry = next;
+                }
+            }
+            long accepted = candidates & atMost(counters, maxBusy);
+            while (accepted != 0) {
+                int bit = Long.numberOfTrailingZeros(accepted);
+                quorumHours.add(new QuorumHour((wordIndex << 6) + bit, optional.size() - count(counters, bit)));
+                if (quorumHours.size() >= maxResults) {
+                    return quorumHours;
+                }
+                accepted &= accepted - 1;
+            }
+        }
+        return quorumHours;
+    }
+
+    private List<HourBitmap> bitmaps(Collection<Person> persons) {
+        List<HourBitmap> bitmaps = new ArrayList<>();
+        for (Person person : persons) {
+            HourBitmap bitmap = person == null ? null : bitmap(person.getUuid());
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        return bitmaps;
+    }
+
+    // hours whose bit-sliced count is <= limit, compared from the most significant slice down
+    static long atMost(long[] counters, int limit) {
+        if (limit >= 1L << counters.length) {
+            return -1L;
+        }
+        long less = 0L;
+        long equal = -1L;
+        for (int i = counters.length - 1; i >= 0; i--) {
+            long limitBit = ((limit >>> i) & 1) != 0 ? -1L : 0L;
+            less |= equal & ~counters[i] & limitBit;
+            equal &= ~(counters[i] ^ limitBit);
+        }
+        return less | equal;
+    }
+
+    private static int count(long[] counters, int bit) {
+        int count = 0;
+        for (int i = 0; i < counters.length; i++) {
+            count |= (int) ((counters[i] >>> bit) & 1) << i;
+        }
+        return count;
+    }
+
+    // run lengths of alternating free and busy hours over [fromHour, toHour), starting with a free run
+    // (0 when the first hour is busy); a word of equal bits is skipped in one step
+    public int[] busyRuns(String personId, long fromHour, long toHour) {
+        HourBitmap bitmap = bitmap(personId);
+        int[] runs = new int[8];
+        int count = 0;
+        boolean busy = false;
+        long runStart = fromHour;
+        long hour = fromHour;
+        while (hour < toHour) {
+            long word = bitmap == null ? 0L : bitmap.word(hour >> 6);
+            // set bits mark hours whose state differs from the current run
+            long changes = (busy ? ~word : word) >>> (hour & 63);
+            hour = Math.min(toHour, changes == 0 ? ((hour >> 6) + 1) << 6 : hour + Long.numberOfTrailingZeros(changes));
+            if (changes != 0 && hour < toHour) {
+                if (count == runs.length) {
+                    runs = Arrays.copyOf(runs, count * 2);
+                }
+                runs[count++] = (int) (hour - runStart);
+                runStart = hour;
+                busy = !busy;
+            }
+        }
+        if (count == runs.length) {
+            runs = Arrays.copyOf(runs, count + 1);
+        }
+        runs[count++] = (int) (toHour - runStart);
+        return Arrays.copyOf(runs, count);
+    }
+
+    // bits of the word that fall inside [fromHour, toHour)
+    static long windowMask(long wordIndex, long fromHour, long toHour) {
+        long wordStart = wordIndex << 6;
+        long mask = -1L;
+        if (fromHour > wordStart) {
+            mask &= -1L << (fromHour - wordStart);
+        }
+        if (toHour < wordStart + 64) {
+            mask &= -1L >>> (64 - (toHour - wordStart));
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,63 @@
+package com.meeting.store;
+
+import com.meeting.util.Utility;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Half-open [start, end) stretch in which a person is in meetings
+public record BusyInterval(LocalDateTime start, LocalDateTime end) {
+
+    // intervals sorted by start, with touching or overlapping ones joined
+    public static List<BusyInterval> merge(List<BusyInterval> sorted) {
+        List<BusyInterval> merged = new ArrayList<>();
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (BusyInterval interval : sorted) {
+            if (end != null && !interval.start().isAfter(end)) {
+                if (interval.end().isAfter(end)) {
+                    end = interval.end();
+                }
+                continue;
+            }
+            if (end != null) {
+                merged.add(new BusyInterval(start, end));
+            }
+            start = interval.start();
+            end = interval.end();
+        }
+        if (end != null) {
+            merged.add(new BusyInterval(start, end));
+        }
+        return merged;
+    }
+
+    // merged intervals at hour granularity, in the shape of BusyCalendar.busyRuns: run lengths of
+    // alternating free and busy hours over [fromHour, toHour), starting with a free run
+    public static int[] hourRuns(List<BusyInterval> merged, long fromHour, long toHour) {
+        int[] runs = new int[2 * merged.size() + 1];
+        int count = 0;
+        long runStart = fromHour;
+        for (BusyInterval interval : merged) {
+            long busyFrom = Math.max(fromHour, Utility.toEpochHour(interval.start()));
+            long busyTo = Math.min(toHour, Utility.toEpochHourCeil(interval.end()));
+            if (busyFrom >= busyTo) {
+                continue;
+            }
+            if (count > 0 && busyFrom <= runStart) {
+                // starts in or right after the previous interval's last hour - the busy run goes on
+                runs[count - 1] += (int) (busyTo - runStart);
+            } else {
+                runs[count++] = (int) (busyFrom - runStart);
+                runs[count++] = (int) (busyTo - busyFrom);
+            }
+            runStart = busyTo;
+        }
+        if (count == 0 || runStart < toHour) {
+            runs[count++] = (int) (toHour - runStart);
+        }
+        return Arrays.copyOf(runs, count);
+    }
+}
@@ -0,0 +1,103 @@
+package com.meeting.store;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Busy bitmap indexed by epoch hour (bit set = busy). Only pages that hold at least one busy hour
+// are allocated, so a sparse calendar costs a few hundred bytes instead of one bit per hour since 1970.
+// Bits are set with CAS so concurrent readers never see a torn word.
+// The version grows after every change, once the bits are in place - a reader that saw a version and
+// then read the bits has seen at least that state.
+// Recurring series are not written into pages: each one is kept as its rule and ORed into a word when
+// the word is read, so a five-year series costs the same as a single meeting.
+public class HourBitmap {
+
+    private static final RecurringSeries[] NO_SERIES = new RecurringSeries[0];
+
+    static final int WORDS_PER_PAGE = 16;   // 1024 hours (~6 weeks) per page
+    private static final int PAGE_SHIFT = 4;
+
+    private final Map<Long, AtomicLongArray> pages = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    // copy-on-write, few per person
+    private volatile RecurringSeries[] series = NO_SERIES;
+
+    public void set(long epochHour) {
+        setBit(epochHour);
+        version.incrementAndGet();
+    }
+
+    public void set(long fromHour, long toHour) {
+        for (long hour = fromHour; hour < toHour; hour++) {
+            setBit(hour);
+        }
+        version.incrementAndGet();
+    }
+
+    public void clear(long epochHour) {
+        long wordIndex = epochHour >> 6;
+        long bit = 1L << (epochHour & 63);
+        AtomicLongArray page = pages.get(wordIndex >> PAGE_SHIFT);
+        if (page != null) {
+            page.getAndUpdate((int) (wordIndex & (WORDS_PER_PAGE - 1)), word -> word & ~bit);
+        }
+        version.incrementAndGet();
+    }
+
+    public synchronized void add(RecurringSeries recurring) {
+        RecurringSeries[] next = Arrays.copyOf(series, series.length + 1);
+        next[series.length] = recurring;
+        series = next;
+        version.incrementAndGet();
+    }
+
+    public synchronized void remove(String meetingId) {
+        RecurringSeries[] next = Arrays.stream(series)
+                .filter(recurring -> !recurring.meeting().getUuid().equals(meetingId))
+                .toArray(RecurringSeries[]::new);
+        if (next.length != series.length) {
+            series = next.length == 0 ? NO_SERIES : next;
+            version.incrementAndGet();
+        }
+    }
+
+    // frees every page that ends at or before the hour
+    public void dropPagesBefore(long epochHour) {
+        long firstKept = epochHour >> 6 >> PAGE_SHIFT;
+        if (pages.keySet().removeIf(page -> page < firstKept)) {
+            version.incrementAndGet();
+        }
+    }
+
+    private void setBit(long epochHour) {
+        long wordIndex = epochHour >> 6;
+        long bit = 1L << (epochHour & 63);
+        pages.computeIfAbsent(wordIndex >> PAGE_SHIFT, page -> new AtomicLongArray(WORDS_PER_PAGE))
+                .getAndUpdate((int) (wordIndex & (WORDS_PER_PAGE - 1)), word -> word | bit);
+    }
+
+    public boolean get(long epochHour) {
+        return (word(epochHour >> 6) & (1L << (epochHour & 63))) != 0;
+    }
+
+    // 64 consecutive hours starting at wordIndex * 64, bit i = hour wordIndex * 64 + i
+    public long word(long wordIndex) {
+        AtomicLongArray page = pages.get(wordIndex >> PAGE_SHIFT);
+        long word = page == null ? 0L : page.get((int) (wordIndex & (WORDS_PER_PAGE - 1)));
+        for (RecurringSeries recurring : series) {
+            word |= recurring.hourWord(wordIndex);
+        }
+        return word;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public int allocatedPages() {
+        return pages.size();
+    }
+}
@@ -0,0 +1,446 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.util.Utility;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Read-only cold store for meetings that have ended. Every sweep appends one segment: the meetings
+// packed back to back into an off-heap buffer - uuids as two longs, times in epoch minutes, persons by
+// uuid - with two sorted key tables next to it, also off-heap: meeting uuid -> record and person uuid ->
+// record. An archived meeting costs its encoded bytes and nothing on the heap, instead of a Meeting,
+// its entry and its place in the hot indexes. Past MAX_SEGMENTS the newest segments are compacted into
+// one, so a lookup stays a few binary searches. Decoded meetings get their persons back from the resolver.
+//
+// Meetings are numbered in the order they were archived; the numbers never change, so they serve as
+// history cursors. Appends are serialized, readers never lock.
+public class MeetingArchive {
+
+    static final int MAX_SEGMENTS = 16;
+    // a compacted segment stays addressable with int offsets
+    static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    // key tables: (uuid high, uuid low, record index) per row, sorted by uuid, then record index
+    private static final int KEY_BYTES = 20;
+    private static final Segment[] NO_SEGMENTS = new Segment[0];
+    private static final Recurrence.Frequency[] FREQUENCIES = Recurrence.Frequency.values();
+
+    private final Function<String, Person> persons;
+    private final Object appendLock = new Object();
+    // copy-on-write, oldest first
+    private volatile Segment[] segments = NO_SEGMENTS;
+
+    public MeetingArchive(Function<String, Person> persons) {
+        this.persons = persons;
+    }
+
+    public long size() {
+        return size(segments);
+    }
+
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.records.capacity() + segment.offsets.capacity() + segment.ids.capacity() + segment.postings.capacity();
+        }
+        return bytes;
+    }
+
+    public void append(List<Meeting> meetings) {
+        if (meetings.isEmpty()) {
+            return;
+        }
+        synchronized (appendLock) {
+            Segment[] present = segments;
+            Segment[] next = Arrays.copyOf(present, present.length + 1);
+            next[present.length] = Segment.pack(meetings, size(present));
+            segments = next.length > MAX_SEGMENTS ? compact(next) : next;
+        }
+    }
+
+    public Optional<Meeting> findById(String id) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        Segment[] present = segments;
+        for (int i = present.length - 1; i >= 0; i--) {
+            int index = present[i].find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            if (index >= 0) {
+                return Optional.of(present[i].decode(index, persons));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // one page of history - nextOrdinal is where the following page starts, -1 after the last one
+    public record History(List<Meeting> meetings, long nextOrdinal) {
+    }
+
+    // archived meetings numbered `from` and up, in archive order - with a person, only that person's
+    public History history(String personId, long from, int limit) {
+        Segment[] present = segments;
+        List<Meeting> meetings = new ArrayList<>(Math.min(limit, 16));
+        if (personId == null) {
+            long to = Math.min(size(present), Math.max(0, from) + limit);
+            for (long ordinal = Math.max(0, from); ordinal < to; ordinal++) {
+                Segment segment = segmentOf(present, ordinal);
+                meetings.add(segment.decode((int) (ordinal - segment.firstOrdinal), persons));
+            }
+            return new History(meetings, to < size(present) ? to : -1);
+        }
+        UUID person;
+        try {
+            person = UUID.fromString(personId);
+        } catch (IllegalArgumentException e) {
+            return new History(meetings, -1);
+        }
+        for (Segment segment : present) {
+            if (segment.firstOrdinal + segment.count <= from) {
+                continue;
+            }
+            int local = (int) Math.max(0, from - segment.firstOrdinal);
+            for (int posting = segment.firstPosting(person.getMostSignificantBits(), person.getLeastSignificantBits(), local);
+                 posting >= 0; posting = segment.nextPosting(posting)) {
+                int index = segment.postings.getInt(posting * KEY_BYTES + 16);
+                if (meetings.size() == limit) {
+                    return new History(meetings, segment.firstOrdinal + index);
+                }
+                meetings.add(segment.decode(index, persons));
+            }
+        }
+        return new History(meetings, -1);
+    }
+
+    // the person's archived meetings - occurrences for a series - overlapping [from, to), clipped to the
+    // window, in no particular order. Walks every archived meeting of the person; one-offs are read
+    // straight from their records, only series are decoded.
+    public List<BusyInterval> busyIntervals(String personId, LocalDateTime from, LocalDateTime to) {
+        List<BusyInterval> busy = new ArrayList<>();
+        UUID person;
+        try {
+            person = UUID.fromString(personId);
+        } catch (IllegalArgumentException e) {
+            return busy;
+        }
+        long fromMinute = Utility.toEpochMinute(from);
+        long toMinute = Utility.toEpochMinuteCeil(to);
+        for (Segment segment : segments) {
+            for (int posting = segment.firstPosting(person.getMostSignificantBits(), person.getLeastSignificantBits(), 0);
+                 posting >= 0; posting = segment.nextPosting(posting)) {
+                int index = segment.postings.getInt(posting * KEY_BYTES + 16);
+                int at = segment.offset(index);
+                long startMinute = segment.records.getLong(at + 16);
+                int duration = segment.records.getInt(at + 24);
+                if (segment.records.get(at + 28) == 0) {
+                    if (startMinute < toMinute && startMinute + duration > fromMinute) {
+                        busy.add(clip(startMinute, startMinute + duration, from, to));
+                    }
+                    continue;
+                }
+                RecurringSeries series = new RecurringSeries(segment.decode(index, persons));
+                for (int k = series.firstEndingAfter(fromMinute); k < series.count() && series.start(k) < toMinute; k++) {
+                    busy.add(clip(series.start(k), series.end(k), from, to));
+                }
+            }
+        }
+        return busy;
+    }
+
+    private static BusyInterval clip(long startMinute, long endMinute, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = Utility.fromEpochMinute(startMinute);
+        LocalDateTime end = Utility.fromEpochMinute(endMinute);
+        return new BusyInterval(start.isBefore(from) ? from : start, end.isAfter(to) ? to : end);
+    }
+
+    // every archived meeting, decoded on access - for writing snapshots
+    public List<Meeting> meetings() {
+        Segment[] present = segments;
+        int size = (int) size(present);
+        return new ArchiveView(present, size);
+    }
+
+    private static long size(Segment[] segments) {
+        if (segments.length == 0) {
+            return 0;
+        }
+        Segment last = segments[segments.length - 1];
+        return last.firstOrdinal + last.count;
+    }
+
+    private static Segment segmentOf(Segment[] segments, long ordinal) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments[mid].firstOrdinal <= ordinal) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return segments[low];
+    }
+
+    // merges the longest run of newest segments that fits in one; older, full segments are left alone
+    private static Segment[] compact(Segment[] segments) {
+        int from = segments.length;
+        long bytes = 0;
+        while (from > 0 && bytes + segments[from - 1].records.capacity() <= MAX_SEGMENT_BYTES) {
+            bytes += segments[--from].records.capacity();
+        }
+        if (segments.length - from < 2) {
+            return segments;
+        }
+        Segment merged = Segment.merge(Arrays.copyOfRange(segments, from, segments.length), (int) bytes);
+        Segment[] compacted = Arrays.copyOf(segments, from + 1);
+        compacted[from] = merged;
+        return compacted;
+    }
+
+    // Record layout: meeting uuid (16), start epoch minute (8), duration minutes (4), frequency (1, 0 for
+    // a one-off meeting), interval (4), count (4), participant count (4), participant uuids (16 each,
+    // organizer first), title length (4), UTF-8 title.
+    private static final class Segment {
+
+        private static final int PARTICIPANTS_AT = 41;
+
+        final long firstOrdinal;
+        final int count;
+        final ByteBuffer records;
+        final ByteBuffer offsets;
+        final ByteBuffer ids;
+        final ByteBuffer postings;
+
+        private Segment(long firstOrdinal, ByteBuffer records, int[] offsets) {
+            this.firstOrdinal = firstOrdinal;
+            this.count = offsets.length;
+            this.records = records.asReadOnlyBuffer();
+            ByteBuffer offsetTable = ByteBuffer.allocateDirect(offsets.length * 4);
+            offsetTable.asIntBuffer().put(offsets);
+            this.offsets = offsetTable.asReadOnlyBuffer();
+            this.ids = keyTable(offsets, records, false);
+            this.postings = keyTable(offsets, records, true);
+        }
+
+        static Segment pack(List<Meeting> meetings, long firstOrdinal) {
+            List<byte[]> encoded = new ArrayList<>(meetings.size());
+            int bytes = 0;
+            for (Meeting meeting : meetings) {
+                byte[] record = encode(meeting);
+                encoded.add(record);
+                bytes += record.length;
+            }
+            ByteBuffer records = ByteBuffer.allocateDirect(bytes);
+            int[] offsets = new int[encoded.size()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = records.position();
+                records.put(encoded.get(i));
+            }
+            return new Segment(firstOrdinal, records, offsets);
+        }
+
+        // the records are copied as they are, only their offsets move
+        static Segment merge(Segment[] segments, int bytes) {
+            ByteBuffer records = ByteBuffer.allocateDirect(bytes);
+            int[] offsets = new int[Arrays.stream(segments).mapToInt(segment -> segment.count).sum()];
+            int next = 0;
+            for (Segment segment : segments) {
+                int base = records.position();
+                for (int i = 0; i < segment.count; i++) {
+                    offsets[next++] = base + segment.offset(i);
+                }
+                records.put(segment.records.duplicate().clear());
+            }
+            return new Segment(segments[0].firstOrdinal, records, offsets);
+        }
+
+        int offset(int index) {
+            return offsets.getInt(index * 4);
+        }
+
+        // record index of the meeting, -1 when it is not in this segment
+        int find(long high, long low) {
+            int row = lowerBound(ids, count, high, low, 0);
+            return row < count && ids.getLong(row * KEY_BYTES) == high && ids.getLong(row * KEY_BYTES + 8) == low
+                    ? ids.getInt(row * KEY_BYTES + 16) : -1;
+        }
+
+        // first posting of the person at record index `from` or later, -1 when there is none
+        int firstPosting(long high, long low, int from) {
+            int rows = postings.capacity() / KEY_BYTES;
+            int row = lowerBound(postings, rows, high, low, from);
+            return row < rows && postings.getLong(row * KEY_BYTES) == high && postings.getLong(row * KEY_BYTES + 8) == low ? row : -1;
+        }
+
+        int nextPosting(int row) {
+            int next = row + 1;
+            return next < postings.capacity() / KEY_BYTES
+                    && postings.getLong(next * KEY_BYTES) == postings.getLong(row * KEY_BYTES)
+                    && postings.getLong(next * KEY_BYTES + 8) == postings.getLong(row * KEY_BYTES + 8) ? next : -1;
+        }
+
+        Meeting decode(int index, Function<String, Person> persons) {
+            int at = offset(index);
+            String uuid = new UUID(records.getLong(at), records.getLong(at + 8)).toString();
+            long startMinute = records.getLong(at + 16);
+            int duration = records.getInt(at + 24);
+            byte frequency = records.get(at + 28);
+            Recurrence recurrence = frequency == 0 ? null
+                    : new Recurrence(FREQUENCIES[frequency - 1], records.getInt(at + 29), records.getInt(at + 33));
+            int participants = records.getInt(at + 37);
+            List<Person> attendees = new ArrayList<>(participants - 1);
+            Person organizer = null;
+            for (int i = 0; i < participants; i++) {
+                int uuidAt = at + PARTICIPANTS_AT + i * 16;
+                String personId = new UUID(records.getLong(uuidAt), records.getLong(uuidAt + 8)).toString();
+                Person person = persons.apply(personId);
+                if (person == null) {
+                    person = Person.builder().uuid(personId).build();
+                }
+                if (i == 0) {
+                    organizer = person;
+                } else {
+                    attendees.add(person);
+                }
+            }
+            int titleAt = at + PARTICIPANTS_AT + participants * 16;
+            byte[] title = new byte[records.getInt(titleAt)];
+            records.get(titleAt + 4, title);
+            LocalDateTime start = Utility.fromEpochMinute(startMinute);
+            return Meeting.builder()
+                    .uuid(uuid)
+                    .title(new String(title, StandardCharsets.UTF_8))
+                    .startTime(start)
+                    .endTime(start.plusMinutes(duration))
+                    .organizer(organizer)
+                    .attendees(attendees)
+                    .recurrence(recurrence)
+                    .build();
+        }
+
+        private static byte[] encode(Meeting meeting) {
+            byte[] title = meeting.getTitle().getBytes(StandardCharsets.UTF_8);
+            List<Person> attendees = meeting.getAttendees();
+            ByteBuffer record = ByteBuffer.allocate(PARTICIPANTS_AT + (1 + attendees.size()) * 16 + 4 + title.length);
+            putUuid(record, meeting.getUuid());
+            long startMinute = Utility.toEpochMinute(meeting.getStartTime());
+            record.putLong(startMinute);
+            record.putInt((int) (Utility.toEpochMinute(meeting.getEndTime()) - startMinute));
+            Recurrence recurrence = meeting.getRecurrence();
+            record.put(recurrence == null ? 0 : (byte) (recurrence.frequency().ordinal() + 1));
+            record.putInt(recurrence == null ? 0 : recurrence.interval());
+            record.putInt(recurrence == null ? 0 : recurrence.count());
+            record.putInt(1 + attendees.size());
+            putUuid(record, meeting.getOrganizer().getUuid());
+            for (Person attendee : attendees) {
+                putUuid(record, attendee.getUuid());
+            }
+            record.putInt(title.length);
+            record.put(title);
+            return record.array();
+        }
+
+        private static void putUuid(ByteBuffer buffer, String uuid) {
+            UUID parsed = UUID.fromString(uuid);
+            buffer.putLong(parsed.getMostSignificantBits());
+            buffer.putLong(parsed.getLeastSignificantBits());
+        }
+
+        // meeting uuids, or every distinct participant of every record, as a sorted key table
+        private static ByteBuffer keyTable(int[] offsets, ByteBuffer records, boolean participants) {
+            List<long[]> rows = new ArrayList<>(offsets.length);
+            for (int index = 0; index < offsets.length; index++) {
+                int at = offsets[index];
+                if (!participants) {
+                    rows.add(new long[]{records.getLong(at), records.getLong(at + 8), index});
+                    continue;
+                }
+                Set<UUID> distinct = new LinkedHashSet<>();
+                int count = records.getInt(at + 37);
+                for (int i = 0; i < count; i++) {
+                    int uuidAt = at + PARTICIPANTS_AT + i * 16;
+                    distinct.add(new UUID(records.getLong(uuidAt), records.getLong(uuidAt + 8)));
+                }
+                for (UUID person : distinct) {
+                    rows.add(new long[]{person.getMostSignificantBits(), person.getLeastSignificantBits(), index});
+                }
+            }
+            rows.sort(Comparator.<long[]>comparingLong(row -> row[0]).thenComparingLong(row -> row[1]).thenComparingLong(row -> row[2]));
+            ByteBuffer table = ByteBuffer.allocateDirect(rows.size() * KEY_BYTES);
+            for (long[] row : rows) {
+                table.putLong(row[0]).putLong(row[1]).putInt((int) row[2]);
+            }
+            return table.asReadOnlyBuffer();
+        }
+
+        // first row not below (high, low, index)
+        private static int lowerBound(ByteBuffer table, int rows, long high, long low, int index) {
+            int from = 0;
+            int to = rows;
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                int at = mid * KEY_BYTES;
+                int cmp = Long.compare(table.getLong(at), high);
+                if (cmp == 0) {
+                    cmp = Long.compare(table.getLong(at + 8), low);
+                }
+                if (cmp == 0) {
+                    cmp = Integer.compare(table.getInt(at + 16), index);
+                }
+                if (cmp < 0) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+
+    private final class ArchiveView extends AbstractList<Meeting> implements RandomAccess {
+
+        private final Segment[] segments;
+        private final int size;
+
+        ArchiveView(Segment[] segments, int size) {
+            this.segments = segments;
+            this.size = size;
+        }
+
+        @Override
+        public Meeting get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            Segment segment = segmentOf(segments, index);
+            return segment.decode((int) (index - segment.firstOrdinal), persons);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+
+// A stored meeting plus the snapshot version that made it visible. The entry is linked into the
+// indexes before it is published; until then its version is UNPUBLISHED and snapshot readers skip it.
+public final class MeetingEntry {
+
+    static final long UNPUBLISHED = Long.MAX_VALUE;
+
+    private final Meeting meeting;
+    // null for a one-off meeting
+    private final RecurringSeries series;
+    private volatile long version = UNPUBLISHED;
+
+    MeetingEntry(Meeting meeting) {
+        this.meeting = meeting;
+        this.series = meeting.getRecurrence() == null ? null : new RecurringSeries(meeting);
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    public RecurringSeries getSeries() {
+        return series;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    void publishedAt(long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,137 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+// Immutable root of the meeting store. Meetings live in fixed-size chunks that are shared between
+// snapshots: a newer snapshot only writes slots past the older snapshot's size, so holding a snapshot
+// gives a stable view without locks or copying.
+public final class MeetingSnapshot {
+
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    static final MeetingSnapshot EMPTY = new MeetingSnapshot(0, new MeetingEntry[0][], 0);
+
+    private final long version;
+    private final MeetingEntry[][] chunks;
+    private final int size;
+
+    private MeetingSnapshot(long version, MeetingEntry[][] chunks, int size) {
+        this.version = version;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isVisible(MeetingEntry entry) {
+        return entry.getVersion() <= version;
+    }
+
+    public Meeting get(int index) {
+        return entry(index).getMeeting();
+    }
+
+    MeetingEntry entry(int index) {
+        return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    // entries are stored in publication order, so their versions increase with the index:
+    // the first index whose version is greater than the given one, found by binary search
+    public int indexAfterVersion(long version) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entry(mid).getVersion() <= version) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public long versionAt(int index) {
+        return entry(index).getVersion();
+    }
+
+    // read-only view, each call returns a new (cheap) list object over the shared chunks
+    public List<Meeting> meetings() {
+        return new MeetingsView();
+    }
+
+    // only the store's publisher calls this, so the slot written here is never visible to another snapshot
+    MeetingSnapshot append(MeetingEntry entry) {
+        MeetingEntry[][] directory = chunks;
+        int chunk = size >>> CHUNK_SHIFT;
+        if (chunk == directory.length) {
+            directory = Arrays.copyOf(directory, Math.max(4, directory.length * 2));
+        }
+        if (directory[chunk] == null) {
+            directory[chunk] = new MeetingEntry[CHUNK_SIZE];
+        }
+        directory[chunk][size & CHUNK_MASK] = entry;
+        return new MeetingSnapshot(version + 1, directory, size + 1);
+    }
+
+    // bulk load into an empty store - entries are stamped with versions 1..n in array order
+    static MeetingSnapshot of(MeetingEntry[] entries) {
+        for (int i = 0; i < entries.length; i++) {
+            entries[i].publishedAt(i + 1L);
+        }
+        return pack(entries, entries.length);
+    }
+
+    // the same version without the entries the filter drops, in fresh chunks. Versions are kept, so they
+    // still increase with the index and page cursors handed out before stay valid.
+    MeetingSnapshot retain(Predicate<MeetingEntry> keep) {
+        List<MeetingEntry> kept = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MeetingEntry entry = entry(i);
+            if (keep.test(entry)) {
+                kept.add(entry);
+            }
+        }
+        return kept.size() == size ? this : pack(kept.toArray(new MeetingEntry[0]), version);
+    }
+
+    private static MeetingSnapshot pack(MeetingEntry[] entries, long version) {
+        MeetingEntry[][] directory = new MeetingEntry[Math.max(4, (entries.length + CHUNK_MASK) >>> CHUNK_SHIFT)][];
+        for (int chunk = 0; chunk << CHUNK_SHIFT < entries.length; chunk++) {
+            directory[chunk] = new MeetingEntry[CHUNK_SIZE];
+            int from = chunk << CHUNK_SHIFT;
+            System.arraycopy(entries, from, directory[chunk], 0, Math.min(CHUNK_SIZE, entries.length - from));
+        }
+        return new MeetingSnapshot(version, directory, entries.length);
+    }
+
+    private final class MeetingsView extends AbstractList<Meeting> implements RandomAccess {
+        @Override
+        public Meeting get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return MeetingSnapshot.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.util.Utility;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Versioned (MVCC) meeting store. Writers link a new entry into the per-person indexes, then publish a
+// new immutable root; readers take the current root and see exactly the meetings published up to its
+// version, without locks and without copying.
+//
+// Callers must make sure no two add() calls for the same participant run at once (lock stripes or
+// the single writer thread). Publication itself is an O(1) step under a small monitor.
+public class MeetingStore {
+
+    private final Map<String, MeetingEntry> entriesById = new ConcurrentHashMap<>();
+    private final PersonMeetingIndex personIndex = new PersonMeetingIndex();
+    private final BusyCalendar busyCalendar = new BusyCalendar();
+    private final Object publishLock = new Object();
+    private volatile MeetingSnapshot current = MeetingSnapshot.EMPTY;
+
+    public MeetingSnapshot snapshot() {
+        return current;
+    }
+
+    public PersonMeetingIndex personIndex() {
+        return personIndex;
+    }
+
+    public BusyCalendar busyCalendar() {
+        return busyCalendar;
+    }
+
+    public Optional<Meeting> findById(String id) {
+        MeetingEntry entry = entriesById.get(id);
+        if (entry == null || !current.isVisible(entry)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getMeeting());
+    }
+
+    // published meetings of one person starting after `after` (and before `until` when given), by start time.
+    // Occurrences of recurring series are expanded from `after` on, at most `limit` of each series.
+    public List<Meeting> upcomingFor(String personId, LocalDateTime after, LocalDateTime until, int limit) {
+        MeetingSnapshot snapshot = current;
+        NavigableMap<LocalDateTime, MeetingEntry> timeline = personIndex.timeline(personId).tailMap(after, false);
+        if (until != null) {
+            timeline = timeline.headMap(until, false);
+        }
+        List<Meeting> upcoming = new ArrayList<>(Math.min(limit, 16));
+        for (MeetingEntry entry : timeline.values()) {
+            if (upcoming.size() >= limit) {
+                break;
+            }
+            if (snapshot.isVisible(entry)) {
+                upcoming.add(entry.getMeeting());
+            }
+        }
+        List<MeetingEntry> series = personIndex.series(personId);
+        if (series.isEmpty()) {
+            return upcoming;
+        }
+        long afterMinute = Utility.toEpochMinute(after);
+        long untilMinute = until == null ? Long.MAX_VALUE : Utility.toEpochMinuteCeil(until);
+        for (MeetingEntry entry : series) {
+            if (!snapshot.isVisible(entry)) {
+                continue;
+            }
+            RecurringSeries recurring = entry.getSeries();
+            // the first occurrence ending after `after` may have started before it
+            int k = recurring.firstEndingAfter(afterMinute);
+            if (k < recurring.count() && recurring.start(k) <= afterMinute) {
+                k++;
+            }
+            for (int taken = 0; k < recurring.count() && taken < limit && recurring.start(k) < untilMinute; k++, taken++) {
+                upcoming.add(recurring.occurrence(k));
+            }
+        }
+        upcoming.sort(Comparator.comparing(Meeting::getStartTime));
+        return upcoming.size() > limit ? new ArrayList<>(upcoming.subList(0, limit)) : upcoming;
+    }
+
+    // published meetings of one person overlapping [from, to), clipped to the window, with touching or
+    // overlapping meetings merged into one interval
+    public List<BusyInterval> busyIntervals(String personId, LocalDateTime from, LocalDateTime to) {
+        MeetingSnapshot snapshot = current;
+        NavigableMap<LocalDateTime, MeetingEntry> timeline = personIndex.timeline(personId);
+        // the latest meeting starting before `from` may still reach into the window
+        LocalDateTime first = timeline.lowerKey(from);
+        Collection<Meeting> meetings = new ArrayList<>();
+        for (MeetingEntry entry : timeline.subMap(first != null ? first : from, true, to, false).values()) {
+            if (snapshot.isVisible(entry)) {
+                meetings.add(entry.getMeeting());
+            }
+        }
+        List<MeetingEntry> series = personIndex.series(personId);
+        if (!series.isEmpty()) {
+            // occurrences inside the window only, then everything back in start order
+            long fromMinute = Utility.toEpochMinute(from);
+            long toMinute = Utility.toEpochMinuteCeil(to);
+            for (MeetingEntry entry : series) {
+                RecurringSeries recurring = entry.getSeries();
+                if (!snapshot.isVisible(entry)) {
+                    continue;
+                }
+                for (int k = recurring.firstEndingAfter(fromMinute); k < recurring.count() && recurring.start(k) < toMinute; k++) {
+                    meetings.add(recurring.occurrence(k));
+                }
+            }
+            List<Meeting> sorted = new ArrayList<>(meetings);
+            sorted.sort(Comparator.comparing(Meeting::getStartTime));
+            meetings = sorted;
+        }
+        List<BusyInterval> busy = new ArrayList<>(meetings.size());
+        for (Meeting meeting : meetings) {
+            if (meeting.getEndTime().isAfter(from)) {
+                busy.add(new BusyInterval(meeting.getStartTime().isBefore(from) ? from : meeting.getStartTime(),
+                        meeting.getEndTime().isAfter(to) ? to : meeting.getEndTime()));
+            }
+        }
+        return BusyInterval.merge(busy);
+    }
+
+    public MeetingEntry add(Meeting meeting) {
+        return addAll(List.of(meeting)).get(0);
+    }
+
+    // the whole batch becomes visible with a single root swap - readers see all of it or none of it
+    public List<MeetingEntry> addAll(List<Meeting> meetings) {
+        List<MeetingEntry> entries = new ArrayList<>(meetings.size());
+        for (Meeting meeting : meetings) {
+            MeetingEntry entry = new MeetingEntry(meeting);
+            entriesById.put(meeting.getUuid(), entry);
+            personIndex.add(entry);
+            busyCalendar.markBusy(meeting);
+            entries.add(entry);
+        }
+        synchronized (publishLock) {
+            MeetingSnapshot next = current;
+            for (MeetingEntry entry : entries) {
+                next = next.append(entry);
+                // stamp before swapping the root: a reader that sees the new root also sees the stamp
+                entry.publishedAt(next.version());
+            }
+            current = next;
+        }
+        return entries;
+    }
+
+    // Moves every meeting that ended at or before the cutoff - a series once its last occurrence has -
+    // out of the store. The sink gets them, in publication order, while they are still reachable here,
+    // so a reader finds each one in one place or the other. They leave the root first, then the indexes.
+    // Callers must keep bookings out meanwhile (every stripe held, or the writer thread).
+    public List<Meeting> expire(LocalDateTime cutoff, Consumer<List<Meeting>> sink) {
+        long cutoffMinute = Utility.toEpochMinute(cutoff);
+        MeetingSnapshot snapshot = current;
+        List<MeetingEntry> expired = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            MeetingEntry entry = snapshot.entry(i);
+            if (endsBy(entry, cutoff, cutoffMinute)) {
+                expired.add(entry);
+            }
+        }
+        List<Meeting> meetings = new ArrayList<>(expired.size());
+        List<Meeting> series = new ArrayList<>();
+        for (MeetingEntry entry : expired) {
+            meetings.add(entry.getMeeting());
+            if (entry.getSeries() != null) {
+                series.add(entry.getMeeting());
+            }
+        }
+        if (meetings.isEmpty()) {
+            return meetings;
+        }
+        sink.accept(meetings);
+        synchronized (publishLock) {
+            current = current.retain(entry -> !endsBy(entry, cutoff, cutoffMinute));
+        }
+        for (MeetingEntry entry : expired) {
+            entriesById.remove(entry.getMeeting().getUuid(), entry);
+            personIndex.remove(entry);
+        }
+        busyCalendar.forget(series, Utility.toEpochHour(cutoff));
+        return meetings;
+    }
+
+    // Takes back meetings whose journal record never became durable. They leave the root first, then the
+    // indexes, then the busy hours. Callers must keep bookings of the participants out meanwhile.
+    public void unlink(List<MeetingEntry> entries) {
+        Set<MeetingEntry> lost = Collections.newSetFromMap(new IdentityHashMap<>());
+        lost.addAll(entries);
+        synchronized (publishLock) {
+            current = current.retain(entry -> !lost.contains(entry));
+        }
+        for (MeetingEntry entry : entries) {
+            entriesById.remove(entry.getMeeting().getUuid(), entry);
+            personIndex.remove(entry);
+        }
+        for (MeetingEntry entry : entries) {
+            busyCalendar.unmark(entry.getMeeting(), personIndex);
+        }
+    }
+
+    private static boolean endsBy(MeetingEntry entry, LocalDateTime cutoff, long cutoffMinute) {
+        return entry.getSeries() != null ? entry.getSeries().lastEnd() <= cutoffMinute : !entry.getMeeting().getEndTime().isAfter(cutoff);
+    }
+
+    // cold start into an empty store: every index is a concurrent structure, so entries are linked in
+    // parallel and the whole list is published with one root swap, versioned in list order
+    public void load(List<Meeting> meetings) {
+        if (current.size() != 0) {
+            throw new IllegalStateException("Meetings can only be bulk loaded into an empty store");
+        }
+        MeetingEntry[] entries = new MeetingEntry[meetings.size()];
+        IntStream.range(0, entries.length).parallel().forEach(i -> {
+            Meeting meeting = meetings.get(i);
+            MeetingEntry entry = new MeetingEntry(meeting);
+            entriesById.put(meeting.getUuid(), entry);
+            personIndex.add(entry);
+            busyCalendar.markBusy(meeting);
+            entries[i] = entry;
+        });
+        synchronized (publishLock) {
+            current = MeetingSnapshot.of(entries);
+        }
+    }
+}
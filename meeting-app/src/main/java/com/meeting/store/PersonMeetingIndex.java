@@ -0,0 +1,286 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.util.Utility;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Per-person time index (person uuid -> start time -> meeting) so a conflict check
+// only looks at the participants' own calendars instead of every meeting in the system.
+// Conflict checks see unpublished entries too - they belong to bookings still holding those persons.
+//
+// A person's meetings never overlap, so each timeline is an interval index over disjoint intervals of
+// any length: ordered by start they are ordered by end as well, and the largest end among the meetings
+// before a point is simply the end of the last one - the max-end augmentation of an interval tree is
+// implicit. An overlap query is one lowerEntry plus a range walk: O(log n + k).
+//
+// Recurring series are kept apart from the timeline, as a short list of rules per person. They are
+// tested arithmetically by conflict checks and expanded lazily, only inside the window being searched.
+public class PersonMeetingIndex {
+
+    private static final MeetingEntry[] NO_SERIES = new MeetingEntry[0];
+
+    private final Map<String, NavigableMap<LocalDateTime, MeetingEntry>> meetingsByPerson = new ConcurrentHashMap<>();
+    // copy-on-write per person
+    private final Map<String, MeetingEntry[]> seriesByPerson = new ConcurrentHashMap<>();
+
+    public void add(MeetingEntry entry) {
+        Meeting meeting = entry.getMeeting();
+        for (Person person : participantsOf(meeting)) {
+            if (person.getUuid() == null) {
+                continue;
+            }
+            if (entry.getSeries() != null) {
+                seriesByPerson.merge(person.getUuid(), new MeetingEntry[]{entry}, (present, added) -> {
+                    MeetingEntry[] next = Arrays.copyOf(present, present.length + 1);
+                    next[present.length] = entry;
+                    return next;
+                });
+            } else {
+                meetingsByPerson.computeIfAbsent(person.getUuid(), id -> new ConcurrentSkipListMap<>())
+                        .put(meeting.getStartTime(), entry);
+            }
+        }
+    }
+
+    // unlinks a meeting from its participants' calendars - empty calendars are dropped
+    public void remove(MeetingEntry entry) {
+        Meeting meeting = entry.getMeeting();
+        for (Person person : participantsOf(meeting)) {
+            if (person.getUuid() == null) {
+                continue;
+            }
+            if (entry.getSeries() != null) {
+                seriesByPerson.computeIfPresent(person.getUuid(), (id, present) -> {
+                    MeetingEntry[] next = Arrays.stream(present).filter(other -> other != entry).toArray(MeetingEntry[]::new);
+                    return next.length == 0 ? null : next;
+                });
+            } else {
+                meetingsByPerson.computeIfPresent(person.getUuid(), (id, timeline) -> {
+                    timeline.remove(meeting.getStartTime(), entry);
+                    return timeline.isEmpty() ? null : timeline;
+                });
+            }
+        }
+    }
+
+    public boolean hasConflict(Collection<Person> persons, LocalDateTime startTime, LocalDateTime endTime) {
+        return scan(persons, startTime, endTime).conflict();
+    }
+
+    // outcome of a conflict check and how many meetings it had to look at - for a one-off meeting at
+    // most one per participant, plus one per series the participant attends
+    public record Scan(boolean conflict, int meetingsScanned) {
+    }
+
+    public Scan scan(Collection<Person> persons, LocalDateTime startTime, LocalDateTime endTime) {
+        int meetings = 0;
+        for (Person person : persons) {
+            if (person == null || person.getUuid() == null) {
+                continue;
+            }
+            NavigableMap<LocalDateTime, MeetingEntry> timeline = meetingsByPerson.get(person.getUuid());
+            // a person's meetings never overlap each other, so only the latest meeting starting
+            // before endTime can reach into [startTime, endTime) - no need to look further back
+            Map.Entry<LocalDateTime, MeetingEntry> previous = timeline == null ? null : timeline.lowerEntry(endTime);
+            if (previous != null) {
+                meetings++;
+                if (previous.getValue().getMeeting().getEndTime().isAfter(startTime)) {
+                    return new Scan(true, meetings);
+                }
+            }
+            // each series finds the one occurrence that could reach the window in O(1)
+            for (MeetingEntry entry : seriesByPerson.getOrDefault(person.getUuid(), NO_SERIES)) {
+                meetings++;
+                if (entry.getSeries().overlaps(Utility.toEpochMinute(startTime), Utility.toEpochMinuteCeil(endTime))) {
+                    return new Scan(true, meetings);
+                }
+            }
+        }
+        return new Scan(false, meetings);
+    }
+
+    // conflict check for a new series, without expanding it: every one-off meeting inside its span is
+    // tested against the series in O(1), every series of the participants against it in O(1)
+    public Scan scan(Collection<Person> persons, RecurringSeries series) {
+        LocalDateTime from = Utility.fromEpochMinute(series.firstStart());
+        LocalDateTime to = Utility.fromEpochMinute(series.lastEnd());
+        int meetings = 0;
+        for (Person person : persons) {
+            if (person == null || person.getUuid() == null) {
+                continue;
+            }
+            for (MeetingEntry entry : range(person.getUuid(), from, to)) {
+                Meeting meeting = entry.getMeeting();
+                meetings++;
+                if (series.overlaps(Utility.toEpochMinute(meeting.getStartTime()), Utility.toEpochMinuteCeil(meeting.getEndTime()))) {
+                    return new Scan(true, meetings);
+                }
+            }
+            for (MeetingEntry entry : seriesByPerson.getOrDefault(person.getUuid(), NO_SERIES)) {
+                meetings++;
+                if (series.overlaps(entry.getSeries())) {
+                    return new Scan(true, meetings);
+                }
+            }
+        }
+        return new Scan(false, meetings);
+    }
+
+    // the person's one-off meetings overlapping [startTime, endTime), in start order
+    public List<MeetingEntry> overlapping(String personId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<MeetingEntry> overlapping = new ArrayList<>();
+        for (MeetingEntry entry : range(personId, startTime, endTime)) {
+            if (entry.getMeeting().getEndTime().isAfter(startTime)) {
+                overlapping.add(entry);
+            }
+        }
+        return overlapping;
+    }
+
+    // the meetings that may overlap [startTime, endTime): the last one starting before startTime and
+    // every one starting inside the window - nothing earlier can reach in
+    private Collection<MeetingEntry> range(String personId, LocalDateTime startTime, LocalDateTime endTime) {
+        NavigableMap<LocalDateTime, MeetingEntry> timeline = personId == null ? null : meetingsByPerson.get(personId);
+        if (timeline == null || !startTime.isBefore(endTime)) {
+            return List.of();
+        }
+        LocalDateTime first = timeline.lowerKey(startTime);
+        return timeline.subMap(first != null ? first : startTime, true, endTime, false).values();
+    }
+
+    // Start times in [from, to) at which all persons are free for `duration`, on multiples of `step`
+    // counted from the epoch, earliest first. A k-way merge walks the persons' start-ordered meetings as
+    // one sequence: a candidate is emitted once the next meeting starts at or after its end, and a
+    // meeting overlapping the candidate moves it to the first step after that meeting - so the cost is
+    // O((persons + meetings in the window) x log persons), however fine the step. Each series is one
+    // more sorted sequence, its occurrences generated from the first one reaching the window.
+    // Returns epoch minutes; `to` bounds the start, the meeting itself may run past it.
+    public List<Long> findFreeSlots(Collection<Person> persons, LocalDateTime from, LocalDateTime to,
+                                    Duration duration, Duration step, int maxResults) {
+        List<Long> slots = new ArrayList<>();
+        long durationMinutes = duration.toMinutes();
+        long stepMinutes = step.toMinutes();
+        long toMinute = Utility.toEpochMinuteCeil(to);
+        long candidate = alignUp(Utility.toEpochMinuteCeil(from), stepMinutes);
+        if (candidate >= toMinute || maxResults <= 0) {
+            return slots;
+        }
+        long horizonMinute = toMinute + durationMinutes;
+        LocalDateTime horizon = Utility.fromEpochMinute(horizonMinute);
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, persons.size()), Comparator.comparingLong(Cursor::start));
+        for (Person person : persons) {
+            if (person != null && person.getUuid() != null) {
+                Cursor cursor = new TimelineCursor(range(person.getUuid(), Utility.fromEpochMinute(candidate), horizon).iterator());
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+                for (MeetingEntry entry : seriesByPerson.getOrDefault(person.getUuid(), NO_SERIES)) {
+                    Cursor occurrences = new SeriesCursor(entry.getSeries(), candidate, horizonMinute);
+                    if (occurrences.advance()) {
+                        heads.add(occurrences);
+                    }
+                }
+            }
+        }
+
+        while (candidate < toMinute && slots.size() < maxResults) {
+            Cursor next = heads.peek();
+            if (next == null || next.start >= candidate + durationMinutes) {
+                slots.add(candidate);
+                candidate += stepMinutes;
+                continue;
+            }
+            heads.poll();
+            if (next.end > candidate) {
+                candidate = alignUp(next.end, stepMinutes);
+            }
+            if (next.advance()) {
+                heads.add(next);
+            }
+        }
+        return slots;
+    }
+
+    private static long alignUp(long minute, long step) {
+        return Math.floorDiv(minute + step - 1, step) * step;
+    }
+
+    // the current meeting of one sorted sequence, in epoch minutes
+    private abstract static class Cursor {
+        long start;
+        long end;
+
+        abstract boolean advance();
+
+        long start() {
+            return start;
+        }
+    }
+
+    private static final class TimelineCursor extends Cursor {
+        private final Iterator<MeetingEntry> meetings;
+
+        private TimelineCursor(Iterator<MeetingEntry> meetings) {
+            this.meetings = meetings;
+        }
+
+        @Override
+        boolean advance() {
+            if (!meetings.hasNext()) {
+                return false;
+            }
+            Meeting meeting = meetings.next().getMeeting();
+            start = Utility.toEpochMinute(meeting.getStartTime());
+            end = Utility.toEpochMinuteCeil(meeting.getEndTime());
+            return true;
+        }
+    }
+
+    // occurrences of a series from the first one ending after `from` to the last one starting before `to`
+    private static final class SeriesCursor extends Cursor {
+        private final RecurringSeries series;
+        private final long to;
+        private int next;
+
+        private SeriesCursor(RecurringSeries series, long from, long to) {
+            this.series = series;
+            this.to = to;
+            this.next = series.firstEndingAfter(from);
+        }
+
+        @Override
+        boolean advance() {
+            if (next >= series.count() || series.start(next) >= to) {
+                return false;
+            }
+            start = series.start(next);
+            end = series.end(next);
+            next++;
+            return true;
+        }
+    }
+
+    // the person's recurring series, in the order they were added
+    public List<MeetingEntry> series(String personId) {
+        MeetingEntry[] series = personId == null ? null : seriesByPerson.get(personId);
+        return series == null ? List.of() : List.of(series);
+    }
+
+    // the person's one-off meetings
+    public NavigableMap<LocalDateTime, MeetingEntry> timeline(String personId) {
+        NavigableMap<LocalDateTime, MeetingEntry> timeline = personId == null ? null : meetingsByPerson.get(personId);
+        return timeline == null ? Collections.emptyNavigableMap() : Collections.unmodifiableNavigableMap(timeline);
+    }
+
+    public static List<Person> participantsOf(Meeting meeting) {
+        List<Person> participants = new ArrayList<>(meeting.getAttendees());
+        participants.add(meeting.getOrganizer());
+        return participants;
+    }
+}
@@ -0,0 +1,212 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Recurrence;
+import com.meeting.util.Utility;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// A recurring meeting in epoch minutes: occurrence k covers [start(k), start(k) + duration) for k in
+// [0, count). Nothing is expanded up front - the occurrence reaching a point is computed directly, and
+// a query only walks the occurrences inside its own window. Daily and weekly series have a fixed
+// period, so whether two of them ever overlap is a small linear congruence, however long they run.
+// Occurrences of one series never overlap each other: a meeting lasts at most a day, a period is at
+// least one.
+public final class RecurringSeries {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final Meeting meeting;
+    private final Recurrence recurrence;
+    private final LocalDateTime firstStartTime;
+    private final long firstStart;
+    private final long duration;
+    // 0 for monthly series, whose occurrences are a calendar month apart
+    private final long period;
+    private final int count;
+    private final long lastEnd;
+
+    public RecurringSeries(Meeting meeting) {
+        if (meeting.getRecurrence() == null) {
+            throw new IllegalArgumentException("Meeting " + meeting.getUuid() + " does not recur");
+        }
+        this.meeting = meeting;
+        this.recurrence = meeting.getRecurrence();
+        this.firstStartTime = meeting.getStartTime();
+        this.firstStart = Utility.toEpochMinute(meeting.getStartTime());
+        this.duration = Utility.toEpochMinuteCeil(meeting.getEndTime()) - firstStart;
+        this.period = switch (recurrence.frequency()) {
+            case DAILY -> MINUTES_PER_DAY * recurrence.interval();
+            case WEEKLY -> 7 * MINUTES_PER_DAY * recurrence.interval();
+            case MONTHLY -> 0;
+        };
+        this.count = recurrence.count();
+        this.lastEnd = end(count - 1);
+    }
+
+    public Meeting meeting() {
+        return meeting;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long firstStart() {
+        return firstStart;
+    }
+
+    public long lastEnd() {
+        return lastEnd;
+    }
+
+    public long start(long k) {
+        return period != 0 ? firstStart + k * period : Utility.toEpochMinute(recurrence.occurrence(firstStartTime, k));
+    }
+
+    public long end(long k) {
+        return start(k) + duration;
+    }
+
+    // index of the first occurrence ending after `minute`, count when there is none
+    public int firstEndingAfter(long minute) {
+        if (minute < firstStart + duration) {
+            return 0;
+        }
+        if (minute >= lastEnd) {
+            return count;
+        }
+        long k;
+        if (period != 0) {
+            k = Math.floorDiv(minute - firstStart - duration, period) + 1;
+        } else {
+            // whole months from the first start - start one occurrence early and step to the answer
+            long months = ChronoUnit.MONTHS.between(firstStartTime, Utility.fromEpochMinute(minute - duration));
+            k = Math.max(0, months / recurrence.interval() - 1);
+            while (k < count && end(k) <= minute) {
+                k++;
+            }
+        }
+        return (int) Math.min(k, count);
+    }
+
+    // whether an occurrence overlaps [from, to), in epoch minutes
+    public boolean overlaps(long from, long to) {
+        int k = firstEndingAfter(from);
+        return k < count && start(k) < to;
+    }
+
+    public boolean overlaps(RecurringSeries other) {
+        if (firstStart >= other.lastEnd || other.firstStart >= lastEnd) {
+            return false;
+        }
+        if (period != 0 && other.period != 0) {
+            return periodsMeet(other);
+        }
+        // a monthly series has twelve occurrences a year - each one inside the other's span is tested
+        // against the other series directly
+        RecurringSeries monthly = period == 0 ? this : other;
+        RecurringSeries rest = monthly == this ? other : this;
+        for (int k = monthly.firstEndingAfter(rest.firstStart); k < monthly.count; k++) {
+            long start = monthly.start(k);
+            if (start >= rest.lastEnd) {
+                break;
+            }
+            if (rest.overlaps(start, start + monthly.duration)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Occurrence i of this series and j of the other overlap when
+    //   offset + j Q - i P  lies in  (-other.duration, duration),   offset = other.firstStart - firstStart.
+    // j Q - i P only takes multiples of g = gcd(P, Q); with periods of whole days and durations of at
+    // most one, at most three multiples fall in that range, and each is one congruence to solve.
+    private boolean periodsMeet(RecurringSeries other) {
+        long g = gcd(period, other.period);
+        long offset = other.firstStart - firstStart;
+        long mFrom = Math.floorDiv(-other.duration - offset, g) + 1;
+        long mTo = Math.ceilDiv(duration - offset, g) - 1;
+        for (long m = mFrom; m <= mTo; m++) {
+            if (solvable(m, period / g, other.period / g, count, other.count)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // whether j q - i p = m has a solution with 0 <= i < countI and 0 <= j < countJ, for coprime p and q:
+    // j = j0 + t p and i = i0 + t q for any t, so it is a matter of intersecting two ranges of t
+    static boolean solvable(long m, long p, long q, int countI, int countJ) {
+        long j0 = p == 1 ? 0 : Math.floorMod(Math.floorMod(m, p) * inverse(Math.floorMod(q, p), p), p);
+        long i0 = (j0 * q - m) / p;
+        long tFrom = Math.max(Math.ceilDiv(-j0, p), Math.ceilDiv(-i0, q));
+        long tTo = Math.min(Math.floorDiv(countJ - 1 - j0, p), Math.floorDiv(countI - 1 - i0, q));
+        return tFrom <= tTo;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long next = a % b;
+            a = b;
+            b = next;
+        }
+        return a;
+    }
+
+    // a^-1 mod m for coprime a and m, by the extended Euclidean algorithm
+    private static long inverse(long a, long m) {
+        long oldR = a;
+        long r = m;
+        long oldS = 1;
+        long s = 0;
+        while (r != 0) {
+            long quotient = oldR / r;
+            long next = oldR - quotient * r;
+            oldR = r;
+            r = next;
+            next = oldS - quotient * s;
+            oldS = s;
+            s = next;
+        }
+        return Math.floorMod(oldS, m);
+    }
+
+    // bit i set when an occurrence covers part of epoch hour wordIndex * 64 + i
+    public long hourWord(long wordIndex) {
+        long fromHour = wordIndex << 6;
+        long fromMinute = fromHour * 60;
+        long toMinute = fromMinute + 64 * 60;
+        if (toMinute <= firstStart || fromMinute >= lastEnd) {
+            return 0L;
+        }
+        long word = 0L;
+        for (int k = firstEndingAfter(fromMinute); k < count; k++) {
+            long start = start(k);
+            if (start >= toMinute) {
+                break;
+            }
+            long from = Math.max(fromHour, Math.floorDiv(start, 60)) - fromHour;
+            long to = Math.min(fromHour + 64, Math.floorDiv(start + duration + 59, 60)) - fromHour;
+            word |= to - from == 64 ? -1L : ((1L << (to - from)) - 1) << from;
+        }
+        return word;
+    }
+
+    // occurrence k as a meeting of its own - same uuid and rule as the series, its own times
+    public Meeting occurrence(int k) {
+        LocalDateTime start = recurrence.occurrence(firstStartTime, k);
+        return Meeting.builder()
+                .uuid(meeting.getUuid())
+                .title(meeting.getTitle())
+                .startTime(start)
+                .endTime(start.plus(Duration.ofMinutes(duration)))
+                .organizer(meeting.getOrganizer())
+                .attendees(meeting.getAttendees())
+                .recurrence(recurrence)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.meeting.store;
+
+import com.meeting.entity.Person;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+// Ranks the free hours of a group instead of returning the first ones. Every hour where all
+// participants are free is scored by
+//   - time of day: inside the preferred hours, inside the workday, or outside it (and on weekends),
+//   - spacing: whether the participant's neighbouring hours are meetings, i.e. back-to-back,
+//   - fragmentation: whether the meeting strands a free gap shorter than minGapHours next to it,
+// the last two averaged over the participants, and only the best K are kept.
+//
+// The window is cut into chunks scored in parallel; each chunk keeps its own bounded min-heap of K, so
+// memory is K per chunk however large the window is. A chunk copies the bitmap words it needs once,
+// and a free hour is scored with plain bit tests.
+public class SlotRanker {
+
+    public record Preferences(int workdayStart, int workdayEnd, int preferredStart, int preferredEnd, int minGapHours,
+                              double timeOfDayWeight, double spacingWeight, double fragmentationWeight) {
+
+        public Preferences {
+            if (workdayStart < 0 || workdayStart >= workdayEnd || workdayEnd > 24
+                    || preferredStart < workdayStart || preferredStart >= preferredEnd || preferredEnd > workdayEnd) {
+                throw new IllegalArgumentException("Preferred hours must lie within a non-empty workday");
+            }
+            if (minGapHours < 1 || timeOfDayWeight < 0 || spacingWeight < 0 || fragmentationWeight < 0
+                    || timeOfDayWeight + spacingWeight + fragmentationWeight == 0) {
+                throw new IllegalArgumentException("Gap must be positive and weights non-negative with a positive sum");
+            }
+        }
+    }
+
+    // score in [0, 1], higher is better
+    public record RankedHour(long hour, double score) {
+    }
+
+    // best first; equal scores keep the earlier hour first
+    private static final Comparator<RankedHour> BEST_FIRST =
+            Comparator.comparingDouble(RankedHour::score).reversed().thenComparingLong(RankedHour::hour);
+
+    private final BusyCalendar calendar;
+    private final Preferences preferences;
+    private final int chunkHours;
+
+    public SlotRanker(BusyCalendar calendar, Preferences preferences, int chunkHours) {
+        if (chunkHours < 64) {
+            throw new IllegalArgumentException("Chunks must cover at least 64 hours");
+        }
+        this.calendar = calendar;
+        this.preferences = preferences;
+        this.chunkHours = chunkHours;
+    }
+
+    public List<RankedHour> rank(Collection<Person> persons, long fromHour, long toHour, int maxResults) {
+        if (fromHour >= toHour || maxResults <= 0) {
+            return List.of();
+        }
+        List<HourBitmap> bitmaps = new ArrayList<>();
+        for (Person person : persons) {
+            HourBitmap bitmap = person == null ? null : calendar.bitmap(person.getUuid());
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        int chunks = (int) ((toHour - fromHour + chunkHours - 1) / chunkHours);
+        IntStream chunkIndexes = IntStream.range(0, chunks);
+        List<PriorityQueue<RankedHour>> heaps = (chunks > 1 ? chunkIndexes.parallel() : chunkIndexes)
+                .mapToObj(chunk -> rankChunk(bitmaps, persons.size(), fromHour + (long) chunk * chunkHours,
+                        Math.min(toHour, fromHour + (long) (chunk + 1) * chunkHours), maxResults))
+                .toList();
+        PriorityQueue<RankedHour> best = new PriorityQueue<>(maxResults + 1, BEST_FIRST.reversed());
+        for (PriorityQueue<RankedHour> heap : heaps) {
+            for (RankedHour hour : heap) {
+                offer(best, hour, maxResults);
+            }
+        }
+        List<RankedHour> ranked = new ArrayList<>(best);
+        ranked.sort(BEST_FIRST);
+        return ranked;
+    }
+
+    private PriorityQueue<RankedHour> rankChunk(List<HourBitmap> bitmaps, int participants, long fromHour, long toHour, int maxResults) {
+        // words from minGapHours before the chunk to minGapHours after it, one row per participant
+        long firstWord = (fromHour - preferences.minGapHours()) >> 6;
+        long lastWord = (toHour - 1 + preferences.minGapHours()) >> 6;
+        int wordCount = (int) (lastWord - firstWord + 1);
+        long[][] words = new long[bitmaps.size()][wordCount];
+        long[] busy = new long[wordCount];
+        for (int p = 0; p < bitmaps.size(); p++) {
+            for (int w = 0; w < wordCount; w++) {
+                words[p][w] = bitmaps.get(p).word(firstWord + w);
+                busy[w] |= words[p][w];
+            }
+        }
+
+        // min-heap on score: the root is the worst of the K kept so far
+        PriorityQueue<RankedHour> heap = new PriorityQueue<>(maxResults + 1, BEST_FIRST.reversed());
+        for (long wordIndex = fromHour >> 6; wordIndex <= (toHour - 1) >> 6; wordIndex++) {
+            long free = ~busy[(int) (wordIndex - firstWord)] & BusyCalendar.windowMask(wordIndex, fromHour, toHour);
+            while (free != 0) {
+                long hour = (wordIndex << 6) + Long.numberOfTrailingZeros(free);
+                offer(heap, new RankedHour(hour, score(words, firstWord, participants, hour)), maxResults);
+                free &= free - 1;
+            }
+        }
+        return heap;
+    }
+
+    private static void offer(PriorityQueue<RankedHour> heap, RankedHour hour, int maxResults) {
+        if (heap.size() < maxResults) {
+            heap.add(hour);
+        } else if (BEST_FIRST.compare(hour, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(hour);
+        }
+    }
+
+    double score(long[][] words, long firstWord, int participants, long hour) {
+        // epoch hours are numbered from 1970-01-01T00:00, a Thursday
+        int hourOfDay = (int) Math.floorMod(hour, 24L);
+        int dayOfWeek = (int) Math.floorMod(Math.floorDiv(hour, 24L) + 3, 7L);   // 0 = Monday
+        long dayStart = hour - hourOfDay;
+        boolean workday = dayOfWeek < 5 && hourOfDay >= preferences.workdayStart() && hourOfDay < preferences.workdayEnd();
+        double timeOfDay = !workday ? 0.0
+                : hourOfDay >= preferences.preferredStart() && hourOfDay < preferences.preferredEnd() ? 1.0 : 0.5;
+
+        // persons without any meeting have free neighbours and no stranded gaps - full marks on both
+        double spacing = participants - words.length;
+        double fragmentation = participants - words.length;
+        long workdayFrom = dayStart + preferences.workdayStart();
+        long workdayTo = dayStart + preferences.workdayEnd();
+        for (long[] row : words) {
+            int backToBack = 0;
+            int stranded = 0;
+            for (int direction = -1; direction <= 1; direction += 2) {
+                // free hours between the meeting and the next busy hour or the workday edge on this side
+                int gap = 0;
+                long next = hour + direction;
+                while (gap < preferences.minGapHours() && next >= workdayFrom && next < workdayTo && !isSet(row, firstWord, next)) {
+                    gap++;
+                    next += direction;
+                }
+                if (gap == 0 && isSet(row, firstWord, hour + direction)) {
+                    backToBack++;
+                }
+                if (gap > 0 && gap < preferences.minGapHours()) {
+                    stranded++;
+                }
+            }
+            spacing += 1.0 - backToBack / 2.0;
+            fragmentation += 1.0 - stranded / 2.0;
+        }
+        double weights = preferences.timeOfDayWeight() + preferences.spacingWeight() + preferences.fragmentationWeight();
+        return (preferences.timeOfDayWeight() * timeOfDay
+                + preferences.spacingWeight() * spacing / participants
+                + preferences.fragmentationWeight() * fragmentation / participants) / weights;
+    }
+
+    private static boolean isSet(long[] row, long firstWord, long hour) {
+        return (row[(int) ((hour >> 6) - firstWord)] & (1L << (hour & 63))) != 0;
+    }
+}
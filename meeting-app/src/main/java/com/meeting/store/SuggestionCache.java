@@ -0,0 +1,161 @@
+package com.meeting.store;
+
+import com.meeting.entity.Person;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Bounded cache of slot searches keyed by (sorted participant ids, window, duration, max results).
+// An entry keeps the calendar version of every participant it was computed from and is served only
+// while none of them changed, so a booking invalidates exactly the entries of its own participants -
+// lazily, on their next lookup. Versions are read before the search, so a booking racing with it can
+// only make the entry look stale, never fresh.
+//
+// Entries are spread over segments, each an access-ordered LinkedHashMap that drops its least recently
+// used entries once it holds more than its share of the entry budget or of the estimated byte budget.
+public class SuggestionCache {
+
+    private static final int SEGMENTS = 16;
+    // rough heap cost of a map node, key, entry and arrays, plus the per-person and per-slot parts
+    private static final long ENTRY_BYTES = 192;
+    private static final long PERSON_BYTES = 112;
+    private static final long SLOT_BYTES = 8;
+
+    private final BusyCalendar calendar;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SuggestionCache(BusyCalendar calendar, int maxEntries, long maxBytes) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Suggestion cache bounds must be positive");
+        }
+        this.calendar = calendar;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(Math.max(1, maxEntries / SEGMENTS), Math.max(1, maxBytes / SEGMENTS));
+        }
+    }
+
+    // the window bounds are in whatever unit the search uses - epoch minutes for slot suggestions
+    public record Key(List<String> personIds, long from, long to, long durationMinutes, int maxResults) {
+
+        // null when a participant has no id - such a search is not cached
+        public static Key of(Collection<Person> persons, long from, long to, long durationMinutes, int maxResults) {
+            TreeSet<String> ids = new TreeSet<>();
+            for (Person person : persons) {
+                if (person == null || person.getUuid() == null) {
+                    return null;
+                }
+                ids.add(person.getUuid());
+            }
+            return new Key(List.copyOf(ids), from, to, durationMinutes, maxResults);
+        }
+    }
+
+    public record Result(List<Long> slots, boolean cached) {
+    }
+
+    private record Entry(long[] versions, List<Long> slots, long bytes) {
+    }
+
+    public Result get(Key key, Supplier<List<Long>> search) {
+        Segment segment = segments[Math.floorMod(key.hashCode(), SEGMENTS)];
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+        }
+        if (entry != null && Arrays.equals(entry.versions(), versions(key))) {
+            hits.increment();
+            return new Result(entry.slots(), true);
+        }
+        if (entry != null) {
+            stale.increment();
+        } else {
+            misses.increment();
+        }
+
+        long[] versions = versions(key);
+        List<Long> slots = List.copyOf(search.get());
+        Entry fresh = new Entry(versions, slots,
+                ENTRY_BYTES + PERSON_BYTES * key.personIds().size() + SLOT_BYTES * slots.size());
+        synchronized (segment) {
+            segment.store(key, fresh);
+        }
+        return new Result(slots, false);
+    }
+
+    private long[] versions(Key key) {
+        long[] versions = new long[key.personIds().size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = calendar.version(key.personIds().get(i));
+        }
+        return versions;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long staleHits() {
+        return stale.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                bytes += segment.bytes;
+            }
+        }
+        return bytes;
+    }
+
+    // guarded by its own monitor
+    private final class Segment extends LinkedHashMap<Key, Entry> {
+
+        private final int maxEntries;
+        private final long maxBytes;
+        private long bytes;
+
+        private Segment(int maxEntries, long maxBytes) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        private void store(Key key, Entry entry) {
+            if (entry.bytes() > maxBytes) {
+                return;
+            }
+            Entry previous = put(key, entry);
+            bytes += entry.bytes() - (previous == null ? 0 : previous.bytes());
+            Iterator<Entry> eldest = values().iterator();
+            while (size() > maxEntries || bytes > maxBytes) {
+                bytes -= eldest.next().bytes();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
@@ -1,4 +1,50 @@
 package com.meeting.util;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
 public class Utility {
+
+    private static final long SECONDS_PER_HOUR = 3600;
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private Utility() {
+    }
+
+    // hours since 1970-01-01T00:00 on the local clock - meetings are stored as LocalDateTime so the
+    // offset only serves as a fixed numbering, it never converts between zones
+    public static long toEpochHour(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_HOUR);
+    }
+
+    // same as toEpochHour but rounds a time past the hour mark up to the next hour
+    public static long toEpochHourCeil(LocalDateTime dateTime) {
+        long hour = toEpochHour(dateTime);
+        if (dateTime.getMinute() != 0 || dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+            hour++;
+        }
+        return hour;
+    }
+
+    public static LocalDateTime fromEpochHour(long epochHour) {
+        return LocalDateTime.ofEpochSecond(epochHour * SECONDS_PER_HOUR, 0, ZoneOffset.UTC);
+    }
+
+    // minutes since 1970-01-01T00:00 on the same fixed numbering as toEpochHour
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    // same as toEpochMinute but rounds a time past the minute mark up to the next minute
+    public static long toEpochMinuteCeil(LocalDateTime dateTime) {
+        long minute = toEpochMinute(dateTime);
+        if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+            minute++;
+        }
+        return minute;
+    }
+
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
 }
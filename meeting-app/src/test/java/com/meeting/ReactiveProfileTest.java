@@ -0,0 +1,147 @@
+package com.meeting;
+
+import com.meeting.dto.ImportResultDTO;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "meeting.journal.enabled=false",
+        "meeting.snapshot.enabled=false"})
+@ActiveProfiles("reactive")
+public class ReactiveProfileTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void testSchedule_ReactiveProfile_ShouldStreamEveryOccurrenceAcrossChunks() {
+        // Given
+        Person organizer = createPerson("Reactive Organizer", "reactive.organizer@example.com");
+        createPerson("Reactive Attendee", "reactive.attendee@example.com");
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        client.post().uri("/api/meetings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "title", "Daily",
+                        "startTime", start.toString(),
+                        "organizerEmail", "reactive.organizer@example.com",
+                        "attendeeEmails", List.of("reactive.attendee@example.com"),
+                        "recurrence", Map.of("frequency", "DAILY", "count", 600)))
+                .exchange()
+                .expectStatus().isCreated();
+
+        // When
+        List<Meeting> all = client.get().uri("/api/meetings/schedule/" + organizer.getUuid())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Meeting.class).returnResult().getResponseBody();
+        List<Meeting> limited = client.get().uri("/api/meetings/schedule/" + organizer.getUuid() + "?limit=300")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Meeting.class).getResponseBody().collectList().block();
+
+        // Then
+        assertNotNull(all);
+        assertEquals(600, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(start.plusDays(i), all.get(i).getStartTime());
+        }
+        assertNotNull(limited);
+        assertEquals(300, limited.size());
+        assertEquals(start.plusDays(299), limited.get(299).getStartTime());
+    }
+
+    @Test
+    void testCreateMeetings_PastItem_ShouldRejectBatchWithItemReasons() {
+        // Given - the second item starts in the past, which a single POST refuses
+        createPerson("Batch Organizer", "batch.organizer@example.com");
+        createPerson("Batch Attendee", "batch.attendee@example.com");
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(2);
+        List<Map<String, Object>> items = List.of(
+                Map.of("title", "Planning", "startTime", start.toString(),
+                        "organizerEmail", "batch.organizer@example.com", "attendeeEmails", List.of("batch.attendee@example.com")),
+                Map.of("title", "Retro", "startTime", start.minusYears(1).toString(),
+                        "organizerEmail", "batch.organizer@example.com", "attendeeEmails", List.of("batch.attendee@example.com")));
+
+        // When / Then
+        client.post().uri("/api/meetings/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(items)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].error").isEqualTo("Not created because other meetings in the batch were rejected")
+                .jsonPath("$[1].error").isEqualTo("Start time must be in the future");
+        client.get().uri("/api/meetings").exchange().expectStatus().isOk()
+                .expectBody().jsonPath("$[?(@.title == 'Planning')]").doesNotExist();
+    }
+
+    @Test
+    void testBulkImport_NdjsonStream_ShouldReportEveryRow() {
+        // Given
+        String rows = "{\"name\":\"Stream One\",\"email\":\"stream.one@example.com\"}\n"
+                + "{\"name\":\"\",\"email\":\"not-an-email\"}\n"
+                + "{\"name\":\"Stream Two\",\"email\":\"stream.two@example.com\"}\n";
+
+        // When
+        List<ImportResultDTO> results = client.post().uri("/api/persons/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(rows)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ImportResultDTO.class).getResponseBody().collectList().block();
+
+        // Then
+        assertNotNull(results);
+        assertEquals(3, results.size());
+        assertEquals(List.of(0, 1, 2), results.stream().map(ImportResultDTO::getRow).toList());
+        assertNull(results.get(0).getError());
+        assertNotNull(results.get(1).getError());
+        assertNull(results.get(2).getError());
+        client.get().uri("/api/persons/email/stream.two@example.com").exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void testErrors_ReactiveProfile_ShouldAnswerLikeTheServletStack() {
+        // When / Then
+        client.get().uri("/api/meetings/schedule/no-such-person")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("Person with uuid no-such-person not found");
+        client.post().uri("/api/persons/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "", "email", "not-an-email"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.BAD_REQUEST)
+                .expectBody().jsonPath("$.errors.email").exists();
+        client.get().uri("/api/persons/no-such-person").exchange().expectStatus().isNotFound();
+    }
+
+    private Person createPerson(String name, String email) {
+        Person person = client.post().uri("/api/persons/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", name, "email", email))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Person.class).returnResult().getResponseBody();
+        assertNotNull(person);
+        return person;
+    }
+}
@@ -0,0 +1,39 @@
+package com.meeting;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "meeting.journal.enabled=false",
+        "meeting.snapshot.enabled=false"})
+@Import(VirtualThreadModeTest.ThreadProbe.class)
+public class VirtualThreadModeTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @RestController
+    static class ThreadProbe {
+        @GetMapping("/test/thread")
+        boolean virtual() {
+            return Thread.currentThread().isVirtual();
+        }
+    }
+
+    @Test
+    void testRequestHandling_VirtualThreadsEnabled_ShouldRunHandlersOnVirtualThreads() {
+        // When
+        Boolean virtual = rest.getForObject("/test/thread", Boolean.class);
+
+        // Then
+        assertEquals(Boolean.TRUE, virtual);
+    }
+}
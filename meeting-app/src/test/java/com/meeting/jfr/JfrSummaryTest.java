@@ -0,0 +1,65 @@
+package com.meeting.jfr;
+
+import com.meeting.entity.Person;
+import com.meeting.service.impl.MeetingServiceImpl;
+import com.meeting.service.impl.PersonServiceImpl;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrSummaryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSummarize_RecordedBookings_ShouldTabulatePerOperationAndOutcome() throws Exception {
+        // Given - a recording with every meeting event enabled regardless of duration
+        PersonServiceImpl personService = new PersonServiceImpl();
+        MeetingServiceImpl meetingService = new MeetingServiceImpl(personService);
+        Person alice = personService.createPerson("Alice", "alice@example.com");
+        Person bob = personService.createPerson("Bob", "bob@example.com");
+        LocalDateTime time = LocalDateTime.of(2030, 1, 7, 10, 0);
+        Path file = directory.resolve("meeting.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            for (String event : List.of("com.meeting.CreateMeeting", "com.meeting.ConflictCheck", "com.meeting.SlotSearch")) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            meetingService.createMeeting("First", time, alice, List.of(bob));
+            assertThrows(IllegalArgumentException.class, () -> meetingService.createMeeting("Second", time, alice, List.of(bob)));
+            meetingService.suggestAvailableTimeSlots(List.of(alice, bob), time, time.plusHours(4), 2);
+            recording.stop();
+            recording.dump(file);
+        }
+        String summary = JfrSummary.summarize(file);
+
+        // Then - one row per operation and outcome with the call count
+        assertTrue(summary.lines().anyMatch(line -> line.matches("CreateMeeting\\s+conflict\\s+1\\s.*")), summary);
+        assertTrue(summary.lines().anyMatch(line -> line.matches("CreateMeeting\\s+created\\s+1\\s.*")), summary);
+        assertTrue(summary.lines().anyMatch(line -> line.matches("ConflictCheck\\s+free\\s+1\\s.*")), summary);
+        assertTrue(summary.lines().anyMatch(line -> line.matches("SlotSearch\\s+found\\s+1\\s.*")), summary);
+        meetingService.shutdown();
+    }
+
+    @Test
+    void testPercentile_ShouldUseNearestRank() {
+        // Given
+        long[] sorted = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+
+        // When / Then
+        assertEquals(50, JfrSummary.percentile(sorted, 0.50));
+        assertEquals(90, JfrSummary.percentile(sorted, 0.90));
+        assertEquals(100, JfrSummary.percentile(sorted, 0.99));
+        assertEquals(10, JfrSummary.percentile(new long[]{10}, 0.50));
+    }
+}
@@ -0,0 +1,92 @@
+package com.meeting.metrics;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Person;
+import com.meeting.persistence.Journal;
+import com.meeting.service.MeetingService;
+import com.meeting.service.PersonService;
+import com.meeting.service.impl.MeetingServiceImpl;
+import com.meeting.service.impl.PersonServiceImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchedulingMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private PersonService personService;
+    private MeetingService meetingService;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        SchedulingMetrics metrics = new SchedulingMetrics(registry);
+        personService = new TimedPersonService(new PersonServiceImpl(Journal.NONE, metrics), registry);
+        meetingService = new TimedMeetingService(new MeetingServiceImpl(personService, new MeetingProperties(),
+                Clock.systemDefaultZone(), Journal.NONE, metrics), registry);
+        alice = personService.createPerson("Alice", "alice@example.com");
+        bob = personService.createPerson("Bob", "bob@example.com");
+    }
+
+    @Test
+    void testCreateMeeting_Conflict_ShouldCountRejectionAndTimeBothOutcomes() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2030, 1, 7, 10, 0);
+        meetingService.createMeeting("First", time, alice, List.of(bob));
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> meetingService.createMeeting("Second", time, alice, List.of(bob)));
+
+        // Then
+        assertEquals(1.0, registry.get("meeting.conflict.rejections").counter().count());
+        assertEquals(1, registry.get("scheduling.service").tags("method", "createMeeting", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("scheduling.service").tags("method", "createMeeting", "outcome", "error").timer().count());
+        // the second check found the first meeting in both calendars - it stops at the first conflict
+        assertEquals(1.0, registry.get("meeting.conflict.check.scanned").summary().max());
+        assertEquals(1.0, registry.get("meeting.store.size").tag("store", "meetings").gauge().value());
+        assertEquals(2.0, registry.get("meeting.store.size").tag("store", "persons").gauge().value());
+    }
+
+    @Test
+    void testSubmitMeeting_ShouldTimeEachCallOnceUntilItsFutureCompletes() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2030, 1, 7, 10, 0);
+        meetingService.submitMeeting("First", time, alice, List.of(bob)).join();
+
+        // When
+        assertThrows(RuntimeException.class, () -> meetingService.submitMeeting("Second", time, alice, List.of(bob)).join());
+
+        // Then
+        Timer success = registry.get("scheduling.service").tags("method", "submitMeeting", "outcome", "success").timer();
+        Timer error = registry.get("scheduling.service").tags("method", "submitMeeting", "outcome", "error").timer();
+        assertEquals(1, success.count());
+        assertEquals(1, error.count());
+        assertTrue(success.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void testSuggestAvailableTimeSlots_ShouldRecordCandidateHours() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+        meetingService.createMeeting("Busy", start, alice, List.of(bob));
+
+        // When - the search stops at the second free hour, 11:00
+        meetingService.suggestAvailableTimeSlots(List.of(alice, bob), start, start.plusHours(8), 2);
+        // the whole window is searched when there are not enough free hours
+        meetingService.suggestAvailableTimeSlots(List.of(alice, bob), start, start.plusHours(8), 100);
+
+        // Then
+        assertEquals(11.0, registry.get("meeting.suggestion.candidate.hours").summary().totalAmount());
+        assertEquals(2, registry.get("scheduling.service").tags("method", "suggestAvailableTimeSlots", "outcome", "success").timer().count());
+    }
+}
@@ -0,0 +1,228 @@
+package com.meeting.persistence;
+
+import com.meeting.entity.Recurrence;
+import com.meeting.persistence.JournalRecord.MeetingData;
+import com.meeting.persistence.JournalRecord.MeetingsCreated;
+import com.meeting.persistence.JournalRecord.PersonCreated;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppend_ShouldReplayRecordsInOrderAfterReopen() {
+        // Given
+        PersonCreated person = new PersonCreated("p-1", "Alice", "alice@example.com");
+        MeetingsCreated meetings = new MeetingsCreated(List.of(
+                new MeetingData("m-1", "Kickoff", LocalDateTime.of(2030, 1, 1, 9, 0), LocalDateTime.of(2030, 1, 1, 10, 0),
+                        "p-1", List.of("p-1"), null),
+                new MeetingData("m-2", "Standup", LocalDateTime.of(2030, 1, 2, 9, 0), LocalDateTime.of(2030, 1, 2, 9, 15),
+                        "p-1", List.of("p-1"), new Recurrence(Recurrence.Frequency.WEEKLY, 1, 260))));
+        try (FileJournal journal = open(true)) {
+            journal.append(person).join();
+            journal.append(meetings).join();
+        }
+
+        // When
+        List<JournalRecord> replayed = new ArrayList<>();
+        try (FileJournal journal = open(true)) {
+            journal.replay(replayed::add);
+        }
+
+        // Then
+        assertEquals(List.of(person, meetings), replayed);
+    }
+
+    @Test
+    void testAppend_ConcurrentWriters_ShouldAllBeDurable() {
+        // Given
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try (FileJournal journal = open(true)) {
+            // When
+            for (int i = 0; i < 2000; i++) {
+                int n = i;
+                futures.add(CompletableFuture.runAsync(() ->
+                        journal.append(new PersonCreated("p-" + n, "Person " + n, n + "@example.com")).join()));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        // Then
+        List<JournalRecord> replayed = new ArrayList<>();
+        try (FileJournal journal = open(false)) {
+            journal.replay(replayed::add);
+        }
+        assertEquals(2000, replayed.size());
+    }
+
+    @Test
+    void testOpen_TornTail_ShouldBeTruncated() throws Exception {
+        // Given - a complete record followed by half of another one
+        try (FileJournal journal = open(true)) {
+            journal.append(new PersonCreated("p-1", "Alice", "alice@example.com")).join();
+        }
+        Path file = directory.resolve(FileJournal.segmentName(0));
+        byte[] frame = JournalCodec.encodeFrame(new PersonCreated("p-2", "Bob", "bob@example.com"));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(frame, 0, frame.length / 2));
+        }
+
+        // When
+        List<JournalRecord> replayed = new ArrayList<>();
+        try (FileJournal journal = open(true)) {
+            journal.replay(replayed::add);
+            journal.append(new PersonCreated("p-3", "Carol", "carol@example.com")).join();
+        }
+        try (FileJournal journal = open(true)) {
+            replayed.clear();
+            journal.replay(replayed::add);
+        }
+
+        // Then - the torn record is gone and later appends are readable
+        assertEquals(List.of("p-1", "p-3"), replayed.stream().map(r -> ((PersonCreated) r).uuid()).toList());
+    }
+
+    @Test
+    void testReplay_CorruptChecksum_ShouldStopAtCorruptRecord() throws Exception {
+        // Given
+        try (FileJournal journal = open(true)) {
+            journal.append(new PersonCreated("p-1", "Alice", "alice@example.com")).join();
+            journal.append(new PersonCreated("p-2", "Bob", "bob@example.com")).join();
+        }
+        Path file = directory.resolve(FileJournal.segmentName(0));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // flip a byte in the payload of the last record
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), channel.size() - 1);
+        }
+
+        // When
+        List<JournalRecord> replayed = new ArrayList<>();
+        try (FileJournal journal = open(true)) {
+            journal.replay(replayed::add);
+        }
+
+        // Then
+        assertEquals(1, replayed.size());
+    }
+
+    @Test
+    void testCheckpoint_ShouldStartNewSegmentAndAllowTruncation() {
+        // Given
+        long checkpoint;
+        try (FileJournal journal = open(true)) {
+            journal.append(new PersonCreated("p-1", "Alice", "alice@example.com")).join();
+            checkpoint = journal.checkpoint().join();
+            long afterBob = journal.append(new PersonCreated("p-2", "Bob", "bob@example.com")).join();
+
+            // When
+            journal.truncateBefore(checkpoint);
+
+            // Then
+            assertEquals(journal.position(), afterBob);
+            assertFalse(directory.resolve(FileJournal.segmentName(0)).toFile().exists());
+            assertTrue(directory.resolve(FileJournal.segmentName(checkpoint)).toFile().exists());
+        }
+        List<JournalRecord> replayed = new ArrayList<>();
+        try (FileJournal journal = open(true)) {
+            journal.replay(checkpoint, replayed::add);
+        }
+        assertEquals(List.of("p-2"), replayed.stream().map(r -> ((PersonCreated) r).uuid()).toList());
+    }
+
+    @Test
+    void testReadFrames_ShouldHandOutStoredFramesAcrossSegmentsAndWakeWaiters() throws Exception {
+        try (FileJournal journal = open(true)) {
+            // Given - a waiter on the empty journal, then records on both sides of a checkpoint
+            CompletableFuture<Long> woken = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return journal.awaitPosition(0, 10_000);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            PersonCreated alice = new PersonCreated("p-1", "Alice", "alice@example.com");
+            long afterAlice = journal.append(alice).join();
+            long checkpoint = journal.checkpoint().join();
+            PersonCreated bob = new PersonCreated("p-2", "Bob", "bob@example.com");
+            long afterBob = journal.append(bob).join();
+
+            // When
+            List<byte[]> frames = new ArrayList<>();
+            journal.readFrames(0, frames::add);
+
+            // Then
+            assertTrue(woken.get() >= afterAlice);
+            assertEquals(2, frames.size());
+            assertEquals(afterAlice, frames.get(0).length);
+            assertEquals(afterBob, frames.get(0).length + frames.get(1).length);
+            assertArrayEquals(JournalCodec.encodeFrame(bob), frames.get(1));
+            assertEquals(afterBob, journal.awaitPosition(afterBob, 1));
+            journal.truncateBefore(checkpoint);
+            assertEquals(checkpoint, journal.startPosition());
+        }
+    }
+
+    @Test
+    void testReadFrames_TruncatedWhileReading_ShouldReportTruncatedPosition() {
+        try (FileJournal journal = open(true)) {
+            // Given - three segments
+            long afterAlice = journal.append(new PersonCreated("p-1", "Alice", "alice@example.com")).join();
+            journal.checkpoint().join();
+            journal.append(new PersonCreated("p-2", "Bob", "bob@example.com")).join();
+            long checkpoint = journal.checkpoint().join();
+            journal.append(new PersonCreated("p-3", "Carol", "carol@example.com")).join();
+
+            // When - a snapshot drops the first two segments while the first one is being read
+            List<byte[]> frames = new ArrayList<>();
+            UncheckedIOException exception = assertThrows(UncheckedIOException.class, () -> journal.readFrames(0, frame -> {
+                frames.add(frame);
+                journal.truncateBefore(checkpoint);
+            }));
+
+            // Then - the frames handed out are contiguous, and the reader can tell it fell behind the journal
+            assertInstanceOf(NoSuchFileException.class, exception.getCause());
+            assertEquals(1, frames.size());
+            assertTrue(journal.startPosition() > afterAlice);
+            assertThrows(UncheckedIOException.class, () -> journal.readFrames(afterAlice, frames::add));
+            assertEquals(1, frames.size());
+        }
+    }
+
+    @Test
+    void testAppend_AfterClose_ShouldFail() {
+        // Given
+        FileJournal journal = open(true);
+        journal.close();
+
+        // When
+        CompletableFuture<Long> future = journal.append(new PersonCreated("p-1", "Alice", "alice@example.com"));
+
+        // Then
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    private FileJournal open(boolean groupCommit) {
+        try {
+            return FileJournal.open(directory, groupCommit, 1024, 256);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.meeting.persistence;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteAndRead_ShouldRoundTripAcrossBlocks() throws IOException {
+        // Given - enough meetings for several blocks
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            persons.add(new Person("Person " + i, "person" + i + "@example.com"));
+        }
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            // every thousandth one is a weekly series
+            meetings.add(new Meeting("Meeting " + i, base.plusHours(i), base.plusHours(i + 1),
+                    persons.get(i % 50), List.of(persons.get((i + 1) % 50), persons.get((i + 2) % 50)),
+                    i % 1000 == 999 ? new Recurrence(Recurrence.Frequency.WEEKLY, 2, 10) : null));
+        }
+
+        // When
+        Path file = SnapshotFile.write(directory, 4242, persons, meetings);
+        SnapshotFile.Contents contents = SnapshotFile.read(file);
+
+        // Then
+        assertEquals(4242, contents.journalPosition());
+        assertEquals(4242, SnapshotFile.journalPositionOf(file));
+        assertEquals(List.of(file), SnapshotFile.list(directory));
+        assertEquals(persons.stream().map(Person::getUuid).toList(), contents.persons().stream().map(Person::getUuid).toList());
+        assertEquals(meetings.size(), contents.meetings().size());
+        Meeting original = meetings.get(9_999);
+        Meeting restored = contents.meetings().get(9_999);
+        assertEquals(original.getUuid(), restored.getUuid());
+        assertEquals(original.getTitle(), restored.getTitle());
+        assertEquals(original.getStartTime(), restored.getStartTime());
+        assertEquals(original.getEndTime(), restored.getEndTime());
+        assertEquals(original.getRecurrence(), restored.getRecurrence());
+        assertNull(contents.meetings().get(0).getRecurrence());
+        // participants are shared person objects, not copies
+        assertSame(contents.persons().get(49), restored.getOrganizer());
+        assertEquals(List.of("person0@example.com", "person1@example.com"),
+                restored.getAttendees().stream().map(Person::getEmail).toList());
+    }
+
+    @Test
+    void testRead_CorruptBlock_ShouldFail() throws IOException {
+        // Given
+        Person person = new Person("Alice", "alice@example.com");
+        Path file = SnapshotFile.write(directory, 1, List.of(person),
+                List.of(new Meeting("Standup", LocalDateTime.of(2030, 1, 1, 9, 0), person, List.of(person))));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), channel.size() - 1);
+        }
+
+        // When / Then
+        assertThrows(IOException.class, () -> SnapshotFile.read(file));
+    }
+}
@@ -0,0 +1,244 @@
+package com.meeting.service;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.config.MeetingProperties.BookingMode;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.service.impl.MeetingServiceImpl;
+import com.meeting.service.impl.PersonServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeetingServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int BOOKINGS_PER_THREAD = 500;
+    private static final int PERSONS = 20;
+    private static final int HOURS = 48;
+
+    private PersonService personService;
+    private MeetingServiceImpl meetingService;
+    private List<Person> persons;
+
+    @BeforeEach
+    void setUp() {
+        personService = new PersonServiceImpl();
+        persons = new ArrayList<>();
+        for (int i = 0; i < PERSONS; i++) {
+            persons.add(personService.createPerson("Person " + i, "person" + i + "@example.com"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        meetingService.shutdown();
+    }
+
+    private void useMode(BookingMode mode) {
+        MeetingProperties properties = new MeetingProperties();
+        properties.getBooking().setMode(mode);
+        meetingService = new MeetingServiceImpl(personService, properties);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingMode.class)
+    void testCreateMeeting_ConcurrentBookings_ShouldNeverDoubleBook(BookingMode mode) throws Exception {
+        useMode(mode);
+        // Given - many threads competing for a small set of persons and hours
+        LocalDateTime base = LocalDateTime.of(2030, 1, 7, 0, 0);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < BOOKINGS_PER_THREAD; i++) {
+                    Person organizer = persons.get(random.nextInt(PERSONS));
+                    Person attendee = persons.get(random.nextInt(PERSONS));
+                    try {
+                        meetingService.createMeeting("Meeting", base.plusHours(random.nextInt(HOURS)),
+                                organizer, List.of(attendee));
+                        created.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - every person holds at most one meeting per hour
+        List<Meeting> meetings = meetingService.getAllMeetings();
+        assertEquals(created.get(), meetings.size());
+        assertEquals(THREADS * BOOKINGS_PER_THREAD, created.get() + rejected.get());
+        Map<String, Set<LocalDateTime>> booked = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            Set<Person> participants = Collections.newSetFromMap(new IdentityHashMap<>());
+            participants.add(meeting.getOrganizer());
+            participants.addAll(meeting.getAttendees());
+            for (Person person : participants) {
+                assertTrue(booked.computeIfAbsent(person.getUuid(), id -> new HashSet<>()).add(meeting.getStartTime()),
+                        "Double booking for " + person.getEmail() + " at " + meeting.getStartTime());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingMode.class)
+    void testCreateMeeting_DisjointParticipants_ShouldAllSucceed(BookingMode mode) throws Exception {
+        useMode(mode);
+        // Given - each thread books its own pair of persons, so nothing can conflict
+        LocalDateTime base = LocalDateTime.of(2030, 1, 7, 0, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(PERSONS / 2);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < PERSONS / 2; t++) {
+            Person organizer = persons.get(2 * t);
+            Person attendee = persons.get(2 * t + 1);
+            futures.add(executor.submit(() -> {
+                for (int hour = 0; hour < HOURS; hour++) {
+                    meetingService.createMeeting("Meeting", base.plusHours(hour), organizer, List.of(attendee));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(PERSONS / 2 * HOURS, meetingService.getAllMeetings().size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingMode.class)
+    void testCreateMeetings_ConcurrentBatches_ShouldBeAllOrNothing(BookingMode mode) throws Exception {
+        useMode(mode);
+        // Given - batches of three random meetings racing each other
+        LocalDateTime base = LocalDateTime.of(2030, 1, 7, 0, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<List<ItemResult<Meeting>>>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 16; t++) {
+            Random random = new Random(t);
+            for (int b = 0; b < 100; b++) {
+                List<MeetingRequest> batch = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    batch.add(new MeetingRequest("Meeting", base.plusHours(random.nextInt(HOURS)), null,
+                            persons.get(random.nextInt(PERSONS)).getEmail(),
+                            List.of(persons.get(random.nextInt(PERSONS)).getEmail()), null));
+                }
+                futures.add(executor.submit(() -> meetingService.createMeetings(batch)));
+            }
+        }
+        int created = 0;
+        for (Future<List<ItemResult<Meeting>>> future : futures) {
+            List<ItemResult<Meeting>> results = future.get(60, TimeUnit.SECONDS);
+            long succeeded = results.stream().filter(ItemResult::succeeded).count();
+            assertTrue(succeeded == 0 || succeeded == results.size(), "Partially applied batch");
+            created += (int) succeeded;
+        }
+        executor.shutdown();
+
+        // Then - accepted batches are fully visible and nobody is double booked
+        List<Meeting> meetings = meetingService.getAllMeetings();
+        assertEquals(created, meetings.size());
+        Map<String, Set<LocalDateTime>> booked = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            Set<Person> participants = Collections.newSetFromMap(new IdentityHashMap<>());
+            participants.add(meeting.getOrganizer());
+            participants.addAll(meeting.getAttendees());
+            for (Person person : participants) {
+                assertTrue(booked.computeIfAbsent(person.getUuid(), id -> new HashSet<>()).add(meeting.getStartTime()),
+                        "Double booking for " + person.getEmail() + " at " + meeting.getStartTime());
+            }
+        }
+    }
+
+    @Test
+    void testSubmitMeeting_SequencerMode_ShouldCompleteFutures() {
+        useMode(BookingMode.SEQUENCER);
+        // Given
+        LocalDateTime time = LocalDateTime.of(2030, 1, 7, 10, 0);
+        Person organizer = persons.get(0);
+        List<Person> attendees = List.of(persons.get(1));
+
+        // When
+        CompletableFuture<Meeting> first = meetingService.submitMeeting("First", time, organizer, attendees);
+        CompletableFuture<Meeting> second = meetingService.submitMeeting("Second", time, organizer, attendees);
+
+        // Then - the writer applies them in submission order
+        assertEquals("First", first.join().getTitle());
+        CompletionException exception = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(1, meetingService.getAllMeetings().size());
+
+        // createMeeting surfaces the writer's exception unchanged
+        assertThrows(IllegalArgumentException.class,
+                () -> meetingService.createMeeting("Third", time, organizer, attendees));
+    }
+
+    @Test
+    void testPartitionedMode_ShouldAnswerLikeStripedMode() {
+        // Given - the same random calendar booked into a partitioned and a striped service
+        MeetingProperties properties = new MeetingProperties();
+        properties.getBooking().setMode(BookingMode.PARTITIONED);
+        properties.getBooking().setPartitions(4);
+        meetingService = new MeetingServiceImpl(personService, properties);
+        MeetingServiceImpl striped = new MeetingServiceImpl(personService);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 7, 0, 0);
+        Random random = new Random(5);
+        for (int i = 0; i < 400; i++) {
+            LocalDateTime start = base.plusMinutes(15L * random.nextInt(4 * HOURS));
+            LocalDateTime end = start.plusMinutes(15L * (1 + random.nextInt(8)));
+            Person organizer = persons.get(random.nextInt(PERSONS));
+            List<Person> attendees = List.of(persons.get(random.nextInt(PERSONS)));
+            try {
+                meetingService.createMeeting("Meeting " + i, start, end, organizer, attendees);
+            } catch (IllegalArgumentException conflict) {
+                continue;
+            }
+            striped.createMeeting("Meeting " + i, start, end, organizer, attendees);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            List<Person> group = List.of(persons.get(random.nextInt(PERSONS)), persons.get(random.nextInt(PERSONS)),
+                    persons.get(random.nextInt(PERSONS)));
+            LocalDateTime from = base.plusMinutes(15L * random.nextInt(4 * HOURS));
+
+            // When / Then - conflict checks and both slot search paths agree
+            assertEquals(striped.isTimeSlotAvailable(group, from, from.plusMinutes(45)),
+                    meetingService.isTimeSlotAvailable(group, from, from.plusMinutes(45)));
+            for (Duration duration : List.of(Duration.ofHours(1), Duration.ofHours(2), Duration.ofMinutes(30))) {
+                assertEquals(striped.suggestAvailableTimeSlots(group, from, from.plusHours(HOURS), 10, duration),
+                        meetingService.suggestAvailableTimeSlots(group, from, from.plusHours(HOURS), 10, duration));
+            }
+        }
+        striped.shutdown();
+    }
+}
@@ -1,16 +1,31 @@
 package com.meeting.service;
 
+import com.meeting.config.MeetingProperties;
 import com.meeting.entity.Meeting;
 import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.persistence.Journal;
+import com.meeting.persistence.JournalRecord;
 import com.meeting.service.impl.MeetingServiceImpl;
 import com.meeting.service.impl.PersonServiceImpl;
+import com.meeting.store.BusyInterval;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -122,7 +137,7 @@ public class MeetingServiceTest {
     void testCreateMeeting_InvalidStartTime_ShouldThrowException() {
         // Given
         String title = "Team Meeting";
-        LocalDateTime startTime = LocalDateTime.of(2024, 12, 15, 10, 30); // Not at hour mark
+        LocalDateTime startTime = LocalDateTime.of(2024, 12, 15, 10, 30, 15); // Not on a whole minute
         List<Person> attendees = Arrays.asList(attendee1);
 
         // When & Then
@@ -130,7 +145,27 @@ public class MeetingServiceTest {
             IllegalArgumentException.class,
             () -> meetingService.createMeeting(title, startTime, organizer, attendees)
         );
-        assertEquals("Meeting can only start at the hour mark (e.g., 10:00, 11:00)", exception.getMessage());
+        assertEquals("Meeting can only start on a whole minute (e.g., 10:00, 10:15)", exception.getMessage());
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingService.createMeeting(title, startTime.withSecond(0), startTime.withSecond(0), organizer, attendees));
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingService.createMeeting(title, startTime.withSecond(0), startTime.withSecond(0).plusHours(25), organizer, attendees));
+    }
+
+    @Test
+    void testCreateMeeting_VariableDurations_ShouldConflictOnlyWhenOverlapping() {
+        // Given - a 30-minute meeting at 10:30
+        LocalDateTime start = LocalDateTime.of(2024, 12, 15, 10, 30);
+        Meeting meeting = meetingService.createMeeting("Sync", start, start.plusMinutes(30), organizer, Arrays.asList(attendee1));
+
+        // When & Then
+        assertEquals(start.plusMinutes(30), meeting.getEndTime());
+        assertNotNull(meetingService.createMeeting("Before", start.minusMinutes(15), start, organizer, Arrays.asList(attendee1)));
+        assertNotNull(meetingService.createMeeting("After", start.plusMinutes(30), start.plusMinutes(120), organizer, Arrays.asList(attendee1)));
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingService.createMeeting("Overlap", start.plusMinutes(15), start.plusMinutes(45), attendee1, Arrays.asList(attendee2)));
+        assertFalse(meetingService.isTimeSlotAvailable(Arrays.asList(organizer), start.plusMinutes(100), start.plusMinutes(130)));
+        assertTrue(meetingService.isTimeSlotAvailable(Arrays.asList(organizer), start.plusMinutes(120), start.plusMinutes(135)));
     }
 
     @Test
@@ -288,6 +323,44 @@ public class MeetingServiceTest {
         assertFalse(suggestions.contains(conflictTime));
     }
 
+    @Test
+    void testSuggestAvailableTimeSlots_RepeatedAfterBooking_ShouldNotServeStaleSlots() {
+        // Given - the same search twice, the second one is answered from the cache
+        LocalDateTime searchStart = LocalDateTime.of(2024, 12, 15, 9, 0);
+        LocalDateTime searchEnd = LocalDateTime.of(2024, 12, 15, 13, 0);
+        List<Person> participants = Arrays.asList(organizer, attendee1);
+        List<LocalDateTime> before = meetingService.suggestAvailableTimeSlots(participants, searchStart, searchEnd, 2);
+        assertEquals(before, meetingService.suggestAvailableTimeSlots(participants, searchStart, searchEnd, 2));
+
+        // When - one participant books the first suggested hour
+        meetingService.createMeeting("Booked", before.get(0), attendee1, Arrays.asList(attendee2));
+        List<LocalDateTime> after = meetingService.suggestAvailableTimeSlots(participants, searchStart, searchEnd, 2);
+
+        // Then
+        assertEquals(List.of(LocalDateTime.of(2024, 12, 15, 10, 0), LocalDateTime.of(2024, 12, 15, 11, 0)), after);
+    }
+
+    @Test
+    void testSuggestAvailableTimeSlots_ShortMeetings_ShouldMergeBusyIntervals() {
+        // Given - organizer busy 10:00-10:45, attendee1 busy 11:30-12:15
+        LocalDateTime day = LocalDateTime.of(2024, 12, 15, 0, 0);
+        meetingService.createMeeting("Review", day.withHour(10), day.withHour(10).withMinute(45), organizer, Arrays.asList(attendee2));
+        meetingService.createMeeting("Call", day.withHour(11).withMinute(30), day.withHour(12).withMinute(15), attendee1, Arrays.asList(attendee2));
+        List<Person> participants = Arrays.asList(organizer, attendee1);
+
+        // When
+        List<LocalDateTime> halfHours = meetingService.suggestAvailableTimeSlots(
+            participants, day.withHour(10), day.withHour(13), 5, Duration.ofMinutes(30));
+        List<LocalDateTime> quarterHours = meetingService.suggestAvailableTimeSlots(
+            participants, day.withHour(10).withMinute(5), day.withHour(11).withMinute(30), 5, Duration.ofMinutes(45));
+
+        // Then - slots on the half-hour grid that fit between the meetings
+        assertEquals(List.of(day.withHour(11), day.withHour(12).withMinute(30)), halfHours);
+        assertEquals(List.of(day.withHour(10).withMinute(45)), quarterHours);
+        assertThrows(IllegalArgumentException.class, () -> meetingService.suggestAvailableTimeSlots(
+            participants, day, day.plusDays(1), 5, Duration.ofSeconds(90)));
+    }
+
     @Test
     void testSuggestAvailableTimeSlots_NonHourStartTime_ShouldStartFromNextHour() {
         // Given
@@ -408,4 +481,491 @@ public class MeetingServiceTest {
         // Then
         assertFalse(foundMeeting.isPresent());
     }
+
+    @Test
+    void testIsTimeSlotAvailable_ConflictOnlyForInvolvedPersons() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2024, 12, 15, 10, 0);
+        meetingService.createMeeting("Existing Meeting", startTime, organizer, Arrays.asList(attendee1));
+
+        // When & Then - attendee2 is not part of the meeting, attendee1 is only an attendee
+        assertTrue(meetingService.isTimeSlotAvailable(Arrays.asList(attendee2), startTime));
+        assertFalse(meetingService.isTimeSlotAvailable(Arrays.asList(attendee2, attendee1), startTime));
+    }
+
+    @Test
+    void testIsTimeSlotAvailable_AmongManyMeetings_ShouldFindNeighbouringConflict() {
+        // Given - attendee1 has a meeting every other hour
+        LocalDateTime day = LocalDateTime.of(2024, 12, 15, 0, 0);
+        for (int hour = 0; hour < 24; hour += 2) {
+            meetingService.createMeeting("Meeting " + hour, day.plusHours(hour), organizer, Arrays.asList(attendee1));
+        }
+
+        // When & Then
+        assertFalse(meetingService.isTimeSlotAvailable(Arrays.asList(attendee1), day.plusHours(10)));
+        assertTrue(meetingService.isTimeSlotAvailable(Arrays.asList(attendee1), day.plusHours(11)));
+        assertTrue(meetingService.isTimeSlotAvailable(Arrays.asList(attendee1), day.minusHours(1)));
+        assertTrue(meetingService.isTimeSlotAvailable(Arrays.asList(attendee1), day.plusHours(23)));
+    }
+
+    @Test
+    void testGetUpcomingMeetingsForPerson_WithClockLimitAndUntil_ShouldReturnWindow() {
+        // Given - a service whose "now" is fixed at 2030-01-01 09:30
+        Clock clock = Clock.fixed(LocalDateTime.of(2030, 1, 1, 9, 30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        MeetingService service = new MeetingServiceImpl(personService, new MeetingProperties(), clock);
+        LocalDateTime day = LocalDateTime.of(2030, 1, 1, 0, 0);
+        for (int hour = 8; hour < 18; hour++) {
+            service.createMeeting("Meeting " + hour, day.plusHours(hour), organizer, Arrays.asList(attendee1));
+        }
+
+        // When
+        List<Meeting> all = service.getUpcomingMeetingsForPerson(attendee1);
+        List<Meeting> nextTwo = service.getUpcomingMeetingsForPerson(attendee1, null, 2);
+        List<Meeting> untilNoon = service.getUpcomingMeetingsForPerson(organizer, day.plusHours(12), 100);
+
+        // Then - 08:00 and 09:00 are already past
+        assertEquals(8, all.size());
+        assertEquals(day.plusHours(10), all.get(0).getStartTime());
+        assertEquals(List.of(all.get(0), all.get(1)), nextTwo);
+        assertEquals(2, untilNoon.size());
+        assertEquals(day.plusHours(11), untilNoon.get(1).getStartTime());
+        assertTrue(service.getUpcomingMeetingsForPerson(attendee2, null, 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> service.getUpcomingMeetingsForPerson(organizer, null, 0));
+    }
+
+    @Test
+    void testGetMeetingsPage_ShouldWalkAllMeetingsByCursor() {
+        // Given
+        LocalDateTime day = LocalDateTime.of(2030, 1, 1, 0, 0);
+        for (int hour = 0; hour < 7; hour++) {
+            meetingService.createMeeting("Meeting " + hour, day.plusHours(hour), organizer, Arrays.asList(attendee1));
+        }
+
+        // When
+        Page<Meeting> first = meetingService.getMeetingsPage(null, 3);
+        Page<Meeting> second = meetingService.getMeetingsPage(first.nextCursor(), 3);
+        meetingService.createMeeting("Late Meeting", day.plusHours(20), organizer, Arrays.asList(attendee1));
+        Page<Meeting> third = meetingService.getMeetingsPage(second.nextCursor(), 3);
+
+        // Then - a meeting created between pages shows up at the end, nothing is repeated or skipped
+        assertEquals(List.of("Meeting 0", "Meeting 1", "Meeting 2"), first.items().stream().map(Meeting::getTitle).toList());
+        assertEquals(List.of("Meeting 3", "Meeting 4", "Meeting 5"), second.items().stream().map(Meeting::getTitle).toList());
+        assertEquals(List.of("Meeting 6", "Late Meeting"), third.items().stream().map(Meeting::getTitle).toList());
+        assertNull(third.nextCursor());
+    }
+
+    @Test
+    void testGetMeetingsPage_InvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getMeetingsPage(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getMeetingsPage(null, Page.MAX_LIMIT + 1));
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getMeetingsPage("not-a-cursor", 10));
+        assertTrue(meetingService.getMeetingsPage(null, 10).items().isEmpty());
+    }
+
+    @Test
+    void testCreateMeetings_NoConflicts_ShouldCreateAll() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2030, 2, 1, 9, 0);
+        List<MeetingRequest> requests = List.of(
+                meetingRequest("Standup", start, organizer, attendee1),
+                meetingRequest("Review", start.plusHours(1), organizer, attendee1),
+                meetingRequest("Sync", start, attendee2, attendee2));
+
+        // When
+        List<ItemResult<Meeting>> results = meetingService.createMeetings(requests);
+
+        // Then
+        assertTrue(results.stream().allMatch(ItemResult::succeeded));
+        assertEquals(List.of("Standup", "Review", "Sync"), results.stream().map(r -> r.value().getTitle()).toList());
+        assertEquals(3, meetingService.getAllMeetings().size());
+    }
+
+    @Test
+    void testCreateMeetings_ConflictWithinBatch_ShouldCreateNothing() {
+        // Given - items 0 and 2 overlap for attendee1
+        LocalDateTime start = LocalDateTime.of(2030, 2, 1, 9, 0);
+        List<MeetingRequest> requests = List.of(
+                meetingRequest("Standup", start, organizer, attendee1),
+                meetingRequest("Review", start.plusHours(1), organizer, attendee2),
+                meetingRequest("Pairing", start, attendee2, attendee1));
+
+        // When
+        List<ItemResult<Meeting>> results = meetingService.createMeetings(requests);
+
+        // Then
+        assertTrue(results.stream().noneMatch(ItemResult::succeeded));
+        assertTrue(results.get(2).error().contains("item 0"));
+        assertTrue(results.get(1).error().contains("other meetings in the batch"));
+        assertTrue(meetingService.getAllMeetings().isEmpty());
+        assertTrue(meetingService.getUpcomingMeetingsForPerson(attendee1).isEmpty());
+    }
+
+    @Test
+    void testCreateMeetings_LongMeetingSpansLaterItems_ShouldReportEachOverlap() {
+        // Given - item 0 runs 09-12 and covers both later items for the organizer, which do not overlap each other
+        LocalDateTime start = LocalDateTime.of(2030, 2, 1, 9, 0);
+        List<MeetingRequest> requests = List.of(
+                new MeetingRequest("Workshop", start, start.plusHours(3), organizer.getEmail(), List.of(attendee1.getEmail()), null),
+                new MeetingRequest("Review", start.plusHours(1), start.plusHours(2), organizer.getEmail(), List.of(attendee2.getEmail()), null),
+                new MeetingRequest("Sync", start.plusHours(2), start.plusHours(3), organizer.getEmail(), List.of(attendee2.getEmail()), null));
+
+        // When
+        List<ItemResult<Meeting>> results = meetingService.createMeetings(requests);
+
+        // Then
+        assertEquals(ItemResult.BATCH_REJECTED, results.get(0).error());
+        assertTrue(results.get(1).error().contains("item 0"));
+        assertTrue(results.get(2).error().contains("item 0"));
+        assertTrue(meetingService.getAllMeetings().isEmpty());
+    }
+
+    @Test
+    void testCreateMeetings_ConflictWithExistingOrUnknownPerson_ShouldCreateNothing() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2030, 2, 1, 9, 0);
+        meetingService.createMeeting("Existing", start, organizer, Arrays.asList(attendee1));
+        MeetingRequest unknown = new MeetingRequest("Unknown", start.plusHours(3), null, organizer.getEmail(),
+                List.of("nobody@example.com"), null);
+        List<MeetingRequest> requests = List.of(
+                meetingRequest("Clash", start, attendee2, attendee1),
+                meetingRequest("Fine", start.plusHours(2), attendee2, attendee1),
+                unknown);
+
+        // When
+        List<ItemResult<Meeting>> results = meetingService.createMeetings(requests);
+
+        // Then
+        assertTrue(results.get(0).error().contains("scheduling conflict"));
+        assertTrue(results.get(1).error().contains("other meetings in the batch"));
+        assertTrue(results.get(2).error().contains("nobody@example.com"));
+        assertEquals(1, meetingService.getAllMeetings().size());
+    }
+
+    @Test
+    void testSuggestRankedTimeSlots_ShouldRankPreferredHoursFirst() {
+        // Given - a Monday with the organizer busy at 10
+        LocalDateTime monday = LocalDateTime.of(2030, 3, 4, 0, 0);
+        meetingService.createMeeting("Standup", monday.withHour(10), organizer, Arrays.asList(attendee1));
+
+        // When
+        List<RankedSlot> slots = meetingService.suggestRankedTimeSlots(Arrays.asList(organizer, attendee2),
+                monday, monday.plusDays(1), 3);
+
+        // Then - best scores first, none at the busy hour or outside the workday
+        assertEquals(3, slots.size());
+        for (RankedSlot slot : slots) {
+            assertNotEquals(10, slot.startTime().getHour());
+            assertTrue(slot.startTime().getHour() >= 11 && slot.startTime().getHour() < 16);
+        }
+        assertTrue(slots.get(0).score() >= slots.get(2).score());
+        assertThrows(IllegalArgumentException.class, () -> meetingService.suggestRankedTimeSlots(List.of(organizer),
+                monday, monday.plusDays(400), 3));
+    }
+
+    @Test
+    void testSuggestQuorumTimeSlots_ShouldSkipHoursBelowQuorum() {
+        // Given - attendee1 and attendee2 meet at 10, the organizer is required
+        Person extra = personService.createPerson("Carol Attendee", "carol.attendee@example.com");
+        LocalDateTime day = LocalDateTime.of(2030, 3, 4, 0, 0);
+        meetingService.createMeeting("Pair", day.withHour(10), attendee1, Arrays.asList(attendee2));
+        meetingService.createMeeting("Solo", day.withHour(11), organizer, Arrays.asList(extra));
+
+        // When - at least two of the three optional persons free; the organizer listed twice counts as required
+        List<QuorumSlot> slots = meetingService.suggestQuorumTimeSlots(List.of(organizer),
+                Arrays.asList(attendee1, attendee2, extra, organizer), 2, day.withHour(10), day.withHour(14), 5);
+
+        // Then - 10 has only one optional free, 11 has the organizer busy
+        assertEquals(List.of(new QuorumSlot(day.withHour(12), 3, 3), new QuorumSlot(day.withHour(13), 3, 3)), slots);
+        assertThrows(IllegalArgumentException.class, () -> meetingService.suggestQuorumTimeSlots(List.of(organizer),
+                List.of(attendee1), 2, day, day.plusDays(1), 5));
+        assertThrows(IllegalArgumentException.class, () -> meetingService.suggestQuorumTimeSlots(List.of(), List.of(),
+                0, day, day.plusDays(1), 5));
+    }
+
+    @Test
+    void testGetFreeBusy_ShouldMergeAndClipBusyIntervals() {
+        // Given - back-to-back meetings at 10 and 11, another at 14
+        LocalDateTime day = LocalDateTime.of(2030, 3, 4, 0, 0);
+        meetingService.createMeeting("First", day.withHour(10), organizer, Arrays.asList(attendee1));
+        meetingService.createMeeting("Second", day.withHour(11), organizer, Arrays.asList(attendee1));
+        meetingService.createMeeting("Third", day.withHour(14), organizer, Arrays.asList(attendee1));
+
+        // When
+        List<FreeBusy> freeBusy = meetingService.getFreeBusy(Arrays.asList(attendee1, attendee2),
+                day.withHour(10).withMinute(30), day.withHour(15));
+
+        // Then
+        FreeBusy busy = freeBusy.get(0);
+        assertEquals(attendee1.getUuid(), busy.personId());
+        assertEquals(List.of(
+                new BusyInterval(day.withHour(10).withMinute(30), day.withHour(12)),
+                new BusyInterval(day.withHour(14), day.withHour(15))), busy.busy());
+        assertEquals(day.withHour(10), busy.runsFrom());
+        assertArrayEquals(new int[]{0, 2, 2, 1}, busy.runs());
+
+        FreeBusy free = freeBusy.get(1);
+        assertTrue(free.busy().isEmpty());
+        assertArrayEquals(new int[]{5}, free.runs());
+    }
+
+    @Test
+    void testGetFreeBusy_InvalidArguments_ShouldThrowException() {
+        LocalDateTime from = LocalDateTime.of(2030, 3, 4, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getFreeBusy(List.of(), from, from.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getFreeBusy(List.of(organizer), from, from));
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getFreeBusy(List.of(organizer), from, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> meetingService.getFreeBusy(List.of(organizer), from, from.plusDays(FreeBusy.MAX_WINDOW_DAYS + 1)));
+    }
+
+    @Test
+    void testCreateMeeting_Recurring_ShouldStoreOneSeriesAndBlockEveryOccurrence() {
+        // Given - a 15 minute standup every Monday at 9:00 for five years
+        LocalDateTime monday = LocalDateTime.of(2030, 3, 4, 9, 0);
+        Meeting standup = meetingService.createMeeting("Standup", monday, monday.plusMinutes(15), organizer,
+                Arrays.asList(attendee1), new Recurrence(Recurrence.Frequency.WEEKLY, 1, 260));
+
+        // When / Then - stored once, every occurrence is busy, the minutes around them are not
+        assertEquals(List.of(standup), meetingService.getAllMeetings());
+        assertFalse(meetingService.isTimeSlotAvailable(List.of(attendee1), monday.plusWeeks(200), monday.plusWeeks(200).plusMinutes(5)));
+        assertTrue(meetingService.isTimeSlotAvailable(List.of(attendee1), monday.plusWeeks(260), monday.plusWeeks(260).plusHours(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> meetingService.createMeeting("Clash", monday.plusWeeks(150).minusMinutes(30), attendee1, Arrays.asList(attendee2)));
+        assertNotNull(meetingService.createMeeting("After", monday.plusWeeks(150).plusMinutes(15), attendee1, Arrays.asList(attendee2)));
+
+        // a daily series meets the weekly one on its first Monday, a later start time never does
+        LocalDateTime friday = monday.plusDays(4);
+        IllegalArgumentException clash = assertThrows(IllegalArgumentException.class,
+                () -> meetingService.createMeeting("Daily", friday, friday.plusMinutes(30), attendee1, List.of(attendee2),
+                        new Recurrence(Recurrence.Frequency.DAILY, 1, 5)));
+        assertTrue(clash.getMessage().contains("series"));
+        assertNotNull(meetingService.createMeeting("Daily", friday.plusMinutes(15), friday.plusMinutes(45), attendee1,
+                List.of(attendee2), new Recurrence(Recurrence.Frequency.DAILY, 1, 365)));
+        assertThrows(IllegalArgumentException.class, () -> meetingService.createMeeting("Zero", monday, monday.plusMinutes(15),
+                organizer, List.of(attendee2), new Recurrence(Recurrence.Frequency.WEEKLY, 1, 0)));
+    }
+
+    @Test
+    void testGetUpcomingMeetingsForPerson_Recurring_ShouldExpandOccurrencesInWindow() {
+        // Given - weekly on Monday at 9:00 until the end of March, a one-off on Tuesday
+        LocalDateTime monday = LocalDateTime.of(2030, 3, 4, 9, 0);
+        meetingService.createMeeting("Standup", monday, monday.plusMinutes(15), organizer, Arrays.asList(attendee1),
+                Recurrence.of(Recurrence.Frequency.WEEKLY, null, null, LocalDate.of(2030, 3, 31), monday));
+        meetingService.createMeeting("Review", monday.plusDays(1), organizer, Arrays.asList(attendee1));
+
+        // When
+        List<Meeting> upcoming = meetingService.getUpcomingMeetingsForPerson(attendee1, monday.plusWeeks(2), 10);
+
+        // Then
+        assertEquals(List.of(monday, monday.plusDays(1), monday.plusWeeks(1)),
+                upcoming.stream().map(Meeting::getStartTime).toList());
+        assertEquals(5, meetingService.getUpcomingMeetingsForPerson(attendee1).size());
+        assertEquals(2, meetingService.getUpcomingMeetingsForPerson(attendee1, null, 2).size());
+    }
+
+    @Test
+    void testSuggestAvailableTimeSlots_Recurring_ShouldSkipOccurrences() {
+        // Given - attendee1 is busy 10:00-11:00 every day
+        LocalDateTime day = LocalDateTime.of(2030, 3, 4, 0, 0);
+        meetingService.createMeeting("Focus", day.withHour(10), day.withHour(11), attendee1, List.of(attendee2),
+                new Recurrence(Recurrence.Frequency.DAILY, 1, 1000));
+        LocalDateTime later = day.plusDays(500);
+
+        // When
+        List<LocalDateTime> hourly = meetingService.suggestAvailableTimeSlots(Arrays.asList(organizer, attendee1),
+                later.withHour(9), later.withHour(13), 5);
+        List<LocalDateTime> halfHourly = meetingService.suggestAvailableTimeSlots(Arrays.asList(organizer, attendee1),
+                later.withHour(9), later.withHour(11), 5, Duration.ofMinutes(30));
+        FreeBusy freeBusy = meetingService.getFreeBusy(List.of(attendee2), later, later.plusDays(1)).get(0);
+
+        // Then
+        assertEquals(List.of(later.withHour(9), later.withHour(11), later.withHour(12)), hourly);
+        assertEquals(List.of(later.withHour(9), later.withHour(9).withMinute(30)), halfHourly);
+        assertEquals(List.of(new BusyInterval(later.withHour(10), later.withHour(11))), freeBusy.busy());
+    }
+
+    @Test
+    void testCreateMeetings_OverSizeLimit_ShouldBeRefused() {
+        // Given
+        MeetingProperties properties = new MeetingProperties();
+        properties.getBooking().setMaxMeetingsPerBatch(2);
+        MeetingService service = new MeetingServiceImpl(personService, properties);
+        LocalDateTime start = LocalDateTime.of(2030, 2, 1, 9, 0);
+        List<MeetingRequest> requests = List.of(
+                meetingRequest("Standup", start, organizer, attendee1),
+                meetingRequest("Review", start.plusHours(1), organizer, attendee1),
+                meetingRequest("Sync", start.plusHours(2), organizer, attendee1));
+
+        // When / Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.createMeetings(requests));
+        assertEquals("At most 2 meetings per batch", exception.getMessage());
+        assertTrue(service.getAllMeetings().isEmpty());
+        assertEquals(2, service.createMeetings(requests.subList(0, 2)).size());
+    }
+
+    @Test
+    void testCreateMeetings_RecurringConflictWithinBatch_ShouldCreateNothing() {
+        // Given - a monthly series on the 4th and a one-off on its third occurrence
+        LocalDateTime start = LocalDateTime.of(2030, 3, 4, 9, 0);
+        MeetingRequest monthly = new MeetingRequest("Planning", start, null, organizer.getEmail(), List.of(attendee1.getEmail()),
+                new Recurrence(Recurrence.Frequency.MONTHLY, 1, 12));
+        List<MeetingRequest> requests = List.of(monthly, meetingRequest("Offsite", start.plusMonths(2), attendee2, attendee1));
+
+        // When
+        List<ItemResult<Meeting>> results = meetingService.createMeetings(requests);
+
+        // Then
+        assertTrue(results.get(1).error().contains("item 0"));
+        assertTrue(meetingService.getAllMeetings().isEmpty());
+    }
+
+    @Test
+    void testArchive_ShouldMoveEndedMeetingsToHistory() {
+        // Given
+        LocalDateTime day = LocalDateTime.of(2030, 3, 1, 0, 0);
+        Meeting standup = meetingService.createMeeting("Standup", day.withHour(9), organizer, List.of(attendee1));
+        Meeting review = meetingService.createMeeting("Review", day.withHour(10), organizer, List.of(attendee2));
+        Meeting planning = meetingService.createMeeting("Planning", day.plusDays(1).withHour(9), organizer, List.of(attendee1));
+
+        // When
+        int archived = ((MeetingServiceImpl) meetingService).archive(day.withHour(12));
+
+        // Then - the hot store holds only what has not ended, the rest is still found
+        assertEquals(2, archived);
+        assertEquals(List.of(planning.getUuid()), meetingService.getAllMeetings().stream().map(Meeting::getUuid).toList());
+        Meeting found = meetingService.findById(standup.getUuid()).orElseThrow();
+        assertEquals("Standup", found.getTitle());
+        assertSame(attendee1, found.getAttendees().get(0));
+        Page<Meeting> history = meetingService.getMeetingHistory(null, null, 1);
+        assertEquals(List.of(standup.getUuid()), history.items().stream().map(Meeting::getUuid).toList());
+        assertEquals(List.of(review.getUuid()), meetingService.getMeetingHistory(null, history.nextCursor(), 1)
+                .items().stream().map(Meeting::getUuid).toList());
+        assertEquals(List.of("Review"), meetingService.getMeetingHistory(attendee2.getUuid(), null, 10)
+                .items().stream().map(Meeting::getTitle).toList());
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getMeetingHistory(null, null, 0));
+
+        // and nothing can be booked into the archived period
+        assertThrows(IllegalArgumentException.class,
+                () -> meetingService.createMeeting("Late", day.withHour(11), organizer, List.of(attendee2)));
+        assertFalse(meetingService.isTimeSlotAvailable(List.of(attendee2), day.withHour(11), day.withHour(12)));
+        assertNotNull(meetingService.createMeeting("Afternoon", day.withHour(12), organizer, List.of(attendee2)));
+    }
+
+    @Test
+    void testSubmitMeeting_JournalWriteFails_ShouldUnlinkMeetingBeforeFailing() {
+        // Given - a half-hour meeting already shares the 10:00 hour with the one whose record will be lost
+        HeldJournal journal = new HeldJournal();
+        MeetingService service = new MeetingServiceImpl(personService, new MeetingProperties(), Clock.systemDefaultZone(), journal);
+        LocalDateTime day = LocalDateTime.of(2030, 1, 7, 0, 0);
+        Meeting kept = service.createMeeting("Kept", day.withHour(10), day.withHour(10).plusMinutes(30), organizer, List.of(attendee1));
+        journal.hold = true;
+        CompletableFuture<Meeting> lost = service.submitMeeting("Lost", day.withHour(10).plusMinutes(30), day.withHour(12), organizer, List.of(attendee1));
+        // read-uncommitted - readers and conflict checks see it while its record is in flight
+        assertEquals(2, service.getAllMeetings().size());
+        assertFalse(service.isTimeSlotAvailable(List.of(attendee1), day.withHour(11), day.withHour(12)));
+
+        // When
+        journal.held.forEach(durable -> durable.completeExceptionally(new UncheckedIOException(new IOException("fsync failed"))));
+
+        // Then
+        CompletionException failure = assertThrows(CompletionException.class, lost::join);
+        assertInstanceOf(UncheckedIOException.class, failure.getCause());
+        assertEquals(List.of(kept.getUuid()), service.getAllMeetings().stream().map(Meeting::getUuid).toList());
+        assertEquals(List.of(kept.getUuid()), service.getUpcomingMeetingsForPerson(attendee1, day, null, 10).stream().map(Meeting::getUuid).toList());
+        assertTrue(service.isTimeSlotAvailable(List.of(attendee1), day.withHour(11), day.withHour(12)));
+        assertFalse(service.isTimeSlotAvailable(List.of(attendee1), day.withHour(10), day.withHour(11)));
+        // the hour bitmap kept 10:00, which the surviving meeting covers, and freed 11:00
+        assertEquals(List.of(day.withHour(11), day.withHour(12)),
+                service.suggestAvailableTimeSlots(List.of(organizer, attendee1), day.withHour(10), day.withHour(13), 5));
+        assertEquals(List.of(new BusyInterval(day.withHour(10), day.withHour(10).plusMinutes(30))),
+                service.getFreeBusy(List.of(attendee1), day, day.plusDays(1)).get(0).busy());
+    }
+
+    // acknowledges appends at once until `hold` is set, then keeps their futures for the test to complete
+    private static class HeldJournal implements Journal {
+
+        volatile boolean hold;
+        final List<CompletableFuture<Long>> held = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableFuture<Long> append(JournalRecord record) {
+            if (!hold) {
+                return CompletableFuture.completedFuture(0L);
+            }
+            CompletableFuture<Long> durable = new CompletableFuture<>();
+            held.add(durable);
+            return durable;
+        }
+
+        @Override
+        public CompletableFuture<Long> checkpoint() {
+            return Journal.NONE.checkpoint();
+        }
+
+        @Override
+        public void replay(long from, Consumer<JournalRecord> consumer) {
+        }
+
+        @Override
+        public void truncateBefore(long position) {
+        }
+
+        @Override
+        public long position() {
+            return 0;
+        }
+
+        @Override
+        public long startPosition() {
+            return 0;
+        }
+
+        @Override
+        public void readFrames(long from, Consumer<byte[]> consumer) {
+        }
+
+        @Override
+        public long awaitPosition(long after, long timeoutMillis) {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void testArchive_FreeBusyAndSlotSearch_ShouldAccountForArchivedPeriod() {
+        // Given - a one-off and a series that end before the cutoff, and a meeting right at it
+        LocalDateTime day = LocalDateTime.of(2030, 3, 1, 0, 0);
+        meetingService.createMeeting("Standup", day.withHour(9), organizer, List.of(attendee1));
+        meetingService.createMeeting("Daily", day.minusDays(2).withHour(14), day.minusDays(2).withHour(14).plusMinutes(30),
+                organizer, List.of(attendee1), new Recurrence(Recurrence.Frequency.DAILY, 1, 2));
+        meetingService.createMeeting("Lunch", day.withHour(12), day.withHour(12).plusMinutes(30), organizer, List.of(attendee1));
+
+        // When
+        int archived = ((MeetingServiceImpl) meetingService).archive(day.withHour(12));
+        FreeBusy freeBusy = meetingService.getFreeBusy(List.of(attendee1), day.minusDays(1), day.plusDays(1)).get(0);
+
+        // Then - archived meetings are still busy, in both views
+        assertEquals(2, archived);
+        assertEquals(List.of(
+                new BusyInterval(day.minusDays(1).withHour(14), day.minusDays(1).withHour(14).plusMinutes(30)),
+                new BusyInterval(day.withHour(9), day.withHour(10)),
+                new BusyInterval(day.withHour(12), day.withHour(12).plusMinutes(30))), freeBusy.busy());
+        assertArrayEquals(new int[]{14, 1, 18, 1, 2, 1, 11}, freeBusy.runs());
+        // and slot searches only offer what can still be booked - nothing before the cutoff
+        assertEquals(List.of(day.withHour(13)),
+                meetingService.suggestAvailableTimeSlots(List.of(organizer, attendee1), day.withHour(8), day.withHour(14), 5));
+        assertTrue(meetingService.suggestAvailableTimeSlots(List.of(organizer, attendee1), day.withHour(8), day.withHour(11), 5).isEmpty());
+        assertTrue(meetingService.suggestRankedTimeSlots(List.of(organizer, attendee1), day.withHour(8), day.withHour(16), 5)
+                .stream().allMatch(slot -> !slot.startTime().isBefore(day.withHour(13))));
+        assertTrue(meetingService.suggestQuorumTimeSlots(List.of(organizer), List.of(attendee1), 1, day.withHour(8), day.withHour(16), 5)
+                .stream().allMatch(slot -> !slot.startTime().isBefore(day.withHour(13))));
+    }
+
+    private MeetingRequest meetingRequest(String title, LocalDateTime startTime, Person organizer, Person attendee) {
+        return new MeetingRequest(title, startTime, null, organizer.getEmail(), List.of(attendee.getEmail()), null);
+    }
 }
@@ -1,12 +1,20 @@
 package com.meeting.service;
 
 import com.meeting.entity.Person;
+import com.meeting.persistence.FileJournal;
 import com.meeting.service.impl.PersonServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +27,22 @@ public class PersonServiceTest {
         personService = new PersonServiceImpl();
     }
 
+    @Test
+    void testCreatePerson_JournalFailed_ShouldNotKeepPerson(@TempDir Path directory) throws IOException {
+        // Given - a journal that refuses appends, like one whose fsync has failed
+        FileJournal journal = FileJournal.open(directory, true, 16, 16);
+        journal.close();
+        PersonService service = new PersonServiceImpl(journal);
+
+        // When
+        assertThrows(UncheckedIOException.class, () -> service.createPerson("Lost", "lost@example.com"));
+
+        // Then
+        assertTrue(service.findByEmail("lost@example.com").isEmpty());
+        assertTrue(service.getAllPersons().isEmpty());
+        assertTrue(service.getPersonsPage(null, 10).items().isEmpty());
+    }
+
     @Test
     void testCreatePerson_ValidInput_ShouldCreatePerson() {
         // Given
@@ -303,4 +327,74 @@ public class PersonServiceTest {
         assertNotSame(persons1, persons2);
         assertEquals(persons1.size(), persons2.size());
     }
+
+    @Test
+    void testGetPersonsPage_ShouldReturnEveryPersonOnce() {
+        // Given
+        for (int i = 0; i < 25; i++) {
+            personService.createPerson("Person " + i, "person" + i + "@example.com");
+        }
+
+        // When
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Page<Person> page = personService.getPersonsPage(cursor, 10);
+            page.items().forEach(person -> assertTrue(seen.add(person.getUuid())));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertEquals(25, seen.size());
+        assertEquals(3, pages);
+        assertThrows(IllegalArgumentException.class, () -> personService.getPersonsPage(null, 0));
+    }
+
+    @Test
+    void testCreatePersons_ShouldReturnResultPerRow() {
+        // Given
+        personService.createPerson("Existing", "existing@example.com");
+        List<PersonRequest> rows = Arrays.asList(
+                new PersonRequest(" Ann ", " ANN@EXAMPLE.COM "),
+                new PersonRequest("Existing Again", "existing@example.com"),
+                new PersonRequest("", "blank@example.com"),
+                new PersonRequest("Ann Twin", "ann@example.com"),
+                null,
+                new PersonRequest("Ben", "ben@example.com"));
+
+        // When
+        List<ItemResult<Person>> results = personService.createPersons(rows);
+
+        // Then
+        assertEquals(6, results.size());
+        assertTrue(results.get(0).succeeded());
+        assertEquals("ann@example.com", results.get(0).value().getEmail());
+        assertEquals("Ann", results.get(0).value().getName());
+        assertEquals("Person with email existing@example.com already exists", results.get(1).error());
+        assertEquals("Name cannot be null or empty", results.get(2).error());
+        assertEquals("Person with email ann@example.com already exists", results.get(3).error());
+        assertEquals("Row cannot be null", results.get(4).error());
+        assertTrue(results.get(5).succeeded());
+        assertEquals(3, personService.getAllPersons().size());
+        assertEquals(results.get(5).value(), personService.findByEmail("ben@example.com").orElseThrow());
+    }
+
+    @Test
+    void testCreatePersons_LargeBatch_ShouldCreateAll() {
+        // Given
+        List<PersonRequest> rows = new java.util.ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(new PersonRequest("Person " + i, "person" + i + "@example.com"));
+        }
+
+        // When
+        List<ItemResult<Person>> results = personService.createPersons(rows);
+
+        // Then
+        assertTrue(results.stream().allMatch(ItemResult::succeeded));
+        assertEquals(5000, personService.getAllPersons().size());
+        assertEquals(4999, results.get(4999).index());
+    }
 }
@@ -0,0 +1,156 @@
+package com.meeting.service.impl;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.persistence.FileJournal;
+import com.meeting.persistence.Journal;
+import com.meeting.service.MeetingRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JournalRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRestart_ShouldRebuildPersonsAndMeetingsFromJournal() throws IOException {
+        // Given - a first run that creates persons, a meeting and a batch, then a rejected create
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        Meeting single;
+        try (Journal journal = FileJournal.open(directory, true, 1024, 256)) {
+            PersonServiceImpl personService = new PersonServiceImpl(journal);
+            MeetingServiceImpl meetingService = newMeetingService(personService, journal);
+            Person alice = personService.createPerson("Alice", "alice@example.com");
+            Person bob = personService.createPerson("Bob", "bob@example.com");
+            single = meetingService.createMeeting("Standup", start, alice, List.of(bob));
+            meetingService.createMeetings(List.of(
+                    new MeetingRequest("Review", start.plusHours(1), null, "alice@example.com", List.of("bob@example.com"), null),
+                    new MeetingRequest("Retro", start.plusHours(2), null, "bob@example.com", List.of("alice@example.com"), null)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> meetingService.createMeeting("Clash", start, bob, List.of(alice)));
+            meetingService.shutdown();
+        }
+
+        // When - a second run replays the journal into empty services
+        try (Journal journal = FileJournal.open(directory, true, 1024, 256)) {
+            PersonServiceImpl personService = new PersonServiceImpl(journal);
+            MeetingServiceImpl meetingService = newMeetingService(personService, journal);
+            new JournalRecovery(new MeetingProperties(), journal, personService, meetingService).afterSingletonsInstantiated();
+
+            // Then
+            Person alice = personService.findByEmail("alice@example.com").orElseThrow();
+            assertEquals(2, personService.getAllPersons().size());
+            assertEquals(List.of("Standup", "Review", "Retro"),
+                    meetingService.getAllMeetings().stream().map(Meeting::getTitle).toList());
+            Meeting restored = meetingService.findById(single.getUuid()).orElseThrow();
+            assertEquals(start, restored.getStartTime());
+            assertSame(alice, restored.getOrganizer());
+            assertFalse(meetingService.isTimeSlotAvailable(List.of(alice), start.plusHours(2)));
+
+            // and the restored run keeps journaling
+            personService.createPerson("Carol", "carol@example.com");
+            meetingService.shutdown();
+        }
+        try (Journal journal = FileJournal.open(directory, true, 1024, 256)) {
+            PersonServiceImpl personService = new PersonServiceImpl(journal);
+            new JournalRecovery(new MeetingProperties(), journal, personService, newMeetingService(personService, journal)).afterSingletonsInstantiated();
+            assertTrue(personService.emailExists("carol@example.com"));
+        }
+    }
+
+    private static MeetingServiceImpl newMeetingService(PersonServiceImpl personService, Journal journal) {
+        return new MeetingServiceImpl(personService, new MeetingProperties(), Clock.systemDefaultZone(), journal);
+    }
+
+    @Test
+    void testRestart_WithSnapshot_ShouldLoadSnapshotAndReplayOnlyTheTail() throws IOException {
+        // Given - a snapshot in the middle of the run, then more creates
+        MeetingProperties properties = new MeetingProperties();
+        properties.getJournal().setEnabled(true);
+        properties.getSnapshot().setEnabled(true);
+        properties.getSnapshot().setDirectory(directory.resolve("snapshot").toString());
+        Path journalDirectory = directory.resolve("journal");
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        try (Journal journal = FileJournal.open(journalDirectory, true, 1024, 256)) {
+            PersonServiceImpl personService = new PersonServiceImpl(journal);
+            MeetingServiceImpl meetingService = newMeetingService(personService, journal);
+            SnapshotWriter snapshots = new SnapshotWriter(properties, journal, personService, meetingService);
+            Person alice = personService.createPerson("Alice", "alice@example.com");
+            Person bob = personService.createPerson("Bob", "bob@example.com");
+            for (int hour = 0; hour < 5; hour++) {
+                meetingService.createMeeting("Before " + hour, start.plusHours(hour), alice, List.of(bob));
+            }
+            snapshots.writeSnapshot();
+            Person carol = personService.createPerson("Carol", "carol@example.com");
+            meetingService.createMeeting("After", start.plusHours(10), carol, List.of(alice));
+            // a second snapshot lets the journal before the first one go; the tail keeps growing after it
+            snapshots.writeSnapshot();
+            meetingService.createMeeting("Tail", start.plusHours(11), bob, List.of(carol));
+            meetingService.shutdown();
+        }
+
+        // When
+        try (Journal journal = FileJournal.open(journalDirectory, true, 1024, 256)) {
+            PersonServiceImpl personService = new PersonServiceImpl(journal);
+            MeetingServiceImpl meetingService = newMeetingService(personService, journal);
+            new JournalRecovery(properties, journal, personService, meetingService).afterSingletonsInstantiated();
+
+            // Then
+            assertEquals(3, personService.getAllPersons().size());
+            assertEquals(List.of("Before 0", "Before 1", "Before 2", "Before 3", "Before 4", "After", "Tail"),
+                    meetingService.getAllMeetings().stream().map(Meeting::getTitle).toList());
+            Person carol = personService.findByEmail("carol@example.com").orElseThrow();
+            assertEquals(List.of("After", "Tail"), meetingService.getUpcomingMeetingsForPerson(carol, null, 10)
+                    .stream().map(Meeting::getTitle).toList());
+            assertFalse(meetingService.isTimeSlotAvailable(List.of(carol), start.plusHours(11)));
+            meetingService.shutdown();
+        }
+    }
+
+    @Test
+    void testRestart_WithArchivedMeetings_ShouldKeepThemInTheSnapshot() throws IOException {
+        // Given - meetings archived before two snapshots, so the journal that created them is trimmed
+        MeetingProperties properties = new MeetingProperties();
+        properties.getSnapshot().setDirectory(directory.resolve("snapshot").toString());
+        Path journalDirectory = directory.resolve("journal");
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        Meeting archived;
+        try (Journal journal = FileJournal.open(journalDirectory, true, 1024, 256)) {
+            PersonServiceImpl personService = new PersonServiceImpl(journal);
+            MeetingServiceImpl meetingService = newMeetingService(personService, journal);
+            SnapshotWriter snapshots = new SnapshotWriter(properties, journal, personService, meetingService);
+            Person alice = personService.createPerson("Alice", "alice@example.com");
+            Person bob = personService.createPerson("Bob", "bob@example.com");
+            archived = meetingService.createMeeting("Past", start, alice, List.of(bob));
+            meetingService.createMeeting("Future", start.plusDays(1), bob, List.of(alice));
+            assertEquals(1, meetingService.archive(start.plusHours(2)));
+            snapshots.writeSnapshot();
+            snapshots.writeSnapshot();
+            meetingService.shutdown();
+        }
+
+        // When
+        properties.getSnapshot().setEnabled(true);
+        try (Journal journal = FileJournal.open(journalDirectory, true, 1024, 256)) {
+            PersonServiceImpl personService = new PersonServiceImpl(journal);
+            MeetingServiceImpl meetingService = newMeetingService(personService, journal);
+            new JournalRecovery(properties, journal, personService, meetingService).afterSingletonsInstantiated();
+
+            // Then - back in the hot store until the next sweep moves it again
+            assertEquals(List.of("Past", "Future"), meetingService.getAllMeetings().stream().map(Meeting::getTitle).toList());
+            assertEquals(1, meetingService.archive(start.plusHours(2)));
+            assertEquals("Past", meetingService.findById(archived.getUuid()).orElseThrow().getTitle());
+            meetingService.shutdown();
+        }
+    }
+}
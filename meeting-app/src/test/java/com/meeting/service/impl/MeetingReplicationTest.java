@@ -0,0 +1,103 @@
+package com.meeting.service.impl;
+
+import com.meeting.config.MeetingProperties;
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.metrics.SchedulingMetrics;
+import com.meeting.persistence.FileJournal;
+import com.meeting.persistence.Journal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeetingReplicationTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReplica_ShouldStartFromSnapshotAndFollowTheJournal() throws Exception {
+        // Given - a primary with a snapshot and a journal tail after it
+        MeetingProperties primaryProperties = new MeetingProperties();
+        primaryProperties.getJournal().setEnabled(true);
+        primaryProperties.getSnapshot().setEnabled(true);
+        primaryProperties.getSnapshot().setDirectory(directory.resolve("snapshot").toString());
+        primaryProperties.getReplication().setRole(MeetingProperties.ReplicationRole.PRIMARY);
+        primaryProperties.getReplication().setPort(freePort());
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        try (Journal journal = FileJournal.open(directory.resolve("journal"), true, 1024, 256)) {
+            PersonServiceImpl primaryPersons = new PersonServiceImpl(journal);
+            MeetingServiceImpl primaryMeetings = newMeetingService(primaryPersons, primaryProperties, journal);
+            Person alice = primaryPersons.createPerson("Alice", "alice@example.com");
+            Person bob = primaryPersons.createPerson("Bob", "bob@example.com");
+            primaryMeetings.createMeeting("Before", start, alice, List.of(bob));
+            new SnapshotWriter(primaryProperties, journal, primaryPersons, primaryMeetings).writeSnapshot();
+            Person carol = primaryPersons.createPerson("Carol", "carol@example.com");
+            primaryMeetings.createMeeting("After", start.plusHours(1), carol, List.of(alice));
+            MeetingReplication primary = newReplication(primaryProperties, journal, primaryPersons, primaryMeetings);
+
+            MeetingProperties replicaProperties = new MeetingProperties();
+            replicaProperties.getReplication().setRole(MeetingProperties.ReplicationRole.REPLICA);
+            replicaProperties.getReplication().setPrimaryPort(primaryProperties.getReplication().getPort());
+            replicaProperties.getReplication().setReconnectDelay(Duration.ofMillis(50));
+            PersonServiceImpl replicaPersons = new PersonServiceImpl();
+            MeetingServiceImpl replicaMeetings = newMeetingService(replicaPersons, replicaProperties, Journal.NONE);
+            MeetingReplication replica = newReplication(replicaProperties, Journal.NONE, replicaPersons, replicaMeetings);
+            try {
+                // When
+                await(() -> replicaMeetings.getAllMeetings().size() == 2 && replica.staleness() != null);
+                primaryMeetings.createMeeting("Live", start.plusHours(2), bob, List.of(carol));
+                await(() -> replicaMeetings.getAllMeetings().size() == 3);
+
+                // Then
+                assertEquals(3, replicaPersons.getAllPersons().size());
+                assertEquals(List.of("Before", "After", "Live"), replicaMeetings.getAllMeetings().stream().map(Meeting::getTitle).toList());
+                Person replicaCarol = replicaPersons.findByEmail("carol@example.com").orElseThrow();
+                assertFalse(replicaMeetings.isTimeSlotAvailable(List.of(replicaCarol), start.plusHours(2)));
+                assertTrue(replica.staleness().compareTo(replicaProperties.getReplication().getMaxStaleness()) < 0);
+                assertNull(primary.staleness());
+            } finally {
+                replica.stop();
+                primary.stop();
+                replicaMeetings.shutdown();
+                primaryMeetings.shutdown();
+            }
+        }
+    }
+
+    private MeetingServiceImpl newMeetingService(PersonServiceImpl personService, MeetingProperties properties, Journal journal) {
+        return new MeetingServiceImpl(personService, properties, Clock.systemDefaultZone(), journal);
+    }
+
+    private static MeetingReplication newReplication(MeetingProperties properties, Journal journal, PersonServiceImpl personService,
+                                                     MeetingServiceImpl meetingService) throws IOException {
+        MeetingReplication replication = new MeetingReplication(properties, journal, personService, meetingService,
+                SchedulingMetrics.NONE, Clock.systemDefaultZone());
+        replication.start();
+        return replication;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Replica did not catch up");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.util.Utility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BusyCalendarTest {
+
+    private BusyCalendar busyCalendar;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    void setUp() {
+        busyCalendar = new BusyCalendar();
+        alice = new Person("Alice", "alice@example.com");
+        bob = new Person("Bob", "bob@example.com");
+    }
+
+    @Test
+    void testFindFreeHours_SkipsHoursBusyForAnyParticipant() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 9, 0);
+        busyCalendar.markBusy(new Meeting("A", start, alice, List.of(alice)));
+        busyCalendar.markBusy(new Meeting("B", start.plusHours(1), bob, List.of(bob)));
+        long fromHour = Utility.toEpochHour(start);
+
+        // When
+        List<Long> freeHours = busyCalendar.findFreeHours(Arrays.asList(alice, bob), fromHour, fromHour + 5, 10);
+
+        // Then
+        assertEquals(List.of(fromHour + 2, fromHour + 3, fromHour + 4), freeHours);
+    }
+
+    @Test
+    void testFindFreeHours_AcrossWordAndPageBoundaries() {
+        // Given - every hour busy except one just past a word boundary and one past a page boundary
+        long pageHours = 64L * HourBitmap.WORDS_PER_PAGE;
+        long fromHour = pageHours * 500 - 70;
+        long toHour = pageHours * 500 + 70;
+        long freeInWord = fromHour + 7;
+        long freeInPage = pageHours * 500 + 1;
+        LocalDateTime current = Utility.fromEpochHour(fromHour);
+        for (long hour = fromHour; hour < toHour; hour++, current = current.plusHours(1)) {
+            if (hour != freeInWord && hour != freeInPage) {
+                busyCalendar.markBusy(new Meeting("Busy", current, alice, List.of(bob)));
+            }
+        }
+
+        // When
+        List<Long> freeHours = busyCalendar.findFreeHours(List.of(bob), fromHour, toHour, 10);
+
+        // Then
+        assertEquals(List.of(freeInWord, freeInPage), freeHours);
+        assertEquals(2, busyCalendar.bitmap(bob.getUuid()).allocatedPages());
+    }
+
+    @Test
+    void testFindFreeHours_RespectsLimitAndEmptyWindow() {
+        long fromHour = Utility.toEpochHour(LocalDateTime.of(2025, 3, 10, 0, 0));
+
+        assertEquals(3, busyCalendar.findFreeHours(List.of(alice), fromHour, fromHour + 24 * 31, 3).size());
+        assertTrue(busyCalendar.findFreeHours(List.of(alice), fromHour, fromHour, 3).isEmpty());
+        assertTrue(busyCalendar.findFreeHours(List.of(alice), fromHour, fromHour + 5, 0).isEmpty());
+    }
+
+    @Test
+    void testFindFreeHours_MultiHourSlots_ShouldNeedFreeRunAcrossWords() {
+        // Given - alice is busy at hour 3 and hour 66 of a word-aligned window, bob at hour 60
+        long fromHour = 64L * 300_000;
+        for (long busy : List.of(fromHour + 3, fromHour + 66)) {
+            busyCalendar.markBusy(new Meeting("A", Utility.fromEpochHour(busy), alice, List.of(alice)));
+        }
+        busyCalendar.markBusy(new Meeting("B", Utility.fromEpochHour(fromHour + 60), bob, List.of(bob)));
+
+        // When - three-hour slots starting in the first word only
+        List<Long> freeHours = busyCalendar.findFreeHours(List.of(alice, bob), fromHour, fromHour + 64, 3, 100);
+
+        // Then - no run touches hours 3 or 60; the run from 63 reaches into the next word, up to 66
+        List<Long> expected = new ArrayList<>();
+        for (long hour = fromHour; hour < fromHour + 64; hour++) {
+            long offset = hour - fromHour;
+            if ((offset < 1 || offset > 3) && (offset < 58 || offset > 60)) {
+                expected.add(hour);
+            }
+        }
+        assertEquals(expected, freeHours);
+    }
+
+    @Test
+    void testFindQuorumHours_CountsOptionalAndRequiresRequired() {
+        // Given - five optional persons, busy at hour 0: 3 of them, hour 1: 1, hour 2: none;
+        // the required person is busy at hour 2
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 9, 0);
+        List<Person> optional = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            optional.add(new Person("Optional " + i, "optional" + i + "@example.com"));
+        }
+        for (int i = 0; i < 3; i++) {
+            busyCalendar.markBusy(new Meeting("A", start, optional.get(i), List.of(optional.get(i))));
+        }
+        busyCalendar.markBusy(new Meeting("B", start.plusHours(1), optional.get(4), List.of(optional.get(4))));
+        busyCalendar.markBusy(new Meeting("C", start.plusHours(2), alice, List.of(alice)));
+        long fromHour = Utility.toEpochHour(start);
+
+        // When
+        List<BusyCalendar.QuorumHour> fourFree = busyCalendar.findQuorumHours(List.of(alice), optional, 4, fromHour, fromHour + 4, 10);
+        List<BusyCalendar.QuorumHour> twoFree = busyCalendar.findQuorumHours(List.of(), optional, 2, fromHour, fromHour + 4, 10);
+
+        // Then
+        assertEquals(List.of(new BusyCalendar.QuorumHour(fromHour + 1, 4), new BusyCalendar.QuorumHour(fromHour + 3, 5)), fourFree);
+        assertEquals(List.of(fromHour, fromHour + 1, fromHour + 2, fromHour + 3),
+                twoFree.stream().map(BusyCalendar.QuorumHour::hour).toList());
+        assertEquals(2, twoFree.get(0).optionalFree());
+        assertTrue(busyCalendar.findQuorumHours(List.of(), optional, 6, fromHour, fromHour + 4, 10).isEmpty());
+    }
+
+    @Test
+    void testAtMost_ComparesEveryHourOfBitSlicedCounts() {
+        // Given - counts 0..15 in hours 0..15
+        long[] counters = new long[4];
+        for (int hour = 0; hour < 16; hour++) {
+            for (int i = 0; i < 4; i++) {
+                if ((hour >>> i & 1) != 0) {
+                    counters[i] |= 1L << hour;
+                }
+            }
+        }
+
+        // Then
+        for (int limit = 0; limit < 16; limit++) {
+            assertEquals((1L << (limit + 1)) - 1, BusyCalendar.atMost(counters, limit) & 0xFFFF);
+        }
+        assertEquals(-1L, BusyCalendar.atMost(counters, 16));
+    }
+
+    @Test
+    void testBusyRuns_AcrossWordBoundary() {
+        // Given - busy for three hours either side of a word boundary and at the last hour of the window
+        long boundary = 64L * 300_000;
+        LocalDateTime current = Utility.fromEpochHour(boundary - 3);
+        for (int i = 0; i < 6; i++, current = current.plusHours(1)) {
+            busyCalendar.markBusy(new Meeting("Busy", current, alice, List.of(bob)));
+        }
+        busyCalendar.markBusy(new Meeting("Late", Utility.fromEpochHour(boundary + 99), alice, List.of(bob)));
+
+        // When
+        int[] runs = busyCalendar.busyRuns(bob.getUuid(), boundary - 100, boundary + 100);
+
+        // Then
+        assertArrayEquals(new int[]{97, 6, 96, 1}, runs);
+        assertArrayEquals(new int[]{200}, busyCalendar.busyRuns("nobody", boundary - 100, boundary + 100));
+        assertArrayEquals(new int[]{0, 6}, busyCalendar.busyRuns(bob.getUuid(), boundary - 3, boundary + 3));
+    }
+
+    @Test
+    void testToEpochHourCeil_RoundsUpPastHourMark() {
+        LocalDateTime onHour = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+        assertEquals(Utility.toEpochHour(onHour), Utility.toEpochHourCeil(onHour));
+        assertEquals(Utility.toEpochHour(onHour) + 1, Utility.toEpochHourCeil(onHour.plusNanos(1)));
+        assertEquals(onHour, Utility.fromEpochHour(Utility.toEpochHour(onHour.plusMinutes(59))));
+    }
+}
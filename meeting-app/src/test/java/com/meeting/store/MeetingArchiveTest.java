@@ -0,0 +1,109 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeetingArchiveTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private Person alice;
+    private Person bob;
+    private Person carol;
+    private MeetingArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        alice = new Person("Alice", "alice@example.com");
+        bob = new Person("Bob", "bob@example.com");
+        carol = new Person("Carol", "carol@example.com");
+        Map<String, Person> persons = Stream.of(alice, bob, carol).collect(Collectors.toMap(Person::getUuid, Function.identity()));
+        archive = new MeetingArchive(persons::get);
+    }
+
+    @Test
+    void testFindById_ShouldDecodeEveryFieldAfterCompaction() {
+        // Given - more sweeps than segments are kept, the last one with a series
+        List<Meeting> archived = new ArrayList<>();
+        for (int sweep = 0; sweep <= MeetingArchive.MAX_SEGMENTS; sweep++) {
+            List<Meeting> meetings = List.of(
+                    new Meeting("Sweep " + sweep, START.plusDays(sweep), START.plusDays(sweep).plusMinutes(25), alice, List.of(bob)),
+                    new Meeting("Café " + sweep, START.plusDays(sweep).plusHours(2), START.plusDays(sweep).plusHours(3), bob, List.of(carol, alice)));
+            archive.append(meetings);
+            archived.addAll(meetings);
+        }
+        Meeting series = new Meeting("Weekly", START.minusWeeks(10), START.minusWeeks(10).plusMinutes(30), carol, List.of(bob),
+                new Recurrence(Recurrence.Frequency.WEEKLY, 2, 5));
+        archive.append(List.of(series));
+        archived.add(series);
+
+        // Then
+        assertTrue(archive.segmentCount() < MeetingArchive.MAX_SEGMENTS);
+        assertEquals(archived.size(), archive.size());
+        for (Meeting meeting : archived) {
+            Meeting found = archive.findById(meeting.getUuid()).orElseThrow();
+            assertEquals(meeting.getTitle(), found.getTitle());
+            assertEquals(meeting.getStartTime(), found.getStartTime());
+            assertEquals(meeting.getEndTime(), found.getEndTime());
+            assertSame(meeting.getOrganizer(), found.getOrganizer());
+            assertEquals(meeting.getAttendees(), found.getAttendees());
+            assertEquals(meeting.getRecurrence(), found.getRecurrence());
+        }
+        assertTrue(archive.findById(UUID.randomUUID().toString()).isEmpty());
+        assertTrue(archive.findById("not-a-uuid").isEmpty());
+        assertEquals(archived.stream().map(Meeting::getUuid).toList(), archive.meetings().stream().map(Meeting::getUuid).toList());
+    }
+
+    @Test
+    void testHistory_ShouldPageOnePersonsMeetingsAcrossSegments() {
+        // Given - carol is in every third meeting, spread over several sweeps
+        List<String> carolsMeetings = new ArrayList<>();
+        for (int sweep = 0; sweep < 5; sweep++) {
+            List<Meeting> meetings = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                int n = sweep * 7 + i;
+                List<Person> attendees = n % 3 == 0 ? List.of(bob, carol) : List.of(bob);
+                Meeting meeting = new Meeting("Meeting " + n, START.plusHours(n), alice, attendees);
+                meetings.add(meeting);
+                if (n % 3 == 0) {
+                    carolsMeetings.add(meeting.getUuid());
+                }
+            }
+            archive.append(meetings);
+        }
+
+        // When - pages of 4
+        List<String> paged = new ArrayList<>();
+        long from = 0;
+        int pages = 0;
+        while (from >= 0) {
+            MeetingArchive.History history = archive.history(carol.getUuid(), from, 4);
+            history.meetings().forEach(meeting -> paged.add(meeting.getUuid()));
+            from = history.nextOrdinal();
+            pages++;
+        }
+
+        // Then
+        assertEquals(carolsMeetings, paged);
+        assertEquals(3, pages);
+        MeetingArchive.History everyone = archive.history(null, 30, 10);
+        assertEquals(List.of("Meeting 30", "Meeting 31", "Meeting 32", "Meeting 33", "Meeting 34"),
+                everyone.meetings().stream().map(Meeting::getTitle).toList());
+        assertEquals(-1, everyone.nextOrdinal());
+        assertTrue(archive.history(UUID.randomUUID().toString(), 0, 10).meetings().isEmpty());
+    }
+}
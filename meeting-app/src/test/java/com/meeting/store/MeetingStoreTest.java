@@ -0,0 +1,201 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.util.Utility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeetingStoreTest {
+
+    private MeetingStore store;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    void setUp() {
+        store = new MeetingStore();
+        alice = new Person("Alice", "alice@example.com");
+        bob = new Person("Bob", "bob@example.com");
+    }
+
+    private Meeting meetingAt(int hourOffset) {
+        return new Meeting("Meeting " + hourOffset, LocalDateTime.of(2030, 1, 1, 0, 0).plusHours(hourOffset), alice, List.of(bob));
+    }
+
+    @Test
+    void testOverlapping_VariableDurations_ShouldReturnOnlyIntersectingMeetings() {
+        // Given - 9:00-9:15, 9:15-10:45 and 11:00-12:00
+        LocalDateTime day = LocalDateTime.of(2030, 1, 1, 0, 0);
+        store.add(new Meeting("Short", day.withHour(9), day.withHour(9).withMinute(15), alice, List.of(bob)));
+        store.add(new Meeting("Long", day.withHour(9).withMinute(15), day.withHour(10).withMinute(45), alice, List.of(bob)));
+        store.add(new Meeting("Hour", day.withHour(11), day.withHour(12), alice, List.of(bob)));
+
+        // When
+        List<MeetingEntry> overlapping = store.personIndex().overlapping(bob.getUuid(), day.withHour(10), day.withHour(11).withMinute(30));
+
+        // Then
+        assertEquals(List.of("Long", "Hour"), overlapping.stream().map(entry -> entry.getMeeting().getTitle()).toList());
+        assertTrue(store.personIndex().overlapping(bob.getUuid(), day.withHour(10).withMinute(45), day.withHour(11)).isEmpty());
+        assertTrue(store.personIndex().hasConflict(List.of(bob), day.withHour(9).withMinute(10), day.withHour(9).withMinute(20)));
+        assertFalse(store.personIndex().hasConflict(List.of(alice), day.withHour(10).withMinute(45), day.withHour(11)));
+    }
+
+    @Test
+    void testSnapshot_IsUnaffectedByLaterWrites() {
+        // Given - enough meetings to span several chunks
+        for (int i = 0; i < 5000; i++) {
+            store.add(meetingAt(i));
+        }
+        MeetingSnapshot before = store.snapshot();
+        List<Meeting> view = before.meetings();
+
+        // When
+        for (int i = 5000; i < 10000; i++) {
+            store.add(meetingAt(i));
+        }
+
+        // Then
+        assertEquals(5000, before.size());
+        assertEquals(5000, view.size());
+        assertEquals("Meeting 4999", view.get(4999).getTitle());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(5000));
+        assertEquals(10000, store.snapshot().size());
+        assertEquals(10000, store.snapshot().version());
+        assertEquals("Meeting 9999", store.snapshot().meetings().get(9999).getTitle());
+    }
+
+    @Test
+    void testFindById_OnlyReturnsPublishedMeetings() {
+        // Given
+        Meeting meeting = meetingAt(1);
+        MeetingEntry entry = store.add(meeting);
+
+        // Then
+        assertEquals(1, entry.getVersion());
+        assertTrue(store.snapshot().isVisible(entry));
+        assertSame(meeting, store.findById(meeting.getUuid()).orElseThrow());
+        assertFalse(store.findById("unknown").isPresent());
+        assertFalse(MeetingSnapshot.EMPTY.isVisible(entry));
+        assertFalse(MeetingSnapshot.EMPTY.isVisible(new MeetingEntry(meetingAt(2))));
+    }
+
+    @Test
+    void testSnapshot_ConcurrentReadersNeverSeeTornState() throws Exception {
+        // Given
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < 20000; i++) {
+                store.add(meetingAt(i));
+            }
+            writing.set(false);
+        });
+
+        // When - readers iterate full snapshots while the writer keeps appending
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            readers.add(executor.submit(() -> {
+                long lastVersion = 0;
+                while (writing.get()) {
+                    MeetingSnapshot snapshot = store.snapshot();
+                    assertTrue(snapshot.version() >= lastVersion);
+                    lastVersion = snapshot.version();
+                    int count = 0;
+                    for (Meeting meeting : snapshot.meetings()) {
+                        assertNotNull(meeting);
+                        count++;
+                    }
+                    assertEquals(snapshot.size(), count);
+                }
+                return null;
+            }));
+        }
+
+        // Then
+        writer.get(30, TimeUnit.SECONDS);
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(20000, store.snapshot().size());
+    }
+
+    @Test
+    void testLoad_ShouldIndexAndPublishInListOrder() {
+        // Given
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            meetings.add(meetingAt(i));
+        }
+
+        // When
+        store.load(meetings);
+        store.add(meetingAt(20_000));
+
+        // Then
+        MeetingSnapshot snapshot = store.snapshot();
+        assertEquals(10_001, snapshot.size());
+        assertEquals(10_001, snapshot.version());
+        assertEquals(1, snapshot.versionAt(0));
+        assertSame(meetings.get(4_096), snapshot.get(4_096));
+        assertEquals(meetings.get(123), store.findById(meetings.get(123).getUuid()).orElseThrow());
+        assertTrue(store.personIndex().hasConflict(List.of(bob), meetings.get(9_999).getStartTime(), meetings.get(9_999).getEndTime()));
+        assertTrue(store.busyCalendar().bitmap(alice.getUuid()).get(Utility.toEpochHour(meetings.get(5).getStartTime())));
+        assertThrows(IllegalStateException.class, () -> store.load(meetings));
+    }
+
+    @Test
+    void testExpire_ShouldDropEndedMeetingsFromEveryIndex() {
+        // Given - 10 000 hourly meetings and a daily series that ends within the first week
+        for (int i = 0; i < 10_000; i++) {
+            store.add(meetingAt(i));
+        }
+        LocalDateTime first = meetingAt(0).getStartTime();
+        Meeting series = new Meeting("Daily", first.plusMinutes(30), first.plusMinutes(45), bob, List.of(alice),
+                new Recurrence(Recurrence.Frequency.DAILY, 1, 5));
+        store.add(series);
+        long versionBefore = store.snapshot().version();
+        int pagesBefore = store.busyCalendar().bitmap(alice.getUuid()).allocatedPages();
+        LocalDateTime cutoff = first.plusHours(5000);
+        List<Meeting> sunk = new ArrayList<>();
+
+        // When
+        List<Meeting> expired = store.expire(cutoff, meetings -> {
+            // still reachable in the hot store while the sink takes them
+            assertTrue(store.findById(meetings.get(0).getUuid()).isPresent());
+            sunk.addAll(meetings);
+        });
+
+        // Then
+        assertEquals(5001, expired.size());
+        assertEquals(expired, sunk);
+        MeetingSnapshot snapshot = store.snapshot();
+        assertEquals(5000, snapshot.size());
+        assertEquals(versionBefore, snapshot.version());
+        assertEquals(5001, snapshot.versionAt(0));
+        assertEquals(0, snapshot.indexAfterVersion(5000));
+        assertTrue(store.findById(expired.get(0).getUuid()).isEmpty());
+        assertEquals(cutoff, store.findById(snapshot.get(0).getUuid()).orElseThrow().getStartTime());
+        assertFalse(store.personIndex().hasConflict(List.of(alice), first, cutoff));
+        assertTrue(store.personIndex().series(alice.getUuid()).isEmpty());
+        HourBitmap bitmap = store.busyCalendar().bitmap(alice.getUuid());
+        assertFalse(bitmap.get(Utility.toEpochHour(first)));
+        assertTrue(bitmap.get(Utility.toEpochHour(cutoff)));
+        assertTrue(bitmap.allocatedPages() < pagesBefore);
+
+        // and the store keeps publishing after the cut
+        store.add(meetingAt(20_000));
+        assertEquals(versionBefore + 1, store.snapshot().version());
+        assertEquals(5001, store.snapshot().size());
+    }
+}
@@ -0,0 +1,119 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.entity.Recurrence;
+import com.meeting.util.Utility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecurringSeriesTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 3, 4, 0, 0);
+
+    private Person alice;
+
+    @BeforeEach
+    void setUp() {
+        alice = new Person("Alice", "alice@example.com");
+    }
+
+    @Test
+    void testFirstEndingAfter_ShouldFindOccurrenceWithoutExpanding() {
+        // Given - a 15 minute standup every Monday at 9:00 for five years
+        RecurringSeries series = series(MONDAY.withHour(9), 15, Recurrence.Frequency.WEEKLY, 1, 260);
+        long minute = Utility.toEpochMinute(MONDAY.plusWeeks(100).withHour(9).withMinute(10));
+
+        // When
+        int k = series.firstEndingAfter(minute);
+
+        // Then
+        assertEquals(100, k);
+        assertTrue(series.overlaps(minute, minute + 1));
+        assertFalse(series.overlaps(minute + 5, minute + 60));
+        assertEquals(260, series.firstEndingAfter(series.lastEnd()));
+        assertEquals(MONDAY.plusWeeks(259).withHour(9), series.occurrence(259).getStartTime());
+    }
+
+    @Test
+    void testOverlaps_ShouldMatchExpandedOccurrences() {
+        // Given - random pairs of daily, weekly and monthly series
+        Random random = new Random(11);
+        Recurrence.Frequency[] frequencies = Recurrence.Frequency.values();
+        int overlapping = 0;
+        for (int pair = 0; pair < 2000; pair++) {
+            RecurringSeries first = randomSeries(random, frequencies);
+            RecurringSeries second = randomSeries(random, frequencies);
+
+            // When
+            boolean overlaps = first.overlaps(second);
+
+            // Then
+            assertEquals(expandedOverlap(first, second), overlaps, "pair " + pair);
+            assertEquals(overlaps, second.overlaps(first), "pair " + pair);
+            overlapping += overlaps ? 1 : 0;
+        }
+        assertTrue(overlapping > 100 && overlapping < 1900, "both outcomes are exercised: " + overlapping);
+    }
+
+    @Test
+    void testHourWord_ShouldMarkEveryHourAnOccurrenceTouches() {
+        // Given - 90 minutes at 10:30 every other day
+        RecurringSeries series = series(MONDAY.withHour(10).withMinute(30), 90, Recurrence.Frequency.DAILY, 2, 40);
+        long firstWord = Utility.toEpochHour(MONDAY) >> 6;
+
+        for (long wordIndex = firstWord - 1; wordIndex < firstWord + 32; wordIndex++) {
+            // When
+            long word = series.hourWord(wordIndex);
+
+            // Then
+            for (int bit = 0; bit < 64; bit++) {
+                long fromMinute = ((wordIndex << 6) + bit) * 60;
+                assertEquals(series.overlaps(fromMinute, fromMinute + 60), (word & (1L << bit)) != 0);
+            }
+        }
+    }
+
+    @Test
+    void testMonthlySeries_ShouldKeepDayOfMonth() {
+        // Given
+        RecurringSeries series = series(LocalDateTime.of(2030, 1, 28, 14, 0), 60, Recurrence.Frequency.MONTHLY, 1, 24);
+
+        // Then
+        assertEquals(LocalDateTime.of(2030, 2, 28, 14, 0), series.occurrence(1).getStartTime());
+        assertEquals(LocalDateTime.of(2031, 12, 28, 14, 0), series.occurrence(23).getStartTime());
+        assertEquals(13, series.firstEndingAfter(Utility.toEpochMinute(LocalDateTime.of(2031, 2, 1, 0, 0))));
+        assertThrows(IllegalArgumentException.class, () -> new Meeting("Month end", LocalDateTime.of(2030, 1, 31, 9, 0),
+                LocalDateTime.of(2030, 1, 31, 10, 0), alice, List.of(), new Recurrence(Recurrence.Frequency.MONTHLY, 1, 12)));
+    }
+
+    private RecurringSeries randomSeries(Random random, Recurrence.Frequency[] frequencies) {
+        Recurrence.Frequency frequency = frequencies[random.nextInt(frequencies.length)];
+        // days 1 to 28, so monthly series are valid too
+        LocalDateTime start = LocalDateTime.of(2030, 3 + random.nextInt(2), 1 + random.nextInt(28), 0, 0).plusMinutes(15L * random.nextInt(96));
+        int duration = 15 * (1 + random.nextInt(frequency == Recurrence.Frequency.DAILY ? 8 : 96));
+        return series(start, duration, frequency, 1 + random.nextInt(3), 1 + random.nextInt(40));
+    }
+
+    private RecurringSeries series(LocalDateTime start, int minutes, Recurrence.Frequency frequency, int interval, int count) {
+        return new RecurringSeries(new Meeting("Series", start, start.plusMinutes(minutes), alice, List.of(),
+                new Recurrence(frequency, interval, count)));
+    }
+
+    private static boolean expandedOverlap(RecurringSeries first, RecurringSeries second) {
+        for (int i = 0; i < first.count(); i++) {
+            for (int j = 0; j < second.count(); j++) {
+                if (first.start(i) < second.end(j) && second.start(j) < first.end(i)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.util.Utility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlotRankerTest {
+
+    private static final SlotRanker.Preferences PREFERENCES = new SlotRanker.Preferences(9, 17, 10, 16, 2, 1.0, 0.5, 0.5);
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 3, 4, 0, 0);
+
+    private BusyCalendar busyCalendar;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    void setUp() {
+        busyCalendar = new BusyCalendar();
+        alice = new Person("Alice", "alice@example.com");
+        bob = new Person("Bob", "bob@example.com");
+    }
+
+    @Test
+    void testRank_EmptyCalendar_ShouldPreferPreferredHoursOnWeekdays() {
+        // Given - the window runs from Saturday to Monday night
+        SlotRanker ranker = new SlotRanker(busyCalendar, PREFERENCES, 1024);
+        long fromHour = Utility.toEpochHour(MONDAY.minusDays(2));
+
+        // When
+        List<SlotRanker.RankedHour> ranked = ranker.rank(List.of(alice, bob), fromHour, fromHour + 72, 3);
+
+        // Then - Monday 10, 11 and 12 with full marks, not Saturday midnight
+        assertEquals(List.of(hour(MONDAY.withHour(10)), hour(MONDAY.withHour(11)), hour(MONDAY.withHour(12))),
+                ranked.stream().map(SlotRanker.RankedHour::hour).toList());
+        assertEquals(1.0, ranked.get(0).score(), 1e-9);
+    }
+
+    @Test
+    void testRank_ShouldPenaliseBackToBackAndStrandedGaps() {
+        // Given - alice meets at 10 and 14
+        busyCalendar.markBusy(new Meeting("Ten", MONDAY.withHour(10), alice, List.of(alice)));
+        busyCalendar.markBusy(new Meeting("Two", MONDAY.withHour(14), alice, List.of(alice)));
+        SlotRanker ranker = new SlotRanker(busyCalendar, PREFERENCES, 1024);
+        long fromHour = hour(MONDAY.withHour(9));
+
+        // When
+        List<SlotRanker.RankedHour> ranked = ranker.rank(List.of(alice), fromHour, fromHour + 8, 10);
+
+        // Then - 11 and 13 are back-to-back on one side only, 12 strands an hour on both sides
+        assertEquals(List.of(hour(MONDAY.withHour(11)), hour(MONDAY.withHour(13)), hour(MONDAY.withHour(12)),
+                        hour(MONDAY.withHour(15)), hour(MONDAY.withHour(9)), hour(MONDAY.withHour(16))),
+                ranked.stream().map(SlotRanker.RankedHour::hour).toList());
+        assertEquals(0.875, ranked.get(0).score(), 1e-9);
+        assertEquals(0.75, ranked.get(2).score(), 1e-9);
+    }
+
+    @Test
+    void testRank_ParallelChunks_ShouldMatchSingleChunk() {
+        // Given - a random calendar over twelve weeks
+        Random random = new Random(7);
+        for (int h = 0; h < 24 * 84; h++) {
+            if (random.nextInt(3) == 0) {
+                busyCalendar.markBusy(new Meeting("Busy", MONDAY.plusHours(h), random.nextBoolean() ? alice : bob, List.of()));
+            }
+        }
+        long fromHour = hour(MONDAY);
+        long toHour = fromHour + 24 * 84;
+
+        // When
+        List<SlotRanker.RankedHour> chunked = new SlotRanker(busyCalendar, PREFERENCES, 64).rank(List.of(alice, bob), fromHour, toHour, 20);
+        List<SlotRanker.RankedHour> whole = new SlotRanker(busyCalendar, PREFERENCES, 4096).rank(List.of(alice, bob), fromHour, toHour, 20);
+
+        // Then
+        assertEquals(20, whole.size());
+        assertEquals(whole, chunked);
+    }
+
+    @Test
+    void testPreferences_InvalidHours_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new SlotRanker.Preferences(9, 17, 8, 16, 2, 1.0, 0.5, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new SlotRanker.Preferences(9, 17, 10, 16, 0, 1.0, 0.5, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new SlotRanker.Preferences(9, 17, 10, 16, 2, 0, 0, 0));
+    }
+
+    private static long hour(LocalDateTime time) {
+        return Utility.toEpochHour(time);
+    }
+}
@@ -0,0 +1,96 @@
+package com.meeting.store;
+
+import com.meeting.entity.Meeting;
+import com.meeting.entity.Person;
+import com.meeting.util.Utility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SuggestionCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    private BusyCalendar busyCalendar;
+    private Person alice;
+    private Person bob;
+    private Person carol;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        busyCalendar = new BusyCalendar();
+        alice = new Person("Alice", "alice@example.com");
+        bob = new Person("Bob", "bob@example.com");
+        carol = new Person("Carol", "carol@example.com");
+        searches = new AtomicInteger();
+    }
+
+    private SuggestionCache.Result search(SuggestionCache cache, List<Person> persons) {
+        long fromHour = Utility.toEpochHour(START);
+        return cache.get(SuggestionCache.Key.of(persons, fromHour, fromHour + 8, 60, 3), () -> {
+            searches.incrementAndGet();
+            return busyCalendar.findFreeHours(persons, fromHour, fromHour + 8, 3);
+        });
+    }
+
+    @Test
+    void testGet_SameParticipantsInAnyOrder_ShouldServeCachedResult() {
+        // Given
+        SuggestionCache cache = new SuggestionCache(busyCalendar, 100, 1 << 20);
+        SuggestionCache.Result first = search(cache, List.of(alice, bob));
+
+        // When
+        SuggestionCache.Result second = search(cache, List.of(bob, alice));
+
+        // Then
+        assertFalse(first.cached());
+        assertTrue(second.cached());
+        assertEquals(first.slots(), second.slots());
+        assertEquals(1, searches.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void testGet_ParticipantBooked_ShouldInvalidateOnlyTheirEntries() {
+        // Given
+        SuggestionCache cache = new SuggestionCache(busyCalendar, 100, 1 << 20);
+        search(cache, List.of(alice, bob));
+        search(cache, List.of(carol));
+
+        // When - alice gets a meeting at the first free hour
+        busyCalendar.markBusy(new Meeting("Busy", START, alice, List.of(alice)));
+        SuggestionCache.Result aliceAndBob = search(cache, List.of(alice, bob));
+        SuggestionCache.Result carolOnly = search(cache, List.of(carol));
+
+        // Then
+        assertFalse(aliceAndBob.cached());
+        assertEquals(Utility.toEpochHour(START) + 1, aliceAndBob.slots().get(0));
+        assertTrue(carolOnly.cached());
+        assertEquals(1, cache.staleHits());
+    }
+
+    @Test
+    void testGet_OverEntryBound_ShouldEvictLeastRecentlyUsed() {
+        // Given - one segment's worth of entries per segment
+        SuggestionCache cache = new SuggestionCache(busyCalendar, 16, 1 << 20);
+        long fromHour = Utility.toEpochHour(START);
+
+        // When - 100 distinct windows
+        for (int i = 0; i < 100; i++) {
+            long from = fromHour + i;
+            cache.get(SuggestionCache.Key.of(List.of(alice), from, from + 8, 60, 3), () -> List.of(from));
+        }
+
+        // Then
+        assertTrue(cache.size() <= 16, "size " + cache.size());
+        assertEquals(100 - cache.size(), cache.evictions());
+        assertTrue(cache.estimatedBytes() > 0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.meeting.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+// Offline analyzer: prints a latency table per operation and outcome for the meeting events of a
+// .jfr recording. Run with ./gradlew jfrSummary -Pjfr=<recording.jfr>
+public final class JfrSummary {
+
+    private static final String EVENT_PREFIX = "com.meeting.";
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrSummary <recording.jfr>");
+            System.exit(2);
+        }
+        System.out.print(summarize(Path.of(args[0])));
+    }
+
+    public static String summarize(Path recording) throws IOException {
+        // operation -> outcome -> durations and the work done per call
+        Map<String, Map<String, Row>> rows = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(EVENT_PREFIX)) {
+                    continue;
+                }
+                String outcome = event.hasField("outcome") && event.getString("outcome") != null ? event.getString("outcome") : "-";
+                rows.computeIfAbsent(name.substring(EVENT_PREFIX.length()), operation -> new TreeMap<>())
+                        .computeIfAbsent(outcome, ignored -> new Row())
+                        .add(event);
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        String format = "%-16s %-10s %8s %10s %10s %10s %10s %8s %10s%n";
+        out.append(String.format(format, "operation", "outcome", "count", "p50 ms", "p90 ms", "p99 ms", "max ms", "avg ppl", "avg work"));
+        rows.forEach((operation, outcomes) -> outcomes.forEach((outcome, row) -> {
+            long[] durations = row.sortedDurations();
+            out.append(String.format(format, operation, outcome, durations.length,
+                    millis(percentile(durations, 0.50)), millis(percentile(durations, 0.90)),
+                    millis(percentile(durations, 0.99)), millis(durations[durations.length - 1]),
+                    String.format("%.1f", row.participants / (double) durations.length),
+                    String.format("%.1f", row.work / (double) durations.length)));
+        }));
+        return out.toString();
+    }
+
+    // nearest rank on the sorted durations
+    static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    private static final class Row {
+        private long[] durations = new long[16];
+        private int count;
+        private long participants;
+        // meetings scanned, or candidate hours for a slot search
+        private long work;
+
+        private void add(RecordedEvent event) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = event.getDuration().toNanos();
+            participants += event.hasField("participants") ? event.getInt("participants") : 0;
+            if (event.hasField("meetingsScanned")) {
+                work += event.getInt("meetingsScanned");
+            } else if (event.hasField("candidateHours")) {
+                work += event.getLong("candidateHours");
+            }
+        }
+
+        private long[] sortedDurations() {
+            long[] sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}